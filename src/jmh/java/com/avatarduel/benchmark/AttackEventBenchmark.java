@@ -0,0 +1,80 @@
+package com.avatarduel.benchmark;
+
+import com.avatarduel.event.AttackEvent;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.card.CharacterCard;
+import com.avatarduel.model.card.CharacterCardInField;
+import com.avatarduel.model.card.SkillAuraCard;
+import com.avatarduel.model.player_component.Field;
+import com.avatarduel.model.type.CharacterState;
+import com.avatarduel.model.type.Element;
+import com.avatarduel.model.type.Phase;
+import com.avatarduel.model.type.PlayerType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the whole AttackEvent, from finding the characters to removing the loser.
+ *
+ * attackBlocked measures an attack on a stronger defender, so nothing is removed.
+ * attackDestroys measures an attack that removes the defender and its skill card.
+ * Every call undoes its attack with the UndoRecord of the event, so the next call starts from the same game
+ * without a setup per invocation, and the time of both includes the undo.
+ * @author G10-K03-CardGameOOP
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AttackEventBenchmark {
+    private static final int attackerId = 900;
+    private static final int strongId = 901;
+    private static final int weakId = 902;
+    private static final int auraId = 903;
+
+    private Game game;
+    private CharacterCardInField attacker;
+    private AttackEvent blocked;
+    private AttackEvent destroys;
+
+    @Setup
+    public void setup() {
+        game = new Game();
+        game.setCurrentTurn(3);
+        game.setCurrentPhase(Phase.BATTLE);
+
+        attacker = new CharacterCardInField(new CharacterCard(attackerId, "attacker", Element.FIRE, "", "", 5, 5, 1), CharacterState.ATTACK, 1, 0);
+        game.getPlayerByType(PlayerType.A).getField().addCharacterCard(attacker);
+        CharacterCard strongCard = new CharacterCard(strongId, "strong", Element.WATER, "", "", 1, 9, 1);
+        game.getPlayerByType(PlayerType.B).getField().addCharacterCard(new CharacterCardInField(strongCard, CharacterState.DEFENSE, 1, 0));
+
+        CharacterCard weakCard = new CharacterCard(weakId, "weak", Element.AIR, "", "", 1, 1, 1);
+        SkillAuraCard aura = new SkillAuraCard(auraId, "aura", Element.AIR, "", "", 1, 1, 1);
+        CharacterCardInField weak = new CharacterCardInField(weakCard, CharacterState.DEFENSE, 1, 1);
+        weak.pair(aura);
+        game.getPlayerByType(PlayerType.B).getField().addCharacterCard(weak);
+        game.getPlayerByType(PlayerType.B).getField().addSkillCard(aura, 0, 1);
+        Field field = game.getPlayerByType(PlayerType.B).getField();
+        field.setPairedCharacter(field.getSkillCardByID(aura.getId()), weak);
+
+        blocked = new AttackEvent(attackerId, strongId, PlayerType.A, PlayerType.B);
+        destroys = new AttackEvent(attackerId, weakId, PlayerType.A, PlayerType.B);
+    }
+
+    @Benchmark
+    public Game attackBlocked() throws InvalidOperationException {
+        game.executeUndoable(blocked).undo();
+        return game;
+    }
+
+    @Benchmark
+    public Game attackDestroys() throws InvalidOperationException {
+        game.executeUndoable(destroys).undo();
+        return game;
+    }
+}
@@ -0,0 +1,38 @@
+package com.avatarduel.benchmark;
+
+import com.avatarduel.model.card.*;
+import com.avatarduel.model.type.CharacterState;
+import com.avatarduel.model.type.Element;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for reading the stats of a character with skill cards attached,
+ * which is done on every attack and every render.
+ * @author G10-K03-CardGameOOP
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CharacterCardInFieldBenchmark {
+    private CharacterCardInField character;
+
+    @Setup
+    public void setup() {
+        CharacterCard card = new CharacterCard(100, "character", Element.FIRE, "", "", 5, 5, 1);
+        character = new CharacterCardInField(card, CharacterState.ATTACK, 1, 0);
+        character.pair(new SkillAuraCard(101, "aura 1", Element.FIRE, "", "", 1, 2, 1));
+        character.pair(new SkillAuraCard(102, "aura 2", Element.WATER, "", "", 1, -1, 3));
+        character.pair(new SkillPowerUpCard(103, "power up", Element.AIR, "", "", "1"));
+    }
+
+    @Benchmark
+    public int getCurrentTotal() {
+        return character.getCurrentTotal();
+    }
+}
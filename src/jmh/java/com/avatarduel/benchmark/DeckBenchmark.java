@@ -0,0 +1,45 @@
+package com.avatarduel.benchmark;
+
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.player_component.Deck;
+import com.avatarduel.model.type.PlayerType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for building a full deck, which is done twice for every game,
+ * and for copying and drawing a whole deck, which is done by AI search.
+ * @author G10-K03-CardGameOOP
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DeckBenchmark {
+
+    private Deck deck;
+
+    @Setup
+    public void setup() {
+        deck = new Deck(60, PlayerType.A);
+    }
+
+    @Benchmark
+    public Deck createDeck() {
+        return new Deck(60, PlayerType.A);
+    }
+
+    @Benchmark
+    public Card copyAndDrawAll() {
+        Deck copy = deck.copy();
+        Card card = null;
+        while (!copy.isEmpty()) {
+            card = copy.draw();
+        }
+        return card;
+    }
+}
@@ -0,0 +1,58 @@
+package com.avatarduel.benchmark;
+
+import com.avatarduel.model.card.CharacterCard;
+import com.avatarduel.model.card.CharacterCardInField;
+import com.avatarduel.model.player_component.Field;
+import com.avatarduel.model.type.CharacterState;
+import com.avatarduel.model.type.Element;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for looking up and removing characters in a full field.
+ * @author G10-K03-CardGameOOP
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FieldBenchmark {
+    private static final int fieldSize = 6;
+
+    private Field field;
+    private CharacterCardInField[] characters;
+
+    @Setup
+    public void setup() {
+        field = new Field(fieldSize);
+        characters = new CharacterCardInField[fieldSize];
+        for (int i = 0; i < fieldSize; i++) {
+            CharacterCard card = new CharacterCard(100 + i, "character " + i, Element.values()[i % 5], "", "", i, i, 1);
+            characters[i] = new CharacterCardInField(card, CharacterState.ATTACK, 1, i);
+            field.addCharacterCard(characters[i]);
+        }
+    }
+
+    /**
+     * look up the last character, the worst case for a linear search
+     */
+    @Benchmark
+    public CharacterCardInField getCharacterCardByID() {
+        return field.getCharacterCardByID(100 + fieldSize - 1);
+    }
+
+    /**
+     * remove a character then put it back, so the field stays full
+     */
+    @Benchmark
+    public Field removeCharacterCard() {
+        CharacterCardInField removed = characters[fieldSize / 2];
+        field.removeCharacterCard(removed);
+        field.addCharacterCard(removed);
+        return field;
+    }
+}
@@ -0,0 +1,47 @@
+package com.avatarduel.benchmark;
+
+import com.avatarduel.model.player_component.PowerManager;
+import com.avatarduel.model.type.Element;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for spending power, which is checked before every card is played.
+ * The element changes on every call so the branches can not be predicted.
+ * @author G10-K03-CardGameOOP
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PowerManagerBenchmark {
+    private static final Element[] elements = Element.values();
+
+    private PowerManager power;
+    private int next;
+
+    @Setup
+    public void setup() {
+        power = new PowerManager();
+        for (Element element : elements) {
+            power.add(element, 10);
+        }
+        next = 0;
+    }
+
+    /**
+     * reduce the power of one element, then restore it so the next call succeeds again
+     */
+    @Benchmark
+    public boolean reduce() {
+        Element element = elements[next];
+        next = (next + 1 == elements.length) ? 0 : next + 1;
+        boolean reduced = power.reduce(element, 1);
+        power.setCurrent(element, 10);
+        return reduced;
+    }
+}
@@ -0,0 +1,42 @@
+package com.avatarduel.ai;
+
+import com.avatarduel.event.IEvent;
+import com.avatarduel.model.Game;
+import com.avatarduel.simulation.IPolicy;
+
+/**
+ * AlphaBetaPolicy is a computer player that picks every move with AlphaBetaSearch.
+ *
+ * IMPORTANT NOTE:
+ * It plays the same moves in the same states, so matches against it can be played again in tests.
+ * It searches on the calling thread and keeps a small table, so many of them can play at once on one machine.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class AlphaBetaPolicy implements IPolicy {
+    public static final long defaultTimeBudgetMillis = 100;
+    public static final int defaultDepthLimit = 32;
+
+    private AlphaBetaSearch search;
+
+    public AlphaBetaPolicy() {
+        this(defaultTimeBudgetMillis, defaultDepthLimit, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param timeBudgetMillis maximum time for one move
+     * @param depthLimit maximum number of actions searched
+     * @param nodeBudget maximum number of states searched for one move
+     */
+    public AlphaBetaPolicy(long timeBudgetMillis, int depthLimit, long nodeBudget) {
+        this.search = new AlphaBetaSearch(timeBudgetMillis, depthLimit, nodeBudget);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IEvent nextAction(Game game) {
+        return search.search(game);
+    }
+}
@@ -0,0 +1,265 @@
+package com.avatarduel.ai;
+
+import com.avatarduel.event.EventRecord;
+import com.avatarduel.event.IEvent;
+import com.avatarduel.event.MoveGenerator;
+import com.avatarduel.event.UndoRecord;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.GameState;
+import com.avatarduel.model.card.CharacterCardInField;
+import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.type.Element;
+import com.avatarduel.model.type.PlayerType;
+
+import java.util.List;
+
+/**
+ * AlphaBetaSearch chooses a move for the current player with alpha-beta search and iterative deepening.
+ *
+ * IMPORTANT NOTE:
+ * Every action is one ply. The search looks at the rest of the turn of the current player and the reply of the
+ * opponent, the states after the turn of the opponent are scored without searching further.
+ * Scores are seen from player A, so player A maximizes and player B minimizes, whoever plays the next action.
+ * Moves are undone with the UndoRecord of the event instead of copying the game.
+ * Moves are tried in order of expected damage, from the current total of the characters, after the best move
+ * of the last iteration kept in the TranspositionTable.
+ * The search uses no random, so with the same state and the same node budget it always picks the same move.
+ * The time budget is hard : an iteration that runs out of time is thrown away and the move of the last
+ * finished iteration is played.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class AlphaBetaSearch {
+    private static final int winScore = 1_000_000;
+    private static final int tableSize = 1 << 14;
+    /**
+     * number of nodes between two checks of the clock
+     */
+    private static final int clockInterval = 256;
+
+    private final long timeBudgetMillis;
+    private final int depthLimit;
+    private final long nodeBudget;
+    private final TranspositionTable table;
+
+    // state of the running search
+    private Game game;
+    private int lastTurn;
+    private long deadline;
+    private long nodes;
+    private boolean aborted;
+    private int rootBest;
+    private int completedDepth;
+
+    /**
+     * @param timeBudgetMillis maximum time for one search
+     * @param depthLimit maximum number of actions searched
+     * @param nodeBudget maximum number of states searched, for searches that must be reproducible
+     */
+    public AlphaBetaSearch(long timeBudgetMillis, int depthLimit, long nodeBudget) {
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.depthLimit = depthLimit;
+        this.nodeBudget = nodeBudget;
+        this.table = new TranspositionTable(tableSize);
+    }
+
+    /**
+     * search the best move of the current player
+     * @param root the game, it is not changed
+     * @return the best move of the deepest finished iteration
+     */
+    public IEvent search(Game root) {
+        game = GameState.of(root).toGame();
+        List<IEvent> moves = MoveGenerator.generate(game);
+        if (moves.size() == 1) {
+            return moves.get(0);
+        }
+
+        table.clear(); // scores depend on the turn the search stops at
+        lastTurn = game.getCurrentTurn() + 1;
+        deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+        nodes = 0;
+        aborted = false;
+        completedDepth = 0;
+        int best = order(game, moves, -1)[0];
+        for (int depth = 1; depth <= depthLimit; depth++) {
+            int score = alphaBeta(depth, 0, -winScore - 1, winScore + 1);
+            if (aborted) {
+                break;
+            }
+            best = rootBest;
+            completedDepth = depth;
+            if (Math.abs(score) >= winScore - depthLimit) {
+                break; // a win or a loss is already certain
+            }
+        }
+        game = null;
+        return moves.get(best);
+    }
+
+    /**
+     * @return depth of the last finished iteration of the last search
+     */
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    /**
+     * @return number of states searched by the last search
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    private int alphaBeta(int depth, int ply, int alpha, int beta) {
+        nodes++;
+        if (nodes > nodeBudget || (nodes % clockInterval == 0 && System.nanoTime() > deadline)) {
+            aborted = true;
+            return 0;
+        }
+        PlayerType winner = MonteCarloTreeSearch.getWinner(game);
+        if (winner != null) {
+            // a quicker win is better, a slower loss is better
+            return (winner == PlayerType.A) ? winScore - ply : -winScore + ply;
+        }
+        if (depth == 0 || game.getCurrentTurn() > lastTurn) {
+            return evaluate(game);
+        }
+
+        long key = game.getHash();
+        long entry = table.probe(key);
+        int tableMove = -1;
+        if (entry != TranspositionTable.MISS) {
+            tableMove = TranspositionTable.getMove(entry);
+            if (ply > 0 && TranspositionTable.getDepth(entry) >= depth) {
+                int score = TranspositionTable.getScore(entry);
+                int bound = TranspositionTable.getBound(entry);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+                        || (bound == TranspositionTable.UPPER_BOUND && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        List<IEvent> moves = MoveGenerator.generate(game);
+        boolean maximizing = game.getCurrentPlayer() == PlayerType.A;
+        int alphaStart = alpha;
+        int betaStart = beta;
+        int best = maximizing ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        int bestMove = -1;
+        for (int i : order(game, moves, tableMove)) {
+            UndoRecord record;
+            try {
+                record = game.executeUndoable(moves.get(i));
+            } catch (InvalidOperationException e) {
+                continue;
+            }
+            int score = alphaBeta(depth - 1, ply + 1, alpha, beta);
+            record.undo();
+            if (aborted) {
+                return 0;
+            }
+            if (maximizing ? score > best : score < best) {
+                best = score;
+                bestMove = i;
+            }
+            if (maximizing) {
+                alpha = Math.max(alpha, score);
+            } else {
+                beta = Math.min(beta, score);
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+        if (bestMove < 0) {
+            return evaluate(game);
+        }
+
+        int bound = (best <= alphaStart) ? TranspositionTable.UPPER_BOUND
+                : (best >= betaStart) ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+        table.store(key, best, depth, bound, bestMove);
+        if (ply == 0) {
+            rootBest = bestMove;
+        }
+        return best;
+    }
+
+    /**
+     * @return indexes of the moves, the move of the table first, then by expected damage, keeping the order of equal moves
+     */
+    static int[] order(Game game, List<IEvent> moves, int tableMove) {
+        int[] order = new int[moves.size()];
+        int[] priority = new int[moves.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+            priority[i] = (i == tableMove) ? Integer.MAX_VALUE : expectedDamage(game, moves.get(i));
+        }
+        // insertion sort, the lists are short and it keeps equal moves in order
+        for (int i = 1; i < order.length; i++) {
+            int move = order[i];
+            int j = i - 1;
+            for (; j >= 0 && priority[order[j]] < priority[move]; j--) {
+                order[j + 1] = order[j];
+            }
+            order[j + 1] = move;
+        }
+        return order;
+    }
+
+    /**
+     * @return damage the move is expected to do, 0 for moves that do not attack and -1 for moves that end the turn or phase
+     */
+    static int expectedDamage(Game game, IEvent move) {
+        EventRecord record = move.toRecord();
+        Player player = game.getPlayerByType(game.getCurrentPlayer());
+        Player opponent = game.getPlayerByType(game.getCurrentOpponent());
+        switch (record.getType()) {
+            case DIRECT_ATTACK: {
+                CharacterCardInField attacker = player.getCharacterCardByID(record.getCard());
+                return (attacker == null) ? 0 : attacker.getCurrentTotal();
+            }
+            case ATTACK: {
+                CharacterCardInField attacker = player.getCharacterCardByID(record.getCard());
+                CharacterCardInField defender = opponent.getCharacterCardByID(record.getTarget());
+                if (attacker == null || defender == null) {
+                    return 0;
+                }
+                int diff = attacker.getCurrentTotal() - defender.getCurrentTotal();
+                // a won attack destroys the defender too
+                return (diff >= 0) ? diff + defender.getCurrentTotal() : diff;
+            }
+            case ACTIVATE_DESTROY: {
+                CharacterCardInField target = opponent.getCharacterCardByID(record.getTarget());
+                return (target == null) ? 0 : target.getCurrentTotal();
+            }
+            case NEXT_PHASE:
+            case END_TURN:
+                return -1;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * score a game that is not over yet
+     * @param game the game
+     * @return strength of player A minus strength of player B
+     */
+    static int evaluate(Game game) {
+        return strength(game.getPlayerByType(PlayerType.A)) - strength(game.getPlayerByType(PlayerType.B));
+    }
+
+    private static int strength(Player player) {
+        int strength = 2 * player.getHealthPoint();
+        for (CharacterCardInField character : player.getField().getCharCardList()) {
+            strength += character.getCurrentTotal();
+        }
+        for (Element element : Element.values()) {
+            strength += player.getPower().getTotal(element);
+        }
+        return strength;
+    }
+}
@@ -0,0 +1,237 @@
+package com.avatarduel.ai;
+
+import com.avatarduel.dao.CardCatalog;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.GameState;
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.player_component.Deck;
+import com.avatarduel.model.player_component.DeckComposition;
+import com.avatarduel.model.player_component.DeckList;
+import com.avatarduel.model.player_component.IDeckSource;
+import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.type.PlayerType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * BeliefModel keeps what a player knows about the cards it can not see : the hand and the deck of the opponent,
+ * and the order of its own deck.
+ *
+ * IMPORTANT NOTE:
+ * The cards the opponent may still hold are split in groups, with the number of cards left in every group.
+ * For a DeckList every different card is a group with its number of copies, so the model knows exactly which cards are left.
+ * For a DeckComposition the character, land and skill cards are three groups, and every card of the elements
+ * of the composition has the same chance in its group.
+ * update only reads the cards the opponent played since the last update, every played card leaves its group.
+ * Played cards are compared by id, so the model can be updated from a new copy of the game every turn.
+ * sample makes one guess that agrees with everything the player has seen : the hidden cards of the opponent are
+ * drawn from the groups without putting them back, and the own deck is shuffled. It only changes the packed
+ * GameState, so a guess costs two array copies and one or two random numbers for every hidden card.
+ * A guess keeps the card ids of the game, and Game.getHash only sees the ids and the deck size, so every guess of
+ * one state has the same Game.getHash. Anything kept for a guess must be keyed by GameState.hash of the guess,
+ * which sees the guessed cards.
+ * sample does not change the model, so the workers of a search can sample at the same time, each with its own random.
+ * @author G10-K03-CardGameOOP
+ */
+
+public final class BeliefModel {
+    private final PlayerType observer;
+    private final PlayerType opponent;
+    /**
+     * candidates[g] are the catalog indexes of the cards of group g
+     */
+    private final int[][] candidates;
+    /**
+     * groupOf[catalog index] is the group of the card, -1 if the card can not be in the deck
+     */
+    private final int[] groupOf;
+    /**
+     * group of every card of the deck of the opponent at the start of the game
+     */
+    private final int[] initialPool;
+    /**
+     * group of every card the opponent may still hold, the first poolSize are used
+     */
+    private final int[] pool;
+    private int poolSize;
+    private final List<Card> revealed;
+
+    // seen by the last update
+    private int handSize;
+    private int deckSize;
+    private int[] ownDeck;
+
+    /**
+     * @param observer the player using the model
+     * @param opponentDeck source of the deck of the opponent
+     * @throws IllegalArgumentException if the deck source is not a DeckList or a DeckComposition
+     */
+    public BeliefModel(PlayerType observer, IDeckSource opponentDeck) {
+        this.observer = observer;
+        this.opponent = (observer == PlayerType.A) ? PlayerType.B : PlayerType.A;
+        CardCatalog catalog = CardCatalog.getInstance();
+        this.groupOf = new int[catalog.getAllCard().size()];
+        Arrays.fill(groupOf, -1);
+
+        List<int[]> groups = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        if (opponentDeck instanceof DeckList) {
+            Map<Integer, Integer> copies = new LinkedHashMap<>();
+            for (Card card : ((DeckList) opponentDeck).getCards()) {
+                copies.merge(catalog.getCatalogIndex(card), 1, Integer::sum);
+            }
+            copies.forEach((index, count) -> {
+                groups.add(new int[] {index});
+                counts.add(count);
+            });
+        } else if (opponentDeck instanceof DeckComposition) {
+            DeckComposition composition = (DeckComposition) opponentDeck;
+            groups.add(filter(catalog.getAllCharacterCard(), composition));
+            counts.add(composition.getCharacterCount());
+            groups.add(filter(catalog.getAllLandCard(), composition));
+            counts.add(composition.getLandCount());
+            groups.add(filter(catalog.getAllSkillCard(), composition));
+            counts.add(composition.getSkillCount());
+        } else {
+            throw new IllegalArgumentException("Unknown deck source : " + opponentDeck);
+        }
+
+        this.candidates = groups.toArray(new int[0][]);
+        int size = 0;
+        for (int g = 0; g < candidates.length; g++) {
+            for (int index : candidates[g]) {
+                groupOf[index] = g;
+            }
+            size += counts.get(g);
+        }
+        this.initialPool = new int[size];
+        for (int g = 0, i = 0; g < candidates.length; g++) {
+            for (int c = 0; c < counts.get(g); c++) {
+                initialPool[i++] = g;
+            }
+        }
+        this.pool = initialPool.clone();
+        this.poolSize = size;
+        this.revealed = new ArrayList<>();
+        this.ownDeck = new int[0];
+    }
+
+    private static int[] filter(List<Card> cards, DeckComposition composition) {
+        CardCatalog catalog = CardCatalog.getInstance();
+        return cards.stream()
+                .filter(card -> composition.getElements().contains(card.getElement()))
+                .mapToInt(catalog::getCatalogIndex)
+                .toArray();
+    }
+
+    public PlayerType getObserver() {
+        return observer;
+    }
+
+    /**
+     * read what changed in the game since the last update
+     * @param game the game, seen by the observer
+     */
+    public void update(Game game) {
+        Player player = game.getPlayerByType(opponent);
+        List<Card> played = player.getPlayedCards();
+        int same = 0;
+        while (same < revealed.size() && same < played.size() && revealed.get(same).getId() == played.get(same).getId()) {
+            same++;
+        }
+        if (same < revealed.size()) {
+            // moves were undone, start again from the deck
+            System.arraycopy(initialPool, 0, pool, 0, initialPool.length);
+            poolSize = initialPool.length;
+            revealed.clear();
+            same = 0;
+        }
+        for (int i = same; i < played.size(); i++) {
+            reveal(played.get(i));
+        }
+        handSize = player.getHand().size();
+        deckSize = player.getDeck().size();
+
+        Deck deck = game.getPlayerByType(observer).getDeck();
+        CardCatalog catalog = CardCatalog.getInstance();
+        ownDeck = new int[deck.size()];
+        for (int i = 0; i < ownDeck.length; i++) {
+            ownDeck[i] = catalog.getCatalogIndex(deck.get(i));
+        }
+    }
+
+    private void reveal(Card card) {
+        revealed.add(card);
+        int index = CardCatalog.getInstance().getCatalogIndex(card);
+        int group = (index < 0) ? -1 : groupOf[index];
+        for (int i = 0; i < poolSize; i++) {
+            if (pool[i] == group) {
+                pool[i] = pool[--poolSize];
+                return;
+            }
+        }
+        // a card the model thought was not left, the pool is kept as it is
+    }
+
+    /**
+     * @param card a card from the catalog or a clone of it
+     * @return number of cards left in the group of the card, the copies of the card for a DeckList
+     */
+    public int remaining(Card card) {
+        int index = CardCatalog.getInstance().getCatalogIndex(card);
+        int group = (index < 0) ? -1 : groupOf[index];
+        int count = 0;
+        for (int i = 0; i < poolSize; i++) {
+            if (pool[i] == group) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * guess the hidden cards
+     * @param root state of the game at the last update
+     * @param random random of the caller
+     * @return the state with the hand and deck of the opponent guessed and the own deck shuffled
+     */
+    public GameState sample(GameState root, SplittableRandom random) {
+        int[] groups = Arrays.copyOf(pool, poolSize);
+        int[] hand = new int[handSize];
+        int[] deck = new int[deckSize];
+        for (int i = 0; i < handSize + deckSize; i++) {
+            int group;
+            if (i < groups.length) {
+                // partial Fisher-Yates, the first i groups are the picked ones
+                int j = i + random.nextInt(groups.length - i);
+                group = groups[j];
+                groups[j] = groups[i];
+                groups[i] = group;
+            } else {
+                // more hidden cards than the model allows, guess with the chances of the whole deck
+                group = initialPool[random.nextInt(initialPool.length)];
+            }
+            int[] cards = candidates[group];
+            int card = (cards.length == 1) ? cards[0] : cards[random.nextInt(cards.length)];
+            if (i < handSize) {
+                hand[i] = card;
+            } else {
+                deck[i - handSize] = card;
+            }
+        }
+
+        int[] own = ownDeck.clone();
+        for (int i = own.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int card = own[i];
+            own[i] = own[j];
+            own[j] = card;
+        }
+        return root.withHiddenCards(opponent, hand, deck).withHiddenCards(observer, null, own);
+    }
+}
@@ -0,0 +1,199 @@
+package com.avatarduel.ai;
+
+import com.avatarduel.model.Game;
+import com.avatarduel.model.GameState;
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.card.CharacterCardInField;
+import com.avatarduel.model.card.SkillAuraCard;
+import com.avatarduel.model.card.SkillCardInField;
+import com.avatarduel.model.player_component.Field;
+import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.player_component.PowerManager;
+import com.avatarduel.model.type.CardType;
+import com.avatarduel.model.type.CharacterState;
+import com.avatarduel.model.type.Element;
+import com.avatarduel.model.type.PlayerType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * FeatureEncoder turns a game into a fixed number of ints, to train a model that scores games.
+ *
+ * IMPORTANT NOTE:
+ * The game is seen by the current player : its block comes before the block of the opponent,
+ * and only the current player has features of its hand, the opponent only shows the size of its hand and deck.
+ * A player block has the health point, land flag, deck and hand size, the current and total power of every element,
+ * then a fixed block for every character slot and every skill slot of the field, all zeros when the slot is empty.
+ * getNames gives the name of every feature in the same order, so the numbers can be read without this class.
+ * encode writes into an array of the caller and makes no object, so it can run for every action of many games.
+ * @author G10-K03-CardGameOOP
+ */
+
+public final class FeatureEncoder {
+    private static final Element[] elements = Element.values();
+    private static final CardType[] handTypes = {CardType.CHARACTER, CardType.LAND, CardType.SKILL_AURA,
+            CardType.SKILL_POWER_UP, CardType.SKILL_DESTROY};
+    private static final int fieldSize = GameState.FIELD_SIZE;
+
+    private static final int HEADER_FEATURES = 3;
+    private static final int CHARACTER_FEATURES = 10;
+    private static final int SKILL_FEATURES = 6;
+    private static final int PLAYER_FEATURES = 4 + 2 * PowerManager.ELEMENT_COUNT
+            + fieldSize * (CHARACTER_FEATURES + SKILL_FEATURES);
+    private static final int HAND_FEATURES = handTypes.length + PowerManager.ELEMENT_COUNT + 1;
+
+    /**
+     * number of features of a game
+     */
+    public static final int SIZE = HEADER_FEATURES + 2 * PLAYER_FEATURES + HAND_FEATURES;
+
+    private static final List<String> names = Collections.unmodifiableList(makeNames());
+
+    private FeatureEncoder() {
+    }
+
+    /**
+     * @return name of every feature, in the order of encode
+     */
+    public static List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * encode the game as seen by the current player
+     * @param game the game
+     * @param features array of at least SIZE ints, the first SIZE are written
+     * @return the array
+     */
+    public static int[] encode(Game game, int[] features) {
+        PlayerType current = game.getCurrentPlayer();
+        Player player = game.getPlayerByType(current);
+        Player opponent = game.getPlayerByType(game.getCurrentOpponent());
+        int turn = game.getCurrentTurn();
+
+        int i = 0;
+        features[i++] = turn;
+        features[i++] = game.getCurrentPhase().getPhase().ordinal();
+        features[i++] = (current == PlayerType.A) ? 1 : 0;
+        i = encodePlayer(player, player, turn, features, i);
+        i = encodePlayer(opponent, player, turn, features, i);
+        encodeHand(player, features, i);
+        return features;
+    }
+
+    /**
+     * @param viewer the current player, skills are paired to its characters or to the characters of the opponent
+     */
+    private static int encodePlayer(Player player, Player viewer, int turn, int[] features, int i) {
+        features[i++] = player.getHealthPoint();
+        features[i++] = player.hasPlayLand() ? 1 : 0;
+        features[i++] = player.getDeck().size();
+        features[i++] = player.getHand().size();
+        PowerManager power = player.getPower();
+        for (Element element : elements) {
+            features[i++] = power.getCurrent(element);
+            features[i++] = power.getTotal(element);
+        }
+
+        Field field = player.getField();
+        for (int slot = 0; slot < fieldSize; slot++) {
+            CharacterCardInField character = field.getCharacterCardAt(slot);
+            if (character == null) {
+                for (int f = 0; f < CHARACTER_FEATURES; f++) {
+                    features[i++] = 0;
+                }
+                continue;
+            }
+            features[i++] = 1;
+            features[i++] = character.getCard().getElement().ordinal() + 1;
+            features[i++] = character.getTotalAttack();
+            features[i++] = character.getTotalDefense();
+            features[i++] = character.getCurrentTotal();
+            features[i++] = (character.getPosition() == CharacterState.ATTACK) ? 1 : 0;
+            features[i++] = character.hasAttacked() ? 1 : 0;
+            features[i++] = (character.getCreatedAtTurn() == turn) ? 1 : 0;
+            features[i++] = character.isPowerUp() ? 1 : 0;
+            features[i++] = character.getConnectedCard().size();
+        }
+        for (int slot = 0; slot < fieldSize; slot++) {
+            SkillCardInField skill = field.getSkillCardAt(slot);
+            if (skill == null) {
+                for (int f = 0; f < SKILL_FEATURES; f++) {
+                    features[i++] = 0;
+                }
+                continue;
+            }
+            Card card = skill.getCard();
+            CharacterCardInField paired = skill.getPairedCharacter();
+            features[i++] = 1;
+            features[i++] = (card.getType() == CardType.SKILL_AURA) ? 1 : 2;
+            features[i++] = card.getElement().ordinal() + 1;
+            features[i++] = (card instanceof SkillAuraCard) ? ((SkillAuraCard) card).getAttack() : 0;
+            features[i++] = (card instanceof SkillAuraCard) ? ((SkillAuraCard) card).getDefense() : 0;
+            features[i++] = (paired == null) ? 0 : (viewer.getCharacterCardByID(paired.getCard().getId()) == paired) ? 1 : 2;
+        }
+        return i;
+    }
+
+    private static void encodeHand(Player player, int[] features, int i) {
+        int typeStart = i;
+        int elementStart = typeStart + handTypes.length;
+        int affordable = elementStart + elements.length;
+        for (int f = typeStart; f <= affordable; f++) {
+            features[f] = 0;
+        }
+        PowerManager power = player.getPower();
+        for (Card card : player.getHand()) {
+            for (int t = 0; t < handTypes.length; t++) {
+                if (card.getType() == handTypes[t]) {
+                    features[typeStart + t]++;
+                }
+            }
+            features[elementStart + card.getElement().ordinal()]++;
+            if (card.getType() != CardType.LAND && power.canAfford(card.getElement(), card.getPower())) {
+                features[affordable]++;
+            }
+        }
+    }
+
+    private static List<String> makeNames() {
+        List<String> names = new ArrayList<>(SIZE);
+        names.add("turn");
+        names.add("phase");
+        names.add("is_player_a");
+        for (String player : new String[] {"me", "opponent"}) {
+            names.add(player + "_health_point");
+            names.add(player + "_has_play_land");
+            names.add(player + "_deck_size");
+            names.add(player + "_hand_size");
+            for (Element element : elements) {
+                names.add(player + "_current_power_" + element.name().toLowerCase(Locale.ROOT));
+                names.add(player + "_total_power_" + element.name().toLowerCase(Locale.ROOT));
+            }
+            for (int slot = 0; slot < fieldSize; slot++) {
+                String prefix = player + "_character_" + slot + "_";
+                for (String feature : new String[] {"present", "element", "attack", "defense", "current_total",
+                        "attack_position", "has_attacked", "summoned_this_turn", "power_up", "skill_count"}) {
+                    names.add(prefix + feature);
+                }
+            }
+            for (int slot = 0; slot < fieldSize; slot++) {
+                String prefix = player + "_skill_" + slot + "_";
+                for (String feature : new String[] {"present", "type", "element", "attack", "defense", "paired_side"}) {
+                    names.add(prefix + feature);
+                }
+            }
+        }
+        for (CardType type : handTypes) {
+            names.add("hand_" + type.name().toLowerCase(Locale.ROOT));
+        }
+        for (Element element : elements) {
+            names.add("hand_" + element.name().toLowerCase(Locale.ROOT));
+        }
+        names.add("hand_affordable");
+        return names;
+    }
+}
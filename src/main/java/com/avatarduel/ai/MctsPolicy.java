@@ -0,0 +1,45 @@
+package com.avatarduel.ai;
+
+import com.avatarduel.event.IEvent;
+import com.avatarduel.model.Game;
+import com.avatarduel.simulation.IPolicy;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * MctsPolicy is a computer player that picks every move with MonteCarloTreeSearch.
+ *
+ * IMPORTANT NOTE:
+ * It can play headless in MatchSimulator, or as player B in the GUI Board.
+ * With the default budget a move takes at most 150 ms, so the computer answers quickly enough to play against.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class MctsPolicy implements IPolicy {
+    public static final long defaultTimeBudgetMillis = 150;
+    public static final int defaultIterationBudget = 20000;
+
+    private MonteCarloTreeSearch search;
+
+    public MctsPolicy() {
+        this(defaultTimeBudgetMillis, defaultIterationBudget, ForkJoinPool.commonPool(), System.nanoTime());
+    }
+
+    /**
+     * @param timeBudgetMillis maximum time for one move
+     * @param iterationBudget maximum number of random games for one move
+     * @param pool pool running the random games
+     * @param seed seed of the random games
+     */
+    public MctsPolicy(long timeBudgetMillis, int iterationBudget, ForkJoinPool pool, long seed) {
+        this.search = new MonteCarloTreeSearch(timeBudgetMillis, iterationBudget, pool, seed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IEvent nextAction(Game game) {
+        return search.search(game);
+    }
+}
@@ -0,0 +1,262 @@
+package com.avatarduel.ai;
+
+import com.avatarduel.event.EndTurnEvent;
+import com.avatarduel.event.IEvent;
+import com.avatarduel.event.MoveGenerator;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.GameState;
+import com.avatarduel.model.card.CharacterCardInField;
+import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.type.Phase;
+import com.avatarduel.model.type.PlayerType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * MonteCarloTreeSearch chooses a move for the current player by playing many short random games from the current state.
+ *
+ * IMPORTANT NOTE:
+ * Every worker of the pool grows its own tree from the same GameState, and the visits of the root moves are added up
+ * at the end, so the workers never share anything while searching.
+ * A search stops when the time budget or the iteration budget runs out, whichever comes first.
+ * Random games are stopped after a few turns and scored by health point and board strength.
+ * Every visit of a leaf plays a new random game, the nodes of the tree keep the average of the random games
+ * played through them, so one noisy random game never stands for a state.
+ * The search does not see the hand and the deck of the opponent, or the order of its own deck : every random game
+ * starts from a guess of the hidden cards made by the BeliefModel of the search, so moves that only work because
+ * of a hidden card are not favored. A move of the tree that can not be done with the guessed cards is skipped.
+ * Nothing is kept by Game.getHash, since all the guesses of a state share it.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class MonteCarloTreeSearch {
+    private static final double exploration = 1.4;
+    private static final int rolloutTurns = 4;
+    private static final int rolloutActionPerTurn = 12;
+
+    private final long timeBudgetMillis;
+    private final int iterationBudget;
+    private final ForkJoinPool pool;
+    private final int workers;
+    private final SplittableRandom seeds;
+    private BeliefModel belief;
+    private int lastTurn;
+
+    /**
+     * @param timeBudgetMillis maximum time for one search
+     * @param iterationBudget maximum number of random games for one search, shared by all workers
+     * @param pool pool running the workers
+     * @param seed seed of the random games
+     */
+    public MonteCarloTreeSearch(long timeBudgetMillis, int iterationBudget, ForkJoinPool pool, long seed) {
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.iterationBudget = iterationBudget;
+        this.pool = pool;
+        this.workers = Math.max(1, pool.getParallelism());
+        this.seeds = new SplittableRandom(seed);
+    }
+
+    /**
+     * search the best move of the current player
+     * @param game the game, it is not changed
+     * @return the move with the most visits
+     */
+    public IEvent search(Game game) {
+        List<IEvent> moves = MoveGenerator.generate(game);
+        if (moves.size() == 1) {
+            return moves.get(0);
+        }
+
+        if (belief == null || game.getCurrentTurn() < lastTurn || belief.getObserver() != game.getCurrentPlayer()) {
+            // a new game, or another player
+            belief = new BeliefModel(game.getCurrentPlayer(), game.getDeckSource(game.getCurrentOpponent()));
+        }
+        belief.update(game);
+        lastTurn = game.getCurrentTurn();
+        GameState root = GameState.of(game);
+        long deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+        List<ForkJoinTask<int[]>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            int iterations = iterationBudget / workers + ((i < iterationBudget % workers) ? 1 : 0);
+            SplittableRandom random = seeds.split();
+            tasks.add(pool.submit(() -> new Worker(root, belief, moves, random).run(iterations, deadline)));
+        }
+
+        int[] visits = new int[moves.size()];
+        for (ForkJoinTask<int[]> task : tasks) {
+            int[] result = task.join();
+            for (int i = 0; i < visits.length; i++) {
+                visits[i] += result[i];
+            }
+        }
+        int best = 0;
+        for (int i = 1; i < visits.length; i++) {
+            if (visits[i] > visits[best]) {
+                best = i;
+            }
+        }
+        return moves.get(best);
+    }
+
+    /**
+     * @param game the game
+     * @return the winner, null if the game is not over yet
+     */
+    public static PlayerType getWinner(Game game) {
+        if (game.getPlayerByType(PlayerType.A).checkLose()) {
+            return PlayerType.B;
+        }
+        if (game.getPlayerByType(PlayerType.B).checkLose()) {
+            return PlayerType.A;
+        }
+        // the player who draws the last card loses
+        if (game.getCurrentPhase().getPhase() == Phase.DRAW && game.getPlayerByType(game.getCurrentPlayer()).getDeck().size() <= 1) {
+            return game.getCurrentOpponent();
+        }
+        return null;
+    }
+
+    /**
+     * score a game that is not over yet
+     * @param game the game
+     * @return chance of player A winning, between 0 and 1
+     */
+    static double evaluate(Game game) {
+        PlayerType winner = getWinner(game);
+        if (winner != null) {
+            return (winner == PlayerType.A) ? 1 : 0;
+        }
+        double score = strength(game.getPlayerByType(PlayerType.A)) - strength(game.getPlayerByType(PlayerType.B));
+        return 1 / (1 + Math.exp(-score / 20));
+    }
+
+    private static double strength(Player player) {
+        double strength = player.getHealthPoint();
+        for (CharacterCardInField character : player.getField().getCharCardList()) {
+            strength += 0.5 * character.getCurrentTotal();
+        }
+        return strength;
+    }
+
+    private static boolean play(Game game, IEvent move) {
+        try {
+            move.execute(game);
+            return true;
+        } catch (InvalidOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Node of the search tree, the reward is seen from the player who made the move into the node
+     */
+    private static class Node {
+        private final Node parent;
+        private final IEvent move;
+        private final PlayerType mover;
+        private final List<IEvent> untried;
+        private final List<Node> children;
+        private int visits;
+        private double reward;
+
+        Node(Node parent, IEvent move, PlayerType mover, List<IEvent> untried) {
+            this.parent = parent;
+            this.move = move;
+            this.mover = mover;
+            this.untried = untried;
+            this.children = new ArrayList<>();
+        }
+
+        Node select() {
+            Node best = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            double logVisits = Math.log(visits);
+            for (Node child : children) {
+                double value = child.reward / child.visits + exploration * Math.sqrt(logVisits / child.visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * One worker grows one tree
+     */
+    private static class Worker {
+        private final GameState rootState;
+        private final BeliefModel belief;
+        private final List<IEvent> rootMoves;
+        private final Node root;
+        private final SplittableRandom random;
+
+        Worker(GameState rootState, BeliefModel belief, List<IEvent> rootMoves, SplittableRandom random) {
+            this.rootState = rootState;
+            this.belief = belief;
+            this.rootMoves = rootMoves;
+            this.random = random;
+            this.root = new Node(null, null, null, new ArrayList<>(rootMoves));
+        }
+
+        /**
+         * @return visits of every root move, in the order of the root moves
+         */
+        int[] run(int iterations, long deadline) {
+            for (int i = 0; i < iterations && System.nanoTime() < deadline; i++) {
+                iterate();
+            }
+            int[] visits = new int[rootMoves.size()];
+            for (Node child : root.children) {
+                visits[rootMoves.indexOf(child.move)] = child.visits;
+            }
+            return visits;
+        }
+
+        private void iterate() {
+            Game game = belief.sample(rootState, random).toGame();
+            Node node = root;
+            while (node.untried.isEmpty() && !node.children.isEmpty()) {
+                node = node.select();
+                play(game, node.move);
+            }
+            if (!node.untried.isEmpty()) {
+                IEvent move = node.untried.remove(random.nextInt(node.untried.size()));
+                PlayerType mover = game.getCurrentPlayer();
+                play(game, move);
+                Node child = new Node(node, move, mover, (getWinner(game) == null) ? MoveGenerator.generate(game) : new ArrayList<>());
+                node.children.add(child);
+                node = child;
+            }
+            double value = rollout(game);
+            for (; node != null; node = node.parent) {
+                node.visits++;
+                if (node.mover != null) {
+                    node.reward += (node.mover == PlayerType.A) ? value : 1 - value;
+                }
+            }
+        }
+
+        private double rollout(Game game) {
+            int lastTurn = game.getCurrentTurn() + rolloutTurns;
+            int actions = 0;
+            int turn = game.getCurrentTurn();
+            while (getWinner(game) == null && game.getCurrentTurn() < lastTurn) {
+                if (game.getCurrentTurn() != turn) {
+                    turn = game.getCurrentTurn();
+                    actions = 0;
+                }
+                List<IEvent> moves = MoveGenerator.generate(game);
+                IEvent move = (actions++ < rolloutActionPerTurn) ? moves.get(random.nextInt(moves.size())) : new EndTurnEvent();
+                play(game, move);
+            }
+            return evaluate(game);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.avatarduel.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * TranspositionTable keeps what a search found about game states, keyed by the Zobrist hash of the game,
+ * so a state reached again by other moves is not searched again.
+ *
+ * IMPORTANT NOTE:
+ * The table has a fixed number of entries and a new entry replaces the old one in its slot,
+ * unless the old one is about the same state and was searched deeper.
+ * Many threads can use one table without locks. Every entry is two longs : the key xor'ed with the data,
+ * and the data. An entry half written by another thread does not give back its key when the two are xor'ed,
+ * so it is read as a miss instead of giving wrong data.
+ * The data is packed in one long, read it with getScore, getDepth, getBound and getMove.
+ * @author G10-K03-CardGameOOP
+ */
+
+public final class TranspositionTable {
+    /**
+     * returned by probe when the state is not in the table
+     */
+    public static final long MISS = 0;
+
+    public static final int EXACT = 0;
+    public static final int LOWER_BOUND = 1;
+    public static final int UPPER_BOUND = 2;
+
+    private static final long VALID = 1L << 63;
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int MOVE_SHIFT = 42;
+
+    private final AtomicLongArray entries;
+    private final int mask;
+
+    /**
+     * @param capacity number of entries, rounded up to a power of two
+     */
+    public TranspositionTable(int capacity) {
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.entries = new AtomicLongArray(2 * size);
+        this.mask = size - 1;
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @param key Zobrist hash of the state
+     * @return the data of the state, or MISS
+     */
+    public long probe(long key) {
+        int slot = 2 * ((int) key & mask);
+        long data = entries.get(slot + 1);
+        if (data == MISS || (entries.get(slot) ^ data) != key) {
+            return MISS;
+        }
+        return data;
+    }
+
+    /**
+     * keep what was found about a state
+     * @param key Zobrist hash of the state
+     * @param score score of the state
+     * @param depth how deep the state was searched, from 0 to 255
+     * @param bound EXACT, or LOWER_BOUND or UPPER_BOUND if the search was cut
+     * @param move index of the best move, -1 if there is none, up to 65534
+     */
+    public void store(long key, int score, int depth, int bound, int move) {
+        int slot = 2 * ((int) key & mask);
+        long old = entries.get(slot + 1);
+        if (old != MISS && (entries.get(slot) ^ old) == key && getDepth(old) > depth) {
+            return;
+        }
+        long data = VALID | ((long) (move + 1) << MOVE_SHIFT) | ((long) bound << BOUND_SHIFT)
+                | ((long) Math.min(255, Math.max(0, depth)) << DEPTH_SHIFT) | (score & 0xFFFFFFFFL);
+        entries.set(slot + 1, data);
+        entries.set(slot, key ^ data);
+    }
+
+    /**
+     * forget every entry
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, 0);
+        }
+    }
+
+    public static int getScore(long data) {
+        return (int) data;
+    }
+
+    public static int getDepth(long data) {
+        return (int) (data >>> DEPTH_SHIFT) & 0xFF;
+    }
+
+    public static int getBound(long data) {
+        return (int) (data >>> BOUND_SHIFT) & 0x3;
+    }
+
+    public static int getMove(long data) {
+        return ((int) (data >>> MOVE_SHIFT) & 0xFFFF) - 1;
+    }
+}
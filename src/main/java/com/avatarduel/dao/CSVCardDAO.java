@@ -2,64 +2,61 @@ package com.avatarduel.dao;
 
 import com.avatarduel.model.card.Card;
 import com.avatarduel.model.type.CardType;
-import com.avatarduel.util.Loader;
+import com.avatarduel.model.type.Element;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * CSVCardDAO is a database of card which consists of all cards that needed.
+ *
+ * IMPORTANT NOTE:
+ * The cards are read from the csv files once and shared through CardCatalog,
+ * so creating many CSVCardDAO does not read the files again.
+ * The returned lists can not be changed.
  * @author G10-K03-CardGameOOP
  */
 
 
 public class CSVCardDAO implements CardDAO {
 
-    private List<Card> cardDatabase;
-    private Loader loader;
+    private CardCatalog catalog;
 
     public CSVCardDAO() {
-        this.cardDatabase = new ArrayList<>();
-        this.loader = new Loader();
-        cardDatabase.addAll(loader.loadCharacter());
-        cardDatabase.addAll(loader.loadLand());
-        cardDatabase.addAll(loader.loadSkillAura());
-        cardDatabase.addAll(loader.loadSkillDestroy());
-        cardDatabase.addAll(loader.loadSkillPowerUp());
+        this.catalog = CardCatalog.getInstance();
     }
 
     @Override
     public List<Card> getAllCard() {
-        return cardDatabase;
+        return catalog.getAllCard();
     }
 
     @Override
     public Card getCardById(int id) {
-        return cardDatabase.stream()
-                .filter(card -> card.getId() == id)
-                .findFirst()
-                .orElse(null);
+        return catalog.getCardById(id);
     }
 
     @Override
     public List<Card> getAllCharacterCard() {
-        return cardDatabase.stream()
-                .filter(card -> card.getType() == CardType.CHARACTER)
-                .collect(Collectors.toList());
+        return catalog.getAllCharacterCard();
     }
 
     @Override
     public List<Card> getAllSkillCard() {
-        return cardDatabase.stream()
-                .filter(card -> (card.getType() == CardType.SKILL_AURA) || (card.getType() == CardType.SKILL_DESTROY) ||(card.getType() == CardType.SKILL_POWER_UP))
-                .collect(Collectors.toList());
+        return catalog.getAllSkillCard();
     }
 
     @Override
     public List<Card> getAllLandCard() {
-        return cardDatabase.stream()
-                .filter(card -> card.getType() == CardType.LAND)
-                .collect(Collectors.toList());
+        return catalog.getAllLandCard();
+    }
+
+    @Override
+    public List<Card> getAllCardByType(CardType type) {
+        return catalog.getCardsByType(type);
+    }
+
+    @Override
+    public List<Card> getAllCardByElement(Element element) {
+        return catalog.getCardsByElement(element);
     }
 }
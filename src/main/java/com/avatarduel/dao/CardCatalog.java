@@ -0,0 +1,166 @@
+package com.avatarduel.dao;
+
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.card.CardTemplate;
+import com.avatarduel.model.type.CardType;
+import com.avatarduel.model.type.Element;
+import com.avatarduel.util.Loader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CardCatalog is the one copy of every card loaded from the csv files, shared by the whole program.
+ *
+ * IMPORTANT NOTE:
+ * The csv files are only read the first time the catalog is used.
+ * The catalog never changes after that, so cards taken from it must be cloned
+ * with CardFactory before they are changed by a game.
+ * All lists and indexes are built once when loading, so reading the catalog never scans or allocates.
+ * @author G10-K03-CardGameOOP
+ */
+
+public final class CardCatalog {
+    private final List<Card> allCards;
+    private final List<Card> characterCards;
+    private final List<Card> landCards;
+    private final List<Card> skillCards;
+    private final Map<CardType, List<Card>> cardsByType;
+    private final Map<Element, List<Card>> cardsByElement;
+    /**
+     * cardById[id] is the card with the id, card ids are small positive numbers
+     */
+    private final Card[] cardById;
+    /**
+     * position in getAllCard of the card with the template, clones share the template of their card
+     */
+    private final Map<CardTemplate, Integer> indexByTemplate;
+
+    private CardCatalog() {
+        Loader loader = new Loader();
+        this.cardsByType = new EnumMap<>(CardType.class);
+        cardsByType.put(CardType.CHARACTER, Collections.unmodifiableList(loader.loadCharacter()));
+        cardsByType.put(CardType.LAND, Collections.unmodifiableList(loader.loadLand()));
+        cardsByType.put(CardType.SKILL_AURA, Collections.unmodifiableList(loader.loadSkillAura()));
+        cardsByType.put(CardType.SKILL_DESTROY, Collections.unmodifiableList(loader.loadSkillDestroy()));
+        cardsByType.put(CardType.SKILL_POWER_UP, Collections.unmodifiableList(loader.loadSkillPowerUp()));
+
+        List<Card> all = new ArrayList<>();
+        cardsByType.values().forEach(all::addAll);
+        List<Card> skills = new ArrayList<>(getCardsByType(CardType.SKILL_AURA));
+        skills.addAll(getCardsByType(CardType.SKILL_DESTROY));
+        skills.addAll(getCardsByType(CardType.SKILL_POWER_UP));
+
+        this.allCards = Collections.unmodifiableList(all);
+        this.characterCards = getCardsByType(CardType.CHARACTER);
+        this.landCards = getCardsByType(CardType.LAND);
+        this.skillCards = Collections.unmodifiableList(skills);
+
+        this.cardsByElement = new EnumMap<>(Element.class);
+        for (Element element : Element.values()) {
+            List<Card> cards = new ArrayList<>();
+            for (Card card : allCards) {
+                if (card.getElement() == element) {
+                    cards.add(card);
+                }
+            }
+            cardsByElement.put(element, Collections.unmodifiableList(cards));
+        }
+
+        // id is only unique inside one csv file, the first card loaded with the id is kept
+        int maxId = 0;
+        for (Card card : allCards) {
+            maxId = Math.max(maxId, card.getId());
+        }
+        this.cardById = new Card[maxId + 1];
+        for (Card card : allCards) {
+            if (card.getId() >= 0 && cardById[card.getId()] == null) {
+                cardById[card.getId()] = card;
+            }
+        }
+
+        this.indexByTemplate = new HashMap<>();
+        for (int i = 0; i < allCards.size(); i++) {
+            indexByTemplate.putIfAbsent(allCards.get(i).getTemplate(), i);
+        }
+    }
+
+    /**
+     * Holder of the catalog, so the csv files are read lazily and only once even with many threads
+     */
+    private static class Holder {
+        private static final CardCatalog catalog = new CardCatalog();
+    }
+
+    /**
+     * get the shared catalog, loading it on the first call
+     * @return the card catalog
+     */
+    public static CardCatalog getInstance() {
+        return Holder.catalog;
+    }
+
+    public List<Card> getAllCard() {
+        return allCards;
+    }
+
+    public List<Card> getAllCharacterCard() {
+        return characterCards;
+    }
+
+    public List<Card> getAllLandCard() {
+        return landCards;
+    }
+
+    public List<Card> getAllSkillCard() {
+        return skillCards;
+    }
+
+    /**
+     * get all cards loaded from the csv file of the type
+     * @param type the card type
+     * @return unmodifiable list of cards, empty if there is no card with the type
+     */
+    public List<Card> getCardsByType(CardType type) {
+        return cardsByType.getOrDefault(type, Collections.emptyList());
+    }
+
+    /**
+     * get all cards with the element
+     * @param element the element
+     * @return unmodifiable list of cards, empty if there is no card with the element
+     */
+    public List<Card> getCardsByElement(Element element) {
+        return cardsByElement.getOrDefault(element, Collections.emptyList());
+    }
+
+    /**
+     * get card with the id, if more than one card has the id, the first loaded card is returned
+     * @param id the card id
+     * @return the card, null if not found
+     */
+    public Card getCardById(int id) {
+        return (id >= 0 && id < cardById.length) ? cardById[id] : null;
+    }
+
+    /**
+     * get the position of a card in getAllCard, unlike the id it is unique for every card
+     * @param card a card from the catalog or a clone of it
+     * @return the position, -1 if the card is not from the catalog
+     */
+    public int getCatalogIndex(Card card) {
+        return indexByTemplate.getOrDefault(card.getTemplate(), -1);
+    }
+
+    /**
+     * @param index position in getAllCard
+     * @return the card at the position
+     */
+    public Card getCardByCatalogIndex(int index) {
+        return allCards.get(index);
+    }
+}
@@ -1,6 +1,8 @@
 package com.avatarduel.dao;
 
 import com.avatarduel.model.card.Card;
+import com.avatarduel.model.type.CardType;
+import com.avatarduel.model.type.Element;
 
 import java.util.List;
 
@@ -10,6 +12,7 @@ import java.util.List;
  * IMPORTANT NOTE:
  * CardDao only consists of many List of Card that consists of character card,
  * skill card, and land card.
+ * The list can also be taken for one card type or one element.
  * @author G10-K03-CardGameOOP
  */
 
@@ -19,4 +22,6 @@ public interface CardDAO {
      List<Card> getAllCharacterCard();
      List<Card> getAllSkillCard();
      List<Card> getAllLandCard();
+     List<Card> getAllCardByType(CardType type);
+     List<Card> getAllCardByElement(Element element);
 }
@@ -0,0 +1,34 @@
+package com.avatarduel.dao;
+
+import java.nio.ByteOrder;
+
+/**
+ * FeatureShardFormat has the constants shared by FeatureShardWriter and FeatureShardReader.
+ *
+ * IMPORTANT NOTE:
+ * A shard starts with the 4 bytes "ADFS", one version byte, 3 zero bytes and the number of features,
+ * followed by the records. A record is the result of the game for the player who was to move
+ * (1 won, -1 lost, 0 draw), the number of turns left until the end of the game, and the features.
+ * Every number is a 4 byte little endian int, so a shard can be read as one int array after the header,
+ * for example with numpy.fromfile(path, dtype='<i4', offset=12).reshape(-1, 2 + features).
+ * @author G10-K03-CardGameOOP
+ */
+
+final class FeatureShardFormat {
+    static final byte[] MAGIC = {'A', 'D', 'F', 'S'};
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 12;
+    static final int RECORD_HEADER_INTS = 2;
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+    static final String EXTENSION = ".adfs";
+
+    private FeatureShardFormat() {
+    }
+
+    /**
+     * @return number of bytes of a record
+     */
+    static int recordSize(int featureCount) {
+        return 4 * (RECORD_HEADER_INTS + featureCount);
+    }
+}
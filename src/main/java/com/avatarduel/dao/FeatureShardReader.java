@@ -0,0 +1,105 @@
+package com.avatarduel.dao;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * FeatureShardReader reads the records of a shard written by FeatureShardWriter, one record at a time.
+ *
+ * IMPORTANT NOTE:
+ * The shard is read in blocks into one buffer, reading a record makes no object.
+ * A record that was only partly written when the writer stopped is treated as the end of the shard.
+ * One reader is only used by one thread.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class FeatureShardReader implements Closeable {
+    private static final int blockBytes = 1 << 16;
+
+    private final FileChannel channel;
+    private final int featureCount;
+    private final ByteBuffer buffer;
+    private final int[] features;
+    private int result;
+    private int turnsLeft;
+
+    /**
+     * @param path the shard
+     * @throws IOException if the shard can not be opened or is not a feature shard
+     */
+    public FeatureShardReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        ByteBuffer header = ByteBuffer.allocate(FeatureShardFormat.HEADER_SIZE).order(FeatureShardFormat.ORDER);
+        while (header.hasRemaining() && channel.read(header) >= 0) {
+            // read until the header is full or the file ends
+        }
+        byte[] magic = Arrays.copyOf(header.array(), FeatureShardFormat.MAGIC.length);
+        if (header.hasRemaining() || !Arrays.equals(magic, FeatureShardFormat.MAGIC)
+                || header.get(FeatureShardFormat.MAGIC.length) != FeatureShardFormat.VERSION) {
+            channel.close();
+            throw new IOException("Not a feature shard : " + path);
+        }
+        this.featureCount = header.getInt(FeatureShardFormat.HEADER_SIZE - 4);
+        int recordSize = FeatureShardFormat.recordSize(featureCount);
+        this.buffer = ByteBuffer.allocate(Math.max(blockBytes, recordSize)).order(FeatureShardFormat.ORDER);
+        this.buffer.flip();
+        this.features = new int[featureCount];
+    }
+
+    public int getFeatureCount() {
+        return featureCount;
+    }
+
+    /**
+     * move to the next record
+     * @return false if there is no whole record left
+     * @throws IOException if the shard can not be read
+     */
+    public boolean next() throws IOException {
+        int recordSize = FeatureShardFormat.recordSize(featureCount);
+        if (buffer.remaining() < recordSize) {
+            buffer.compact();
+            while (buffer.position() < recordSize && channel.read(buffer) >= 0) {
+                // fill the buffer until a whole record is in it or the file ends
+            }
+            buffer.flip();
+            if (buffer.remaining() < recordSize) {
+                return false;
+            }
+        }
+        result = buffer.getInt();
+        turnsLeft = buffer.getInt();
+        for (int i = 0; i < featureCount; i++) {
+            features[i] = buffer.getInt();
+        }
+        return true;
+    }
+
+    /**
+     * @return 1 if the player to move won, -1 if it lost, 0 for a draw
+     */
+    public int getResult() {
+        return result;
+    }
+
+    public int getTurnsLeft() {
+        return turnsLeft;
+    }
+
+    /**
+     * @return the features of the current record, changed by the next call to next
+     */
+    public int[] getFeatures() {
+        return features;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,150 @@
+package com.avatarduel.dao;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * FeatureShardWriter writes encoded games and their results into shard files, in the format of FeatureShardFormat.
+ *
+ * IMPORTANT NOTE:
+ * Shards are named prefix-00000.adfs, prefix-00001.adfs and so on in the directory. A shard that already exists
+ * is never opened again, the writer starts with the first free name, so running again only adds shards.
+ * A new shard is started every recordsPerShard records.
+ * Records are put into a buffer of about 1 MB and written when it is full, the shard is forced to the disk when
+ * it is finished and on close. A crash can leave a record half written at the end of a shard, readers skip it.
+ * One writer is only used by one thread, threads that write at the same time use their own prefix.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class FeatureShardWriter implements Closeable {
+    public static final int defaultRecordsPerShard = 1 << 18;
+    private static final int batchBytes = 1 << 20;
+
+    private final Path directory;
+    private final String prefix;
+    private final int featureCount;
+    private final int recordsPerShard;
+    private final ByteBuffer buffer;
+    private final List<Path> shards;
+    private FileChannel channel;
+    private int nextShard;
+    private int shardRecords;
+    private long records;
+
+    /**
+     * @param directory directory of the shards, created if it does not exist
+     * @param prefix start of the shard names
+     * @param featureCount number of features of every record
+     * @param recordsPerShard number of records in a full shard
+     * @throws IOException if the directory can not be created
+     */
+    public FeatureShardWriter(Path directory, String prefix, int featureCount, int recordsPerShard) throws IOException {
+        if (featureCount < 0 || recordsPerShard <= 0) {
+            throw new IllegalArgumentException("Feature count can not be negative and shards must have records");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.prefix = prefix;
+        this.featureCount = featureCount;
+        this.recordsPerShard = recordsPerShard;
+        int recordSize = FeatureShardFormat.recordSize(featureCount);
+        this.buffer = ByteBuffer.allocate(Math.max(1, batchBytes / recordSize) * recordSize).order(FeatureShardFormat.ORDER);
+        this.shards = new ArrayList<>();
+    }
+
+    /**
+     * add one record
+     * @param result 1 if the player to move won, -1 if it lost, 0 for a draw
+     * @param turnsLeft number of turns until the end of the game
+     * @param features the features, only the first featureCount are written
+     * @throws IOException if the shard can not be written
+     */
+    public void append(int result, int turnsLeft, int[] features) throws IOException {
+        append(result, turnsLeft, features, 0);
+    }
+
+    /**
+     * add one record with the features taken from a bigger array
+     * @param result 1 if the player to move won, -1 if it lost, 0 for a draw
+     * @param turnsLeft number of turns until the end of the game
+     * @param features array holding the features
+     * @param offset position of the first feature in the array
+     * @throws IOException if the shard can not be written
+     */
+    public void append(int result, int turnsLeft, int[] features, int offset) throws IOException {
+        if (offset < 0 || features.length - offset < featureCount) {
+            throw new IllegalArgumentException("Expected " + featureCount + " features from " + offset + ", not " + (features.length - offset));
+        }
+        if (channel == null || shardRecords == recordsPerShard) {
+            nextShard();
+        }
+        if (buffer.remaining() < FeatureShardFormat.recordSize(featureCount)) {
+            flush();
+        }
+        buffer.putInt(result).putInt(turnsLeft);
+        for (int i = 0; i < featureCount; i++) {
+            buffer.putInt(features[offset + i]);
+        }
+        shardRecords++;
+        records++;
+    }
+
+    /**
+     * @return number of records written by this writer
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * @return the shards made by this writer, in order
+     */
+    public List<Path> getShards() {
+        return Collections.unmodifiableList(shards);
+    }
+
+    private void nextShard() throws IOException {
+        finishShard();
+        Path path;
+        do {
+            path = directory.resolve(String.format("%s-%05d%s", prefix, nextShard++, FeatureShardFormat.EXTENSION));
+        } while (Files.exists(path));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        shards.add(path);
+        shardRecords = 0;
+        buffer.put(FeatureShardFormat.MAGIC).put(FeatureShardFormat.VERSION).put(new byte[3]).putInt(featureCount);
+    }
+
+    private void finishShard() throws IOException {
+        if (channel != null) {
+            flush();
+            channel.force(false);
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * write the buffered records and close the last shard
+     * @throws IOException if the shard can not be written
+     */
+    @Override
+    public void close() throws IOException {
+        finishShard();
+    }
+}
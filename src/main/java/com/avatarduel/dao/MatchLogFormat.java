@@ -0,0 +1,78 @@
+package com.avatarduel.dao;
+
+import com.avatarduel.event.EventRecord;
+import com.avatarduel.event.EventType;
+import com.avatarduel.model.type.Phase;
+import com.avatarduel.model.type.PlayerType;
+
+/**
+ * MatchLogFormat has the constants and the small encoding helpers shared by MatchLogWriter and MatchLogReader.
+ *
+ * IMPORTANT NOTE:
+ * A file starts with the 4 bytes "ADML" and one version byte, followed by the matches.
+ * A match is its length in bytes (4 bytes, big endian), the seed (8 bytes), the number of entries (varint)
+ * and the entries.
+ * An entry is one byte with the event type, phase and players, the turn as a varint difference from
+ * the previous entry, then the card, target and extra of the event as zigzag varints.
+ * The event player is not written for NEXT_PHASE and END_TURN, which have none, and is written as one bit
+ * telling whether it is the current player for the other events.
+ * @author G10-K03-CardGameOOP
+ */
+
+final class MatchLogFormat {
+    static final byte[] MAGIC = {'A', 'D', 'M', 'L'};
+    static final byte VERSION = 1;
+    static final int FILE_HEADER_SIZE = MAGIC.length + 1;
+    static final int MATCH_HEADER_SIZE = 4 + 8;
+
+    private MatchLogFormat() {
+    }
+
+    /**
+     * @return type in the high 4 bits, then phase (2 bits), current player (1 bit) and whether the event player
+     *         is the current player (1 bit)
+     */
+    static int entryHeader(EventType type, Phase phase, PlayerType current, PlayerType eventPlayer) {
+        if (type.ordinal() > 15 || phase.ordinal() > 3) {
+            throw new IllegalArgumentException("Event type or phase does not fit in one byte");
+        }
+        int sameAsCurrent = (eventPlayer == null || eventPlayer == current) ? 1 : 0;
+        return (type.ordinal() << 4) | (phase.ordinal() << 2) | (current.ordinal() << 1) | sameAsCurrent;
+    }
+
+    static int type(int header) {
+        return (header >>> 4) & 0xF;
+    }
+
+    static int phase(int header) {
+        return (header >>> 2) & 0x3;
+    }
+
+    static int currentPlayer(int header) {
+        return (header >>> 1) & 0x1;
+    }
+
+    /**
+     * @return ordinal of the event player, -1 if the event has no player
+     */
+    static int eventPlayer(int header) {
+        int type = type(header);
+        if (type == EventType.NEXT_PHASE.ordinal() || type == EventType.END_TURN.ordinal()) {
+            return -1;
+        }
+        return ((header & 0x1) != 0) ? currentPlayer(header) : 1 - currentPlayer(header);
+    }
+
+    static EventRecord record(int header, int card, int target, int extra) {
+        int player = eventPlayer(header);
+        return new EventRecord(EventType.values()[type(header)], (player < 0) ? null : PlayerType.values()[player], card, target, extra);
+    }
+
+    static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,194 @@
+package com.avatarduel.dao;
+
+import com.avatarduel.model.type.Phase;
+import com.avatarduel.model.type.PlayerType;
+import com.avatarduel.replay.MatchLog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * MatchLogReader reads a file written by MatchLogWriter through a MappedByteBuffer, one match at a time.
+ *
+ * IMPORTANT NOTE:
+ * The file is mapped in windows of at most windowSize bytes that always start at a match,
+ * so files bigger than 2 GB can be read too.
+ * scan gives the entries of the current match as numbers to an EntryVisitor, without making any object,
+ * readLog makes a MatchLog when the events are needed, for example to replay the match.
+ * A match that was only partly written when the writer stopped is treated as the end of the file.
+ * One reader is only used by one thread.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class MatchLogReader implements Closeable {
+    private static final long defaultWindowSize = 1L << 30;
+
+    /**
+     * EntryVisitor gets the entries of a match as numbers
+     */
+    public interface EntryVisitor {
+        /**
+         * @param turn turn of the entry
+         * @param phase phase ordinal
+         * @param player current player ordinal
+         * @param type event type ordinal
+         * @param eventPlayer event player ordinal, -1 if the event has no player
+         * @param card card of the event
+         * @param target target of the event
+         * @param extra extra of the event
+         */
+        void visit(int turn, int phase, int player, int type, int eventPlayer, int card, int target, int extra);
+    }
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long windowSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    /**
+     * file offset of the current match, -1 before the first call to next
+     */
+    private long matchStart;
+    private int matchLength;
+    private long seed;
+
+    /**
+     * @param path the file
+     * @throws IOException if the file can not be opened or is not a match log
+     */
+    public MatchLogReader(Path path) throws IOException {
+        this(path, defaultWindowSize);
+    }
+
+    /**
+     * @param path the file
+     * @param windowSize maximum number of bytes mapped at once, at least the size of the biggest match
+     * @throws IOException if the file can not be opened or is not a match log
+     */
+    public MatchLogReader(Path path, long windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.windowSize = Math.min(windowSize, Integer.MAX_VALUE);
+        this.matchStart = -1;
+        map(0);
+        for (int i = 0; i < MatchLogFormat.MAGIC.length; i++) {
+            if (fileSize < MatchLogFormat.FILE_HEADER_SIZE || window.get(i) != MatchLogFormat.MAGIC[i]) {
+                channel.close();
+                throw new IOException("Not a match log file");
+            }
+        }
+        if (window.get(MatchLogFormat.MAGIC.length) != MatchLogFormat.VERSION) {
+            channel.close();
+            throw new IOException("Unknown match log version " + window.get(MatchLogFormat.MAGIC.length));
+        }
+    }
+
+    private void map(long start) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, fileSize - start));
+        window.order(ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * move to the next match
+     * @return false if there is no match left
+     * @throws IOException if the file can not be read
+     */
+    public boolean next() throws IOException {
+        long start = (matchStart < 0) ? MatchLogFormat.FILE_HEADER_SIZE : matchStart + MatchLogFormat.MATCH_HEADER_SIZE + matchLength;
+        if (start + MatchLogFormat.MATCH_HEADER_SIZE > fileSize) {
+            return false;
+        }
+        if (start + MatchLogFormat.MATCH_HEADER_SIZE > windowStart + window.limit()) {
+            map(start);
+        }
+        int length = window.getInt((int) (start - windowStart));
+        if (start + MatchLogFormat.MATCH_HEADER_SIZE + length > fileSize) {
+            return false; // partly written match
+        }
+        if (start + MatchLogFormat.MATCH_HEADER_SIZE + length > windowStart + window.limit()) {
+            if (MatchLogFormat.MATCH_HEADER_SIZE + length > windowSize) {
+                throw new IOException("Match of " + length + " bytes does not fit in the window");
+            }
+            map(start);
+        }
+        matchStart = start;
+        matchLength = length;
+        seed = window.getLong((int) (start - windowStart) + 4);
+        return true;
+    }
+
+    /**
+     * @return seed of the current match
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return number of entries of the current match
+     */
+    public int getEntryCount() {
+        window.position((int) (matchStart - windowStart) + MatchLogFormat.MATCH_HEADER_SIZE);
+        return getVarint();
+    }
+
+    /**
+     * give every entry of the current match to the visitor
+     * @param visitor the visitor
+     */
+    public void scan(EntryVisitor visitor) {
+        int entries = getEntryCount();
+        int turn = 0;
+        for (int i = 0; i < entries; i++) {
+            int header = window.get() & 0xFF;
+            turn += getVarint();
+            int card = MatchLogFormat.unzigzag(getVarint());
+            int target = MatchLogFormat.unzigzag(getVarint());
+            int extra = MatchLogFormat.unzigzag(getVarint());
+            visitor.visit(turn, MatchLogFormat.phase(header), MatchLogFormat.currentPlayer(header), MatchLogFormat.type(header),
+                    MatchLogFormat.eventPlayer(header), card, target, extra);
+        }
+    }
+
+    /**
+     * @return the current match as a MatchLog
+     */
+    public MatchLog readLog() {
+        MatchLog log = new MatchLog(seed);
+        int entries = getEntryCount();
+        int turn = 0;
+        for (int i = 0; i < entries; i++) {
+            int header = window.get() & 0xFF;
+            turn += getVarint();
+            int card = MatchLogFormat.unzigzag(getVarint());
+            int target = MatchLogFormat.unzigzag(getVarint());
+            int extra = MatchLogFormat.unzigzag(getVarint());
+            log.append(turn, Phase.values()[MatchLogFormat.phase(header)], PlayerType.values()[MatchLogFormat.currentPlayer(header)],
+                    MatchLogFormat.record(header, card, target, extra));
+        }
+        return log;
+    }
+
+    private int getVarint() {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = window.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,158 @@
+package com.avatarduel.dao;
+
+import com.avatarduel.event.EventRecord;
+import com.avatarduel.replay.MatchLog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * MatchLogWriter appends match logs to a binary file, in the format of MatchLogFormat.
+ *
+ * IMPORTANT NOTE:
+ * The file is only appended to, matches already in the file are never changed.
+ * Matches are buffered and the file is only forced to the disk every syncEvery matches and on close,
+ * so a crash can only lose the matches after the last sync.
+ * Many threads can append to the same writer.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class MatchLogWriter implements Closeable {
+    private static final int bufferSize = 1 << 16;
+
+    private final FileChannel channel;
+    private final int syncEvery;
+    private final ByteBuffer buffer;
+    private byte[] scratch;
+    private int unsynced;
+
+    /**
+     * open a file to append, it is created with the file header if it does not exist
+     * @param path the file
+     * @param syncEvery number of matches between two syncs to the disk
+     * @throws IOException if the file can not be opened or is not a match log
+     */
+    public MatchLogWriter(Path path, int syncEvery) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.syncEvery = Math.max(1, syncEvery);
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.scratch = new byte[256];
+        if (channel.size() == 0) {
+            buffer.put(MatchLogFormat.MAGIC).put(MatchLogFormat.VERSION);
+        } else {
+            checkHeader();
+        }
+        channel.position(channel.size());
+    }
+
+    private void checkHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(MatchLogFormat.FILE_HEADER_SIZE);
+        channel.read(header, 0);
+        byte[] magic = Arrays.copyOf(header.array(), MatchLogFormat.MAGIC.length);
+        if (!Arrays.equals(magic, MatchLogFormat.MAGIC) || header.get(MatchLogFormat.MAGIC.length) != MatchLogFormat.VERSION) {
+            channel.close();
+            throw new IOException("Not a match log file");
+        }
+    }
+
+    /**
+     * append one match
+     * @param log the log of the match
+     * @throws IOException if the file can not be written
+     */
+    public synchronized void append(MatchLog log) throws IOException {
+        int length = encode(log);
+        if (buffer.remaining() < MatchLogFormat.MATCH_HEADER_SIZE + length) {
+            flush();
+        }
+        if (buffer.remaining() < MatchLogFormat.MATCH_HEADER_SIZE + length) {
+            // too big for the buffer, written directly
+            ByteBuffer header = ByteBuffer.allocate(MatchLogFormat.MATCH_HEADER_SIZE).putInt(length).putLong(log.getSeed());
+            header.flip();
+            writeFully(header);
+            writeFully(ByteBuffer.wrap(scratch, 0, length));
+        } else {
+            buffer.putInt(length).putLong(log.getSeed()).put(scratch, 0, length);
+        }
+        if (++unsynced >= syncEvery) {
+            sync();
+        }
+    }
+
+    /**
+     * write the buffered matches to the file and force them to the disk
+     * @throws IOException if the file can not be written
+     */
+    public synchronized void sync() throws IOException {
+        flush();
+        channel.force(false);
+        unsynced = 0;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    /**
+     * encode the entries of the log into scratch
+     * @return number of bytes
+     */
+    private int encode(MatchLog log) {
+        int length = 0;
+        length = putVarint(length, log.size());
+        int turn = 0;
+        for (int i = 0; i < log.size(); i++) {
+            EventRecord record = log.getRecord(i);
+            ensure(length + 1 + 4 * 5);
+            scratch[length++] = (byte) MatchLogFormat.entryHeader(record.getType(), log.getPhase(i), log.getPlayer(i), record.getPlayer());
+            length = putVarint(length, log.getTurn(i) - turn);
+            turn = log.getTurn(i);
+            length = putVarint(length, MatchLogFormat.zigzag(record.getCard()));
+            length = putVarint(length, MatchLogFormat.zigzag(record.getTarget()));
+            length = putVarint(length, MatchLogFormat.zigzag(record.getExtra()));
+        }
+        return length;
+    }
+
+    private int putVarint(int position, int value) {
+        ensure(position + 5);
+        while ((value & ~0x7F) != 0) {
+            scratch[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        scratch[position++] = (byte) value;
+        return position;
+    }
+
+    private void ensure(int capacity) {
+        if (capacity > scratch.length) {
+            scratch = Arrays.copyOf(scratch, Math.max(capacity, scratch.length * 2));
+        }
+    }
+
+    /**
+     * sync the buffered matches and close the file
+     * @throws IOException if the file can not be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -8,19 +8,18 @@ import com.avatarduel.model.Game;
 import com.avatarduel.model.card.Card;
 import com.avatarduel.model.card.CharacterCardInField;
 import com.avatarduel.model.card.SkillCard;
-import com.avatarduel.model.card.SkillCardInField;
 import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.type.CardType;
 import com.avatarduel.model.type.Phase;
 import com.avatarduel.model.type.PlayerType;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * ActivateDestroyEvent is a event for activating destroy skill cards.
  * IMPORTANT NOTE:
- * This event will communicate with game singleton instantly, so there are no need to validate
- * In case where event is not possible to do, we throw exception so that the GUI Board can give the
+ * validate tells whether the event can be done without changing the game or throwing.
+ * In case where event is not possible to do, execute throws exception so that the GUI Board can give the
  * error message to the player playing the games
  * @author G10-K03-CardGameOOP
  */
@@ -38,56 +37,77 @@ public class ActivateDestroyEvent implements IEvent {
     }
 
     /**
-     * execute method to run the event invoked by user action
+     * check the event without changing the game
+     * @param game the game this event acts on
+     * @return VALID if execute will not throw, else why it can not be done
      */
     @Override
-    public void execute() throws InvalidOperationException {
-        PlayerType currPlayer = Game.getInstance().getCurrentPlayer();
-        Phase currPhase = Game.getInstance().getCurrentPhase().getPhase();
-        Player opponent = Game.getInstance().getPlayerByType(Game.getInstance().getCurrentOpponent());
-        Player player = Game.getInstance().getPlayerByType(Game.getInstance().getCurrentPlayer());
-        Card destroyCard = player.getHand().stream()
-                .filter(card -> card.getId() == skillID)
-                .findFirst()
-                .orElse(null);
-
-        assert destroyCard != null;
+    public ValidationResult validate(Game game) {
+        Player player = game.getPlayerByType(game.getCurrentPlayer());
+        Card destroyCard = findCard(game);
 
-        if (!currPhase.equals(Phase.MAIN)){
-            throw new InvalidSkillActivationException(new InvalidPhaseCause(Phase.MAIN));
+        if (!GameRule.isPhase(game, Phase.MAIN)){
+            return ValidationResult.INVALID_PHASE;
         }
-
-        if (opponent.getField().getCharacterCardByID(targetID) == null){
-            throw new InvalidSkillActivationException(new InvalidTargetCause(destroyCard.getType()));
+        if (destroyCard == null) {
+            return ValidationResult.CARD_NOT_FOUND;
         }
+        if (findTarget(game) == null){
+            return ValidationResult.TARGET_NOT_FOUND;
+        }
+        if (!GameRule.canPay(player, destroyCard)){
+            return ValidationResult.NOT_ENOUGH_POWER;
+        }
+        return ValidationResult.VALID;
+    }
+
+    /**
+     * execute method to run the event invoked by user action
+     * @param game the game this event acts on
+     */
+    @Override
+    public void execute(Game game) throws InvalidOperationException {
+        Player opponent = game.getPlayerByType(game.getCurrentOpponent());
+        Player player = game.getPlayerByType(game.getCurrentPlayer());
+        Card destroyCard = findCard(game);
+        CharacterCardInField cardInField = findTarget(game);
 
-        if (player.getPower().getCurrent(destroyCard.getElement()) < destroyCard.getPower()){
-            throw new InvalidSkillActivationException(new NotEnoughPowerCause(destroyCard.getElement()));
+        switch (validate(game)) {
+            case INVALID_PHASE: throw new InvalidSkillActivationException(new InvalidPhaseCause(Phase.MAIN));
+            case CARD_NOT_FOUND: throw new InvalidSkillActivationException(new InvalidTargetCause(CardType.SKILL_DESTROY));
+            case TARGET_NOT_FOUND: throw new InvalidSkillActivationException(new InvalidTargetCause(destroyCard.getType()));
+            case NOT_ENOUGH_POWER: throw new InvalidSkillActivationException(new NotEnoughPowerCause(destroyCard.getElement()));
         }
+        UndoRecord undo = game.getUndoRecord();
         // reduce power
-        player.getPower().reduce(destroyCard.getElement(),destroyCard.getPower());
-        CharacterCardInField cardInField = Game.getInstance().getPlayerByType(Game.getInstance().getCurrentOpponent()).getField().getCharCardList()
-                .stream()
-                .filter(c -> c.getCard().getId() == targetID)
-                .findFirst()
-                .orElse(null);
+        undo.reducePower(player, destroyCard.getElement(), destroyCard.getPower());
 
         List<SkillCard> pairedSkillCard = cardInField.getConnectedCard();
         for (SkillCard card: pairedSkillCard) {
-            List<SkillCardInField> list1 = Game.getInstance().getPlayerByType(Game.getInstance().getCurrentPlayer()).getField().getSkillCardList();
-            List<SkillCardInField> list2 = Game.getInstance().getPlayerByType(Game.getInstance().getCurrentOpponent()).getField().getSkillCardList();
-
-            Game.getInstance().getPlayerByType(Game.getInstance().getCurrentPlayer()).getField().setSkillCardList(list1.stream()
-                    .filter(c -> c.getCard().getId() != card.getId())
-                    .collect(Collectors.toList()));
-            Game.getInstance().getPlayerByType(Game.getInstance().getCurrentOpponent()).getField().setSkillCardList(list2.stream()
-                    .filter(c -> c.getCard().getId() != card.getId())
-                    .collect(Collectors.toList()));
+            undo.removeSkill(player, card.getId());
+            undo.removeSkill(opponent, card.getId());
         }
 
         // destroy card
-        opponent.getField().removeCharacterCard(opponent.getField().getCharacterCardByID(targetID));
+        undo.removeCharacter(opponent, cardInField);
         // send destroy card to graveyard
-        player.getHand().remove(destroyCard);
+        undo.removeFromHand(player, destroyCard);
+    }
+
+    private Card findCard(Game game) {
+        Card card = game.getPlayerByType(game.getCurrentPlayer()).getCardInHandByID(skillID);
+        return (card != null && card.getType().equals(CardType.SKILL_DESTROY)) ? card : null;
+    }
+
+    private CharacterCardInField findTarget(Game game) {
+        return game.getPlayerByType(game.getCurrentOpponent()).getCharacterCardByID(targetID);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventRecord toRecord() {
+        return new EventRecord(EventType.ACTIVATE_DESTROY, playerType, skillID, targetID, 0);
     }
 }
@@ -2,11 +2,13 @@ package com.avatarduel.event;
 
 import com.avatarduel.exception.ExceptionCause.FullBoardCause;
 import com.avatarduel.exception.ExceptionCause.InvalidPhaseCause;
+import com.avatarduel.exception.ExceptionCause.InvalidTargetCause;
 import com.avatarduel.exception.ExceptionCause.NoCharacterCardInFieldCause;
 import com.avatarduel.exception.ExceptionCause.NotEnoughPowerCause;
 import com.avatarduel.exception.InvalidOperationException;
 import com.avatarduel.exception.InvalidSkillActivationException;
 import com.avatarduel.model.Game;
+import com.avatarduel.model.card.Card;
 import com.avatarduel.model.card.CharacterCardInField;
 import com.avatarduel.model.card.SkillCard;
 import com.avatarduel.model.player_component.Player;
@@ -21,8 +23,8 @@ import com.avatarduel.model.type.PlayerType;
  * 1. The player who played this card removed it from field
  * 2. The character the card is attached to is removed from field (either destroyed or lose in battle)
  * IMPORTANT NOTE:
- * This event will communicate with game singleton instantly, so there are no need to validate
- * In case where event is not possible to do, we throw exception so that the GUI Board can give the
+ * validate tells whether the event can be done without changing the game or throwing.
+ * In case where event is not possible to do, execute throws exception so that the GUI Board can give the
  * error message to the player playing the games
  * @author G10-K03-CardGameOOP
  */
@@ -41,64 +43,88 @@ public class ActivateSkillEvent implements IEvent {
         this.idTarget = idTarget;
     }
     public ActivateSkillEvent(int idCard, int idTarget, PlayerType playerType) {
-        this(idCard, idTarget, playerType, Game.getInstance().getPlayerByType(playerType).getField().getEmptySkillCardIndex());
+        this(idCard, idTarget, playerType, -1); // index resolved from the field when executed
     }
 
     /**
-     * execute method to run the event invoked by user action
+     * check the event without changing the game
+     * @param game the game this event acts on
+     * @return VALID if execute will not throw, else why it can not be done
      */
     @Override
-    public void execute() throws InvalidOperationException {
-        SkillCard skillCard = (SkillCard) Game.getInstance().getPlayerByType(Game.getInstance().getCurrentPlayer()).getHand()
-                .stream()
-                .filter(card1 -> card1.getId() == idCard && (card1.getType().equals(CardType.SKILL_AURA) || (card1.getType().equals(CardType.SKILL_POWER_UP))))
-                .findFirst()
-                .orElse(null);
+    public ValidationResult validate(Game game) {
+        SkillCard skillCard = findCard(game);
 
-        PlayerType targetedPlayer = Game.getInstance().getCurrentPlayer();
-        CharacterCardInField inField = Game.getInstance().getPlayerByType(targetedPlayer).getField()
-                    .getCharCardList()
-                    .stream()
-                    .filter(c -> c.getCard().getId() == idTarget)
-                    .findFirst()
-                    .orElse(null);
-        if (inField == null) {
-            targetedPlayer = Game.getInstance().getCurrentOpponent();
-            inField = Game.getInstance().getPlayerByType(targetedPlayer).getField()
-                    .getCharCardList()
-                    .stream()
-                    .filter(c -> c.getCard().getId() == idTarget)
-                    .findFirst()
-                    .orElse(null);
+        if (!GameRule.isPhase(game, Phase.MAIN)) {
+            return ValidationResult.INVALID_PHASE;
         }
-
-        Phase currPhase = Game.getInstance().getCurrentPhase().getPhase();
-        PlayerType currPlayer = Game.getInstance().getCurrentPlayer();
-        int currentFieldSize = Game.getInstance().getPlayerByType(playerType).getField().getSkillCardList().size();
-
-
-        if (currPhase != Phase.MAIN) {
-            throw new InvalidSkillActivationException(new InvalidPhaseCause(Phase.MAIN));
+        if (skillCard == null) {
+            return ValidationResult.CARD_NOT_FOUND;
         }
-
-        if (inField == null) {
-            throw new InvalidSkillActivationException(new NoCharacterCardInFieldCause(skillCard.getType()));
+        if (findTarget(game) == null) {
+            return ValidationResult.TARGET_NOT_FOUND;
         }
-
-        if (currentFieldSize >= Game.getInstance().getPlayerByType(playerType).getField().getFieldSize()) {
-            throw new InvalidSkillActivationException(new FullBoardCause(skillCard.getType()));
+        if (!GameRule.hasSkillSlot(game.getPlayerByType(playerType))) {
+            return ValidationResult.FULL_BOARD;
+        }
+        if (index >= 0 && !GameRule.isFreeSkillSlot(game.getPlayerByType(playerType), index)) {
+            return ValidationResult.INVALID_SLOT;
+        }
+        if (!GameRule.canPay(game.getPlayerByType(playerType), skillCard)) {
+            return ValidationResult.NOT_ENOUGH_POWER;
         }
+        return ValidationResult.VALID;
+    }
 
-        if (skillCard.getPower() > Game.getInstance().getPlayerByType(playerType).getPower().getCurrent(skillCard.getElement())) {
-            throw new InvalidSkillActivationException(new NotEnoughPowerCause(skillCard.getElement()));
+    /**
+     * execute method to run the event invoked by user action
+     * @param game the game this event acts on
+     */
+    @Override
+    public void execute(Game game) throws InvalidOperationException {
+        SkillCard skillCard = findCard(game);
+        CharacterCardInField inField = findTarget(game);
+
+        switch (validate(game)) {
+            case INVALID_PHASE: throw new InvalidSkillActivationException(new InvalidPhaseCause(Phase.MAIN));
+            case CARD_NOT_FOUND: throw new InvalidSkillActivationException(new InvalidTargetCause(CardType.SKILL_AURA));
+            case TARGET_NOT_FOUND: throw new InvalidSkillActivationException(new NoCharacterCardInFieldCause(skillCard.getType()));
+            case FULL_BOARD: throw new InvalidSkillActivationException(new FullBoardCause(skillCard.getType()));
+            case INVALID_SLOT: throw new InvalidSkillActivationException(new InvalidTargetCause(skillCard.getType()));
+            case NOT_ENOUGH_POWER: throw new InvalidSkillActivationException(new NotEnoughPowerCause(skillCard.getElement()));
         }
 
-        Player p = Game.getInstance().getPlayerByType(Game.getInstance().getCurrentPlayer());
-        p.getHand().remove(skillCard);
-        p.getField().addSkillCard(skillCard, index, Game.getInstance().getCurrentTurn());
-        inField.pair(skillCard);
-        p.getPower().reduce(skillCard.getElement(), skillCard.getPower()); // kalo error, dia ga kekurang powernya jdny
+        Player p = game.getPlayerByType(game.getCurrentPlayer());
+        int fieldIndex = (index >= 0) ? index : p.getField().getEmptySkillCardIndex();
+        UndoRecord undo = game.getUndoRecord();
+        undo.removeFromHand(p, skillCard);
+        undo.addSkill(p, skillCard, fieldIndex, game.getCurrentTurn());
+        undo.setPairedCharacter(p, p.getSkillCardByID(skillCard.getId()), inField);
+        undo.pair(inField, skillCard);
+        undo.reducePower(p, skillCard.getElement(), skillCard.getPower()); // kalo error, dia ga kekurang powernya jdny
+
+    }
+
+    private SkillCard findCard(Game game) {
+        Card card = game.getPlayerByType(game.getCurrentPlayer()).getCardInHandByID(idCard);
+        return (card != null && (card.getType().equals(CardType.SKILL_AURA) || card.getType().equals(CardType.SKILL_POWER_UP)))
+                ? (SkillCard) card
+                : null;
+    }
 
+    private CharacterCardInField findTarget(Game game) {
+        CharacterCardInField inField = game.getPlayerByType(game.getCurrentPlayer()).getCharacterCardByID(idTarget);
+        if (inField == null) {
+            inField = game.getPlayerByType(game.getCurrentOpponent()).getCharacterCardByID(idTarget);
+        }
+        return inField;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventRecord toRecord() {
+        return new EventRecord(EventType.ACTIVATE_SKILL, playerType, idCard, idTarget, index);
+    }
 }
@@ -1,21 +1,22 @@
 package com.avatarduel.event;
 
+import com.avatarduel.exception.ExceptionCause.AttackInDefensePositionCause;
 import com.avatarduel.exception.ExceptionCause.AttackOnTheCreatedTurnCause;
 import com.avatarduel.exception.ExceptionCause.InvalidPhaseCause;
+import com.avatarduel.exception.ExceptionCause.InvalidTargetCause;
 import com.avatarduel.exception.ExceptionCause.MultipleAttackOnTheSameTurnCause;
 import com.avatarduel.exception.InvalidAttackException;
 import com.avatarduel.exception.InvalidOperationException;
 import com.avatarduel.model.Game;
 import com.avatarduel.model.card.CharacterCardInField;
 import com.avatarduel.model.card.SkillCard;
-import com.avatarduel.model.card.SkillCardInField;
-import com.avatarduel.model.player_component.Field;
+import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.type.CardType;
 import com.avatarduel.model.type.CharacterState;
 import com.avatarduel.model.type.Phase;
 import com.avatarduel.model.type.PlayerType;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * AttackEvent is a event for attacking other opponent character.
@@ -25,8 +26,9 @@ import java.util.stream.Collectors;
  * If other opponent character that being attacked destroyed, all skill card equipped to that card will be destroyed
  *
  * IMPORTANT NOTE:
- * This event will communicate with game singleton instantly, so there are no need to validate
- * In case where event is not possible to do, we throw exception so that the GUI Board can give the
+ * validate tells whether the event can be done without changing the game or throwing.
+ * The attacking character is checked by GameRule.checkAttacker, the same check MoveGenerator uses.
+ * In case where event is not possible to do, execute throws exception so that the GUI Board can give the
  * error message to the player playing the games
  *
  * Also, this event only handle attack other monster case. In case for direct attack, it will be handled by DirectAttackEvent
@@ -48,63 +50,71 @@ public class AttackEvent implements IEvent {
     }
 
     /**
-     * execute method to run the event invoked by user action
+     * check the event without changing the game
+     * @param game the game this event acts on
+     * @return VALID if execute will not throw, else why it can not be done
      */
     @Override
-    public void execute() throws InvalidOperationException{
-        CharacterCardInField attackChar = Game.getInstance()
-                .getPlayerByType(attacker)
-                .getField()
-                .getCharacterCardByID(attackCharacterId);
-
-        CharacterCardInField defenseChar = Game.getInstance()
-                .getPlayerByType(defender)
-                .getField()
-                .getCharacterCardByID(defenseCharacterId);
+    public ValidationResult validate(Game game) {
+        CharacterCardInField attackChar = game.getPlayerByType(attacker).getCharacterCardByID(attackCharacterId);
 
-        Field f1 = Game.getInstance().getPlayerByType(attacker).getField();
-        Field f2 = Game.getInstance().getPlayerByType(defender).getField();
-        int currentTurn = Game.getInstance().getCurrentTurn();
-        Phase currPhase = Game.getInstance().getCurrentPhase().getPhase();
-        PlayerType currPlayer = Game.getInstance().getCurrentPlayer();
-
-        if (!currPhase.equals(Phase.BATTLE)){
-            throw new InvalidAttackException(new InvalidPhaseCause(Phase.BATTLE));
+        ValidationResult result = GameRule.checkAttacker(game, attackChar);
+        if (!result.isValid()) {
+            return result;
         }
-
-        if (f1.getCharacterCardByID(attackCharacterId).getCreatedAtTurn() == currentTurn) {
-            throw new InvalidAttackException(new AttackOnTheCreatedTurnCause());
+        if (defender != game.getCurrentOpponent()) {
+            return ValidationResult.INVALID_DEFENDER;
         }
-
-        if (f1.getCharacterCardByID(attackCharacterId).hasAttacked){
-            throw new InvalidAttackException(new MultipleAttackOnTheSameTurnCause());
+        if (game.getPlayerByType(defender).getCharacterCardByID(defenseCharacterId) == null) {
+            return ValidationResult.TARGET_NOT_FOUND;
         }
+        return ValidationResult.VALID;
+    }
 
-        if (defender != Game.getInstance().getCurrentOpponent()) {
-            throw new InvalidAttackException(new AttackOnTheCreatedTurnCause());
+    /**
+     * execute method to run the event invoked by user action
+     * @param game the game this event acts on
+     */
+    @Override
+    public void execute(Game game) throws InvalidOperationException {
+        Player attackPlayer = game.getPlayerByType(attacker);
+        Player defensePlayer = game.getPlayerByType(defender);
+        CharacterCardInField attackChar = attackPlayer.getCharacterCardByID(attackCharacterId);
+        CharacterCardInField defenseChar = defensePlayer.getCharacterCardByID(defenseCharacterId);
+
+        switch (validate(game)) {
+            case INVALID_PHASE: throw new InvalidAttackException(new InvalidPhaseCause(Phase.BATTLE));
+            case CARD_NOT_FOUND:
+            case TARGET_NOT_FOUND: throw new InvalidAttackException(new InvalidTargetCause(CardType.CHARACTER));
+            case CREATED_THIS_TURN:
+            case INVALID_DEFENDER: throw new InvalidAttackException(new AttackOnTheCreatedTurnCause());
+            case ALREADY_ATTACKED: throw new InvalidAttackException(new MultipleAttackOnTheSameTurnCause());
+            case NOT_ATTACK_POSITION: throw new InvalidAttackException(new AttackInDefensePositionCause());
         }
 
+        UndoRecord undo = game.getUndoRecord();
         int diff = attackChar.getCurrentTotal() - defenseChar.getCurrentTotal();
-        attackChar.hasAttacked = true; // nandain dia uda attack jd ga bisa attack lagi
+        undo.setHasAttacked(attackPlayer, attackChar, true); // nandain dia uda attack jd ga bisa attack lagi
         // artinya menang
         if (diff >= 0) {
             if (defenseChar.getPosition().equals(CharacterState.ATTACK) || attackChar.isPowerUp()) { // pierce effect
-                Game.getInstance().getPlayerByType(defender).setHealthPoint(Game.getInstance().getPlayerByType(defender).getHealthPoint()- diff);
+                undo.setHealthPoint(defensePlayer, defensePlayer.getHealthPoint()- diff);
             }
 
             List<SkillCard> pairedSkillCard = defenseChar.getConnectedCard();
             for (SkillCard card: pairedSkillCard) {
-                List<SkillCardInField> list1 = Game.getInstance().getPlayerByType(Game.getInstance().getCurrentPlayer()).getField().getSkillCardList();
-                List<SkillCardInField> list2 = Game.getInstance().getPlayerByType(Game.getInstance().getCurrentOpponent()).getField().getSkillCardList();
-
-                Game.getInstance().getPlayerByType(Game.getInstance().getCurrentPlayer()).getField().setSkillCardList(list1.stream()
-                        .filter(c -> c.getCard().getId() != card.getId())
-                        .collect(Collectors.toList()));
-                Game.getInstance().getPlayerByType(Game.getInstance().getCurrentOpponent()).getField().setSkillCardList(list2.stream()
-                        .filter(c -> c.getCard().getId() != card.getId())
-                        .collect(Collectors.toList()));
+                undo.removeSkill(attackPlayer, card.getId());
+                undo.removeSkill(defensePlayer, card.getId());
             }
-            Game.getInstance().getPlayerByType(defender).removeCharacterFromFieldByID(defenseCharacterId); // hancurin kartu lawan
+            undo.removeCharacter(defensePlayer, defenseChar); // hancurin kartu lawan
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventRecord toRecord() {
+        return new EventRecord(EventType.ATTACK, attacker, attackCharacterId, defenseCharacterId, 0);
+    }
 }
@@ -1,9 +1,12 @@
 package com.avatarduel.event;
 
 import com.avatarduel.exception.ExceptionCause.InvalidPhaseCause;
+import com.avatarduel.exception.ExceptionCause.InvalidTargetCause;
 import com.avatarduel.exception.InvalidOperationException;
 import com.avatarduel.exception.InvalidRotateException;
 import com.avatarduel.model.Game;
+import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.type.CardType;
 import com.avatarduel.model.type.Phase;
 import com.avatarduel.model.type.PlayerType;
 
@@ -16,8 +19,8 @@ import com.avatarduel.model.type.PlayerType;
  * While if the character being targeted by attack event in Defense Position, then the stats that counted were the Def
  *
  * IMPORTANT NOTE:
- * This event will communicate with game singleton instantly, so there are no need to validate
- * In case where event is not possible to do, we throw exception so that the GUI Board can give the
+ * validate tells whether the event can be done without changing the game or throwing.
+ * In case where event is not possible to do, execute throws exception so that the GUI Board can give the
  * error message to the player playing the games
  *
  * @author G10-K03-CardGameOOP
@@ -34,16 +37,41 @@ public class ChangePositionEvent implements IEvent {
     }
 
     /**
-     * execute method to run the event invoked by user action
+     * check the event without changing the game
+     * @param game the game this event acts on
+     * @return VALID if execute will not throw, else why it can not be done
      */
     @Override
-    public void execute() throws InvalidOperationException {
-        Phase currPhase = Game.getInstance().getCurrentPhase().getPhase();
+    public ValidationResult validate(Game game) {
+        if (!GameRule.isPhase(game, Phase.MAIN)){
+            return ValidationResult.INVALID_PHASE;
+        }
+        if (game.getPlayerByType(p).getCharacterCardByID(characterId) == null) {
+            return ValidationResult.CARD_NOT_FOUND;
+        }
+        return ValidationResult.VALID;
+    }
 
-        if (currPhase != Phase.MAIN){
-            throw new InvalidRotateException(new InvalidPhaseCause(Phase.MAIN));
+    /**
+     * execute method to run the event invoked by user action
+     * @param game the game this event acts on
+     */
+    @Override
+    public void execute(Game game) throws InvalidOperationException {
+        switch (validate(game)) {
+            case INVALID_PHASE: throw new InvalidRotateException(new InvalidPhaseCause(Phase.MAIN));
+            case CARD_NOT_FOUND: throw new InvalidRotateException(new InvalidTargetCause(CardType.CHARACTER));
         }
 
-        Game.getInstance().getPlayerByType(p).getField().getCharacterCardByID(characterId).switchPosition();
+        Player player = game.getPlayerByType(p);
+        game.getUndoRecord().switchPosition(player, player.getCharacterCardByID(characterId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventRecord toRecord() {
+        return new EventRecord(EventType.CHANGE_POSITION, p, characterId, 0, 0);
     }
 }
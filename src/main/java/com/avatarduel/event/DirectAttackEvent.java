@@ -1,24 +1,29 @@
 package com.avatarduel.event;
 
+import com.avatarduel.exception.ExceptionCause.AttackInDefensePositionCause;
 import com.avatarduel.exception.ExceptionCause.AttackOnTheCreatedTurnCause;
+import com.avatarduel.exception.ExceptionCause.DirectAttackWithCharacterCause;
+import com.avatarduel.exception.ExceptionCause.InvalidPhaseCause;
+import com.avatarduel.exception.ExceptionCause.InvalidTargetCause;
 import com.avatarduel.exception.ExceptionCause.MultipleAttackOnTheSameTurnCause;
 import com.avatarduel.exception.InvalidAttackException;
 import com.avatarduel.exception.InvalidOperationException;
 import com.avatarduel.model.Game;
 import com.avatarduel.model.card.CharacterCardInField;
-import com.avatarduel.model.player_component.Field;
 import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.type.CardType;
 import com.avatarduel.model.type.Phase;
 import com.avatarduel.model.type.PlayerType;
 
 /**
  * DirectAttackEvent is a event for attacking other opponent directly.
  *
- * Only valid when there are no character in opponent field
+ * Only valid in Battle Phase, when there are no character in opponent field
  *
  * IMPORTANT NOTE:
- * This event will communicate with game singleton instantly, so there are no need to validate
- * In case where event is not possible to do, we throw exception so that the GUI Board can give the
+ * validate tells whether the event can be done without changing the game or throwing.
+ * The attacking character is checked by GameRule.checkAttacker, the same check MoveGenerator uses.
+ * In case where event is not possible to do, execute throws exception so that the GUI Board can give the
  * error message to the player playing the games
  *
  * @author G10-K03-CardGameOOP
@@ -35,31 +40,52 @@ public class DirectAttackEvent implements IEvent {
     }
 
     /**
-     * execute method to run the event invoked by user action
+     * check the event without changing the game
+     * @param game the game this event acts on
+     * @return VALID if execute will not throw, else why it can not be done
      */
     @Override
-    public void execute()  throws InvalidOperationException {
-        Field f1 = Game.getInstance()
-                .getPlayerByType(player)
-                .getField();
-        int currentTurn = Game.getInstance().getCurrentTurn();
-        Phase currPhase = Game.getInstance().getCurrentPhase().getPhase();
-        PlayerType currPlayer = Game.getInstance().getCurrentPlayer();
-        CharacterCardInField attackChar = Game.getInstance()
-                .getPlayerByType(player)
-                .getField()
-                .getCharacterCardByID(attackCharacterId);
+    public ValidationResult validate(Game game) {
+        CharacterCardInField attackChar = game.getPlayerByType(player).getCharacterCardByID(attackCharacterId);
 
-        if (f1.getCharacterCardByID(attackCharacterId).getCreatedAtTurn() == currentTurn){
-            throw new InvalidAttackException(new AttackOnTheCreatedTurnCause());
+        ValidationResult result = GameRule.checkAttacker(game, attackChar);
+        if (!result.isValid()) {
+            return result;
+        }
+        if (!GameRule.canDirectAttack(game)) {
+            return ValidationResult.OPPONENT_HAS_CHARACTER;
         }
+        return ValidationResult.VALID;
+    }
 
-        if (f1.getCharacterCardByID(attackCharacterId).hasAttacked) {
-            throw new InvalidAttackException(new MultipleAttackOnTheSameTurnCause());
+    /**
+     * execute method to run the event invoked by user action
+     * @param game the game this event acts on
+     */
+    @Override
+    public void execute(Game game) throws InvalidOperationException {
+        CharacterCardInField attackChar = game.getPlayerByType(player).getCharacterCardByID(attackCharacterId);
+
+        switch (validate(game)) {
+            case INVALID_PHASE: throw new InvalidAttackException(new InvalidPhaseCause(Phase.BATTLE));
+            case CARD_NOT_FOUND: throw new InvalidAttackException(new InvalidTargetCause(CardType.CHARACTER));
+            case CREATED_THIS_TURN: throw new InvalidAttackException(new AttackOnTheCreatedTurnCause());
+            case ALREADY_ATTACKED: throw new InvalidAttackException(new MultipleAttackOnTheSameTurnCause());
+            case NOT_ATTACK_POSITION: throw new InvalidAttackException(new AttackInDefensePositionCause());
+            case OPPONENT_HAS_CHARACTER: throw new InvalidAttackException(new DirectAttackWithCharacterCause());
         }
 
-        attackChar.hasAttacked = true; // change state monster yang uda nyerang
-        Player p2 = Game.getInstance().getPlayerByType(Game.getInstance().getCurrentOpponent()); // ambil reference player 2
-        p2.setHealthPoint(p2.getHealthPoint() - attackChar.getTotalAttack()); // kurangin health point player lawan
+        UndoRecord undo = game.getUndoRecord();
+        undo.setHasAttacked(game.getPlayerByType(player), attackChar, true); // change state monster yang uda nyerang
+        Player p2 = game.getPlayerByType(game.getCurrentOpponent()); // ambil reference player 2
+        undo.setHealthPoint(p2, p2.getHealthPoint() - attackChar.getTotalAttack()); // kurangin health point player lawan
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventRecord toRecord() {
+        return new EventRecord(EventType.DIRECT_ATTACK, player, attackCharacterId, 0, 0);
     }
 }
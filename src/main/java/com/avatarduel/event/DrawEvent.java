@@ -1,6 +1,11 @@
 package com.avatarduel.event;
 
+import com.avatarduel.exception.ExceptionCause.EmptyDeckCause;
+import com.avatarduel.exception.ExceptionCause.InvalidPhaseCause;
+import com.avatarduel.exception.InvalidDrawException;
+import com.avatarduel.exception.InvalidOperationException;
 import com.avatarduel.model.Game;
+import com.avatarduel.model.type.Phase;
 import com.avatarduel.model.type.PlayerType;
 
 /**
@@ -8,11 +13,11 @@ import com.avatarduel.model.type.PlayerType;
  * Only valid in Draw Phase
  *
  * IMPORTANT NOTE:
- * This event will communicate with game singleton instantly, so there are no need to validate
- * In case where event is not possible to do, we throw exception so that the GUI Board can give the
+ * validate tells whether the event can be done without changing the game or throwing.
+ * In case where event is not possible to do, execute throws exception so that the GUI Board can give the
  * error message to the player playing the games
  *
- * This event can only be used if there are more than 1 card left in the deck
+ * This event can only be used if there is a card left in the deck, the player who draws the last card loses
  * @author G10-K03-CardGameOOP
  */
 
@@ -22,13 +27,43 @@ public class DrawEvent implements IEvent {
         this.playerType = type;
     }
 
+    /**
+     * check the event without changing the game
+     * @param game the game this event acts on
+     * @return VALID if execute will not throw, else why it can not be done
+     */
+    @Override
+    public ValidationResult validate(Game game) {
+        if (!GameRule.isPhase(game, Phase.DRAW)) {
+            return ValidationResult.INVALID_PHASE;
+        }
+        if (!GameRule.canDraw(game.getPlayerByType(game.getCurrentPlayer()))) {
+            return ValidationResult.EMPTY_DECK;
+        }
+        return ValidationResult.VALID;
+    }
+
     /**
      * execute method to run the event invoked by user action
+     * @param game the game this event acts on
      */
     @Override
-    public void execute() {
-        Game.getInstance().getPlayerByType(Game.getInstance().getCurrentPlayer()).draw();
-        Game.getInstance().nextPhase();  // pindah ke next phase
+    public void execute(Game game) throws InvalidOperationException {
+        switch (validate(game)) {
+            case INVALID_PHASE: throw new InvalidDrawException(new InvalidPhaseCause(Phase.DRAW));
+            case EMPTY_DECK: throw new InvalidDrawException(new EmptyDeckCause());
+        }
+
+        UndoRecord undo = game.getUndoRecord();
+        undo.draw(game.getPlayerByType(game.getCurrentPlayer()));
+        undo.nextPhase(game);  // pindah ke next phase
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventRecord toRecord() {
+        return new EventRecord(EventType.DRAW, playerType, 0, 0, 0);
+    }
 }
@@ -1,15 +1,14 @@
 package com.avatarduel.event;
 
+import com.avatarduel.model.Game;
 import com.avatarduel.model.type.Phase;
 
-import static com.avatarduel.model.Game.getInstance;
-
 /**
  * EndTurnEvent is a event for ending a player turn.
  * This event cause the game instance to switch the current player into other player, and refresh all the states for other player (such as the power and character attack behavior)
  *
  * IMPORTANT NOTE:
- * This event will communicate with game singleton instantly, so there are no need to validate
+ * This event will communicate with the game it is executed on instantly, so there are no need to validate
  * In case where event is not possible to do, we throw exception so that the GUI Board can give the
  * error message to the player playing the games
  * @author G10-K03-CardGameOOP
@@ -22,20 +21,36 @@ public class EndTurnEvent implements IEvent {
 
     /**
      * execute method to run the event invoked by user action
+     * @param game the game this event acts on
      */
     @Override
-    public void execute()  {
-        while(getInstance().getCurrentPhase().getPhase() != Phase.END) {
-            getInstance().nextPhase();
+    public void execute(Game game) {
+        UndoRecord undo = game.getUndoRecord();
+        while(game.getCurrentPhase().getPhase() != Phase.END) {
+            undo.nextPhase(game);
         }
-        getInstance().nextPlayer(); // Player A -> Player B, begitu sebaliknya
-        getInstance().incrementTurn(); // Game State naikin turn + 1
-        getInstance().nextPhase(); // EndPhase -> DrawPhase
-        getInstance().getPlayerByType(getInstance().getCurrentPlayer()).refreshState();  // refresh state pemain pada draw phase
+        undo.nextPlayer(game); // Player A -> Player B, begitu sebaliknya
+        undo.incrementTurn(game); // Game State naikin turn + 1
+        undo.nextPhase(game); // EndPhase -> DrawPhase
+        undo.refreshState(game.getPlayerByType(game.getCurrentPlayer()));  // refresh state pemain pada draw phase
     }
 
-    public boolean validate() {
-        Phase currPhase = getInstance().getCurrentPhase().getPhase();
-        return (currPhase.equals(Phase.MAIN) || currPhase.equals(Phase.BATTLE));
+    /**
+     * a player can only end the turn in main or battle phase, execute itself ends the turn from any phase
+     * @param game the game this event acts on
+     * @return VALID if the phase is main or battle, else INVALID_PHASE
+     */
+    @Override
+    public ValidationResult validate(Game game) {
+        Phase currPhase = game.getCurrentPhase().getPhase();
+        return (currPhase.equals(Phase.MAIN) || currPhase.equals(Phase.BATTLE)) ? ValidationResult.VALID : ValidationResult.INVALID_PHASE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventRecord toRecord() {
+        return new EventRecord(EventType.END_TURN, null, 0, 0, 0);
     }
 }
@@ -0,0 +1,103 @@
+package com.avatarduel.event;
+
+import com.avatarduel.model.type.CharacterState;
+import com.avatarduel.model.type.PlayerType;
+
+import java.util.Objects;
+
+/**
+ * EventRecord is the type and arguments of an event as plain values, so the event can be stored and made again.
+ *
+ * IMPORTANT NOTE:
+ * Every event fits in the same fields : the player doing it, a card id, a target and one extra number.
+ * The meaning of card, target and extra depends on the type, fields an event does not need are 0.
+ * SUMMON keeps the position ordinal as target and the field index as extra,
+ * ACTIVATE_SKILL keeps the field index as extra, -1 when it is chosen on execute.
+ * @author G10-K03-CardGameOOP
+ */
+
+public final class EventRecord {
+    private final EventType type;
+    private final PlayerType player;
+    private final int card;
+    private final int target;
+    private final int extra;
+
+    /**
+     * @param type the kind of event
+     * @param player the player doing the event, null for NEXT_PHASE and END_TURN
+     * @param card id of the card used
+     * @param target id of the target card, or the position for SUMMON
+     * @param extra field index for SUMMON and ACTIVATE_SKILL
+     */
+    public EventRecord(EventType type, PlayerType player, int card, int target, int extra) {
+        this.type = type;
+        this.player = player;
+        this.card = card;
+        this.target = target;
+        this.extra = extra;
+    }
+
+    public EventType getType() {
+        return type;
+    }
+
+    public PlayerType getPlayer() {
+        return player;
+    }
+
+    public int getCard() {
+        return card;
+    }
+
+    public int getTarget() {
+        return target;
+    }
+
+    public int getExtra() {
+        return extra;
+    }
+
+    /**
+     * make the event again
+     * @return a new event equal to the recorded one
+     */
+    public IEvent toEvent() {
+        switch (type) {
+            case DRAW: return new DrawEvent(player);
+            case NEXT_PHASE: return new NextPhaseEvent();
+            case END_TURN: return new EndTurnEvent();
+            case PLAY_LAND: return new PlayLandCardEvent(card, player);
+            case SUMMON: return new SummonEvent(card, player, CharacterState.values()[target], extra);
+            case ACTIVATE_SKILL: return new ActivateSkillEvent(card, target, player, extra);
+            case ACTIVATE_DESTROY: return new ActivateDestroyEvent(player, card, target);
+            case CHANGE_POSITION: return new ChangePositionEvent(player, card);
+            case REMOVE_SKILL: return new RemoveSkillCardEvent(card, player);
+            case ATTACK: return new AttackEvent(card, target, player, (player == PlayerType.A) ? PlayerType.B : PlayerType.A);
+            case DIRECT_ATTACK: return new DirectAttackEvent(card, player);
+        }
+        throw new IllegalStateException("Unknown event type " + type);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EventRecord)) {
+            return false;
+        }
+        EventRecord other = (EventRecord) o;
+        return type == other.type && player == other.player && card == other.card && target == other.target && extra == other.extra;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, player, card, target, extra);
+    }
+
+    @Override
+    public String toString() {
+        return type + "(" + player + ", " + card + ", " + target + ", " + extra + ")";
+    }
+}
@@ -0,0 +1,20 @@
+package com.avatarduel.event;
+
+/**
+ * An enum class for every kind of event, used to write events into a match log and read them back
+ * @author G10-K03-CardGameOOP
+ */
+
+public enum EventType {
+    DRAW,
+    NEXT_PHASE,
+    END_TURN,
+    PLAY_LAND,
+    SUMMON,
+    ACTIVATE_SKILL,
+    ACTIVATE_DESTROY,
+    CHANGE_POSITION,
+    REMOVE_SKILL,
+    ATTACK,
+    DIRECT_ATTACK
+}
@@ -0,0 +1,133 @@
+package com.avatarduel.event;
+
+import com.avatarduel.model.Game;
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.card.CharacterCardInField;
+import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.type.CharacterState;
+import com.avatarduel.model.type.Phase;
+
+/**
+ * GameRule has the rule checks of the game, used by the events and by MoveGenerator.
+ *
+ * IMPORTANT NOTE:
+ * The checks only read the game, they never change it or throw.
+ * The events decide which exception to throw when a check fails.
+ * @author G10-K03-CardGameOOP
+ */
+
+public final class GameRule {
+
+    private GameRule() {
+    }
+
+    public static boolean isPhase(Game game, Phase phase) {
+        return game.getCurrentPhase().getPhase() == phase;
+    }
+
+    /**
+     * @param player the player playing the card
+     * @param card the card played
+     * @return true if the player has enough power of the card element
+     */
+    public static boolean canPay(Player player, Card card) {
+        return player.getPower().canAfford(card.getElement(), card.getPower());
+    }
+
+    public static boolean hasCharacterSlot(Player player) {
+        return player.getField().isAbleToAddChar();
+    }
+
+    public static boolean hasSkillSlot(Player player) {
+        return player.getField().isAbleToAddSkill();
+    }
+
+    /**
+     * @param player the player
+     * @param index slot index asked by the event
+     * @return true if the character can be put in the slot of the index
+     */
+    public static boolean isFreeCharacterSlot(Player player, int index) {
+        return player.getField().isCharacterSlotFree(index);
+    }
+
+    /**
+     * @param player the player
+     * @param index slot index asked by the event
+     * @return true if the skill card can be put in the slot of the index
+     */
+    public static boolean isFreeSkillSlot(Player player, int index) {
+        return player.getField().isSkillSlotFree(index);
+    }
+
+    /**
+     * @param player the player drawing
+     * @return true if the deck of the player has a card left
+     */
+    public static boolean canDraw(Player player) {
+        return player.getDeck().size() > 0;
+    }
+
+    /**
+     * only one land card can be played in a turn
+     * @param player the player
+     * @return true if the player has not played a land card this turn
+     */
+    public static boolean canPlayLand(Player player) {
+        return !player.hasPlayLand();
+    }
+
+    /**
+     * a character can not attack on the turn it is summoned
+     * @param game the game
+     * @param character the character
+     * @return true if the character is summoned this turn
+     */
+    public static boolean isSummonedThisTurn(Game game, CharacterCardInField character) {
+        return character.getCreatedAtTurn() == game.getCurrentTurn();
+    }
+
+    /**
+     * the checks of an attacking character, shared by AttackEvent, DirectAttackEvent and MoveGenerator
+     * @param game the game
+     * @param character character of the current player, null if it is not found
+     * @return VALID if the character can attack now, else why it can not
+     */
+    public static ValidationResult checkAttacker(Game game, CharacterCardInField character) {
+        if (!isPhase(game, Phase.BATTLE)) {
+            return ValidationResult.INVALID_PHASE;
+        }
+        if (character == null) {
+            return ValidationResult.CARD_NOT_FOUND;
+        }
+        if (isSummonedThisTurn(game, character)) {
+            return ValidationResult.CREATED_THIS_TURN;
+        }
+        if (character.hasAttacked()) {
+            return ValidationResult.ALREADY_ATTACKED;
+        }
+        if (character.getPosition() != CharacterState.ATTACK) {
+            return ValidationResult.NOT_ATTACK_POSITION;
+        }
+        return ValidationResult.VALID;
+    }
+
+    /**
+     * @param game the game
+     * @param character character of the current player
+     * @return true if it is the battle phase, and the character is in attack position, has not attacked
+     * and is not summoned this turn
+     */
+    public static boolean canAttack(Game game, CharacterCardInField character) {
+        return checkAttacker(game, character).isValid();
+    }
+
+    /**
+     * the current player can attack the opponent directly only if the opponent has no character
+     * @param game the game
+     * @return true if the opponent has no character in the field
+     */
+    public static boolean canDirectAttack(Game game) {
+        return game.getPlayerByType(game.getCurrentOpponent()).getField().getCharacterCount() == 0;
+    }
+}
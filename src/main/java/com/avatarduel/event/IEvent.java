@@ -1,19 +1,38 @@
 package com.avatarduel.event;
 
 import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.model.Game;
 
 /**
  * IEvent is an interface which use to various event classes in event package.
  *
  * IMPORTANT NOTE:
- * IEvent only has one method "execute" that will throw InvalidOperationException
+ * IEvent has the method "execute" that will throw InvalidOperationException
  * if and only if the method in the classes doesn't fullify the spesification.
+ * validate does the same checks without throwing or changing the game, so bots can try many events cheaply.
+ * The game the event acts on is passed to execute, so one event class can be used by many games at once.
+ * toRecord gives the type and arguments of the event, so it can be written into a match log and made again.
  * @author G10-K03-CardGameOOP
  */
 
 public interface IEvent {
     /**
      * execute method to run the event invoked by user action
+     * @param game the game this event acts on
      */
-    public void execute() throws InvalidOperationException;
+    public void execute(Game game) throws InvalidOperationException;
+
+    /**
+     * check the event without changing the game
+     * @param game the game this event acts on
+     * @return VALID if execute will not throw, else why it can not be done
+     */
+    public default ValidationResult validate(Game game) {
+        return ValidationResult.VALID;
+    }
+
+    /**
+     * @return the type and arguments of the event
+     */
+    public EventRecord toRecord();
 }
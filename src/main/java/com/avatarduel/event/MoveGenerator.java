@@ -0,0 +1,134 @@
+package com.avatarduel.event;
+
+import com.avatarduel.model.Game;
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.card.CharacterCardInField;
+import com.avatarduel.model.card.SkillCardInField;
+import com.avatarduel.model.player_component.Field;
+import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.type.CharacterState;
+import com.avatarduel.model.type.PlayerType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MoveGenerator lists every event the current player is allowed to do, without running any of them.
+ *
+ * IMPORTANT NOTE:
+ * The moves are checked with GameRule, the same checks used by the events, so running a listed move never throws.
+ * A summoned character is put in the first empty slot, the slot does not change the game.
+ * In the draw phase the only move is drawing, there is no move when the deck is empty since the game is over.
+ * @author G10-K03-CardGameOOP
+ */
+
+public final class MoveGenerator {
+
+    private MoveGenerator() {
+    }
+
+    /**
+     * @param game the game
+     * @return every move the current player can do
+     */
+    public static List<IEvent> generate(Game game) {
+        List<IEvent> moves = new ArrayList<>();
+        generate(game, moves);
+        return moves;
+    }
+
+    /**
+     * put every move the current player can do in the list
+     * @param game the game
+     * @param moves list where the moves are added
+     */
+    public static void generate(Game game, List<IEvent> moves) {
+        switch (game.getCurrentPhase().getPhase()) {
+            case DRAW:
+                if (GameRule.canDraw(game.getPlayerByType(game.getCurrentPlayer()))) {
+                    moves.add(new DrawEvent(game.getCurrentPlayer()));
+                }
+                break;
+            case MAIN:
+                addMainMoves(game, moves);
+                moves.add(new NextPhaseEvent());
+                moves.add(new EndTurnEvent());
+                break;
+            case BATTLE:
+                addBattleMoves(game, moves);
+                moves.add(new NextPhaseEvent());
+                break;
+            default:
+                moves.add(new NextPhaseEvent());
+        }
+    }
+
+    private static void addMainMoves(Game game, List<IEvent> moves) {
+        PlayerType playerType = game.getCurrentPlayer();
+        Player player = game.getPlayerByType(playerType);
+        Field field = player.getField();
+        Field opponentField = game.getPlayerByType(game.getCurrentOpponent()).getField();
+
+        for (Card card : player.getHand()) {
+            switch (card.getType()) {
+                case LAND:
+                    if (GameRule.canPlayLand(player)) {
+                        moves.add(new PlayLandCardEvent(card.getId(), playerType));
+                    }
+                    break;
+                case CHARACTER:
+                    if (GameRule.hasCharacterSlot(player) && GameRule.canPay(player, card)) {
+                        int index = field.getEmptyCharacterIndex();
+                        moves.add(new SummonEvent(card.getId(), playerType, CharacterState.ATTACK, index));
+                        moves.add(new SummonEvent(card.getId(), playerType, CharacterState.DEFENSE, index));
+                    }
+                    break;
+                case SKILL_AURA:
+                case SKILL_POWER_UP:
+                    if (GameRule.hasSkillSlot(player) && GameRule.canPay(player, card)) {
+                        for (CharacterCardInField target : field.getCharCardList()) {
+                            moves.add(new ActivateSkillEvent(card.getId(), target.getCard().getId(), playerType));
+                        }
+                        for (CharacterCardInField target : opponentField.getCharCardList()) {
+                            moves.add(new ActivateSkillEvent(card.getId(), target.getCard().getId(), playerType));
+                        }
+                    }
+                    break;
+                case SKILL_DESTROY:
+                    if (GameRule.canPay(player, card)) {
+                        for (CharacterCardInField target : opponentField.getCharCardList()) {
+                            moves.add(new ActivateDestroyEvent(playerType, card.getId(), target.getCard().getId()));
+                        }
+                    }
+                    break;
+            }
+        }
+        for (CharacterCardInField character : field.getCharCardList()) {
+            moves.add(new ChangePositionEvent(playerType, character.getCard().getId()));
+        }
+        for (SkillCardInField skill : field.getSkillCardList()) {
+            if (skill.getPairedCharacter() != null) {
+                moves.add(new RemoveSkillCardEvent(skill.getCard().getId(), playerType));
+            }
+        }
+    }
+
+    private static void addBattleMoves(Game game, List<IEvent> moves) {
+        PlayerType playerType = game.getCurrentPlayer();
+        List<CharacterCardInField> opponentChars = game.getPlayerByType(game.getCurrentOpponent()).getField().getCharCardList();
+
+        for (CharacterCardInField character : game.getPlayerByType(playerType).getField().getCharCardList()) {
+            if (!GameRule.canAttack(game, character)) {
+                continue;
+            }
+            if (GameRule.canDirectAttack(game)) {
+                moves.add(new DirectAttackEvent(character.getCard().getId(), playerType));
+            } else {
+                for (CharacterCardInField target : opponentChars) {
+                    moves.add(new AttackEvent(character.getCard().getId(), target.getCard().getId(), playerType, game.getCurrentOpponent()));
+                }
+            }
+        }
+    }
+
+}
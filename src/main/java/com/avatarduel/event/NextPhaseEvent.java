@@ -11,7 +11,7 @@ import com.avatarduel.model.type.Phase;
  * If next phase is activated on battle phase, it will automatically activate EndPhaseEvent
  *
  * IMPORTANT NOTE:
- * This event will communicate with game singleton instantly, so there are no need to validate
+ * This event will communicate with the game it is executed on instantly, so there are no need to validate
  * In case where event is not possible to do, we throw exception so that the GUI Board can give the
  * error message to the player playing the games
  * @author G10-K03-CardGameOOP
@@ -24,16 +24,24 @@ public class NextPhaseEvent implements IEvent {
 
     /**
      * execute method to run the event invoked by user action
+     * @param game the game this event acts on
      */
     @Override
-    public void execute() throws InvalidOperationException {
-        Phase currPhase = Game.getInstance().getCurrentPhase().getPhase();
+    public void execute(Game game) throws InvalidOperationException {
+        Phase currPhase = game.getCurrentPhase().getPhase();
         if (currPhase.equals(Phase.BATTLE)){
             IEvent event = new EndTurnEvent();
-            event.execute();
+            event.execute(game);
         } else {
-            Game.getInstance().nextPhase();
+            game.getUndoRecord().nextPhase(game);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventRecord toRecord() {
+        return new EventRecord(EventType.NEXT_PHASE, null, 0, 0, 0);
+    }
 }
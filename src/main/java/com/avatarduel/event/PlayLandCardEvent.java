@@ -1,10 +1,12 @@
 package com.avatarduel.event;
 
 import com.avatarduel.exception.ExceptionCause.InvalidPhaseCause;
+import com.avatarduel.exception.ExceptionCause.InvalidTargetCause;
 import com.avatarduel.exception.ExceptionCause.MultipleLandCardPlayedOnTheSameTurnCause;
-import com.avatarduel.exception.InvalidPlayLandCardException;
 import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.exception.InvalidPlayLandCardException;
 import com.avatarduel.model.Game;
+import com.avatarduel.model.card.Card;
 import com.avatarduel.model.card.LandCard;
 import com.avatarduel.model.player_component.Player;
 import com.avatarduel.model.type.CardType;
@@ -15,8 +17,8 @@ import com.avatarduel.model.type.PlayerType;
  * PlayLandCardEvent is a event for activating land card.
  *
  * IMPORTANT NOTE:
- * This event will communicate with game singleton instantly, so there are no need to validate
- * In case where event is not possible to do, we throw exception so that the GUI Board can give the
+ * validate tells whether the event can be done without changing the game or throwing.
+ * In case where event is not possible to do, execute throws exception so that the GUI Board can give the
  * error message to the player playing the games
  * @author G10-K03-CardGameOOP
  */
@@ -31,33 +33,57 @@ public class PlayLandCardEvent implements IEvent {
     }
 
     /**
-     * execute method to run the event invoked by user action
+     * check the event without changing the game
+     * @param game the game this event acts on
+     * @return VALID if execute will not throw, else why it can not be done
      */
     @Override
-    public void execute() throws InvalidOperationException {
-        LandCard landCard = (LandCard) Game.getInstance().getPlayerByType(playerType).getHand().stream()
-                .filter(card -> card.getId() == landCardID && card.getType().equals(CardType.LAND))
-                .findFirst()
-                .orElse(null);
-        Phase currPhase = Game.getInstance().getCurrentPhase().getPhase();
-        PlayerType currPlayer = Game.getInstance().getCurrentPlayer();
-        int currentFieldSize = Game.getInstance().getPlayerByType(playerType).getField().getSkillCardList().size();
-
-        if (currPhase != Phase.MAIN) {
-            throw new InvalidPlayLandCardException(new InvalidPhaseCause(Phase.MAIN));
+    public ValidationResult validate(Game game) {
+        if (!GameRule.isPhase(game, Phase.MAIN)) {
+            return ValidationResult.INVALID_PHASE;
+        }
+        if (!GameRule.canPlayLand(game.getPlayerByType(game.getCurrentPlayer()))) {
+            return ValidationResult.LAND_ALREADY_PLAYED;
         }
+        if (findCard(game) == null) {
+            return ValidationResult.CARD_NOT_FOUND;
+        }
+        return ValidationResult.VALID;
+    }
 
-        if (Game.getInstance().getPlayerByType(currPlayer).hasPlayLand) {
-            throw new InvalidPlayLandCardException(new MultipleLandCardPlayedOnTheSameTurnCause());
+    /**
+     * execute method to run the event invoked by user action
+     * @param game the game this event acts on
+     */
+    @Override
+    public void execute(Game game) throws InvalidOperationException {
+        switch (validate(game)) {
+            case INVALID_PHASE: throw new InvalidPlayLandCardException(new InvalidPhaseCause(Phase.MAIN));
+            case LAND_ALREADY_PLAYED: throw new InvalidPlayLandCardException(new MultipleLandCardPlayedOnTheSameTurnCause());
+            case CARD_NOT_FOUND: throw new InvalidPlayLandCardException(new InvalidTargetCause(CardType.LAND));
         }
 
-        Player player = Game.getInstance().getPlayerByType(playerType);
+        LandCard landCard = findCard(game);
+        Player player = game.getPlayerByType(playerType);
+        UndoRecord undo = game.getUndoRecord();
         // remove card
-        player.getHand().remove(landCard);
+        undo.removeFromHand(player, landCard);
         // add power to player
-        player.getPower().add(landCard.getElement(),1);
+        undo.addPower(player, landCard.getElement(), 1);
         // change state of hasPlayLand of player
-        player.hasPlayLand = true;
+        undo.setHasPlayLand(player, true);
+    }
+
+    private LandCard findCard(Game game) {
+        Card card = game.getPlayerByType(playerType).getCardInHandByID(landCardID);
+        return (card != null && card.getType().equals(CardType.LAND)) ? (LandCard) card : null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventRecord toRecord() {
+        return new EventRecord(EventType.PLAY_LAND, playerType, landCardID, 0, 0);
+    }
 }
@@ -1,24 +1,24 @@
 package com.avatarduel.event;
 
 import com.avatarduel.exception.ExceptionCause.InvalidPhaseCause;
+import com.avatarduel.exception.ExceptionCause.InvalidTargetCause;
 import com.avatarduel.exception.InvalidOperationException;
 import com.avatarduel.exception.InvalidRemoveSkillcardException;
 import com.avatarduel.model.Game;
 import com.avatarduel.model.card.CharacterCardInField;
 import com.avatarduel.model.card.SkillCardInField;
+import com.avatarduel.model.type.CardType;
 import com.avatarduel.model.type.Phase;
 import com.avatarduel.model.type.PlayerType;
 
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * RemoveSkillCardEvent is a event for removing skill card that are on the field.
  *
  * IMPORTANT NOTE:
  * Only able to remove the card that are already equipped / placed in the field
- * This event will communicate with game singleton instantly, so there are no need to validate
- * In case where event is not possible to do, we throw exception so that the GUI Board can give the
+ * validate tells whether the event can be done without changing the game or throwing.
+ * In case where event is not possible to do, execute throws exception so that the GUI Board can give the
  * error message to the player playing the games
  * @author G10-K03-CardGameOOP
  */
@@ -33,45 +33,47 @@ public class RemoveSkillCardEvent implements IEvent { // has not implemented yet
     }
 
     /**
-     * execute method to run the event invoked by user action
+     * check the event without changing the game
+     * @param game the game this event acts on
+     * @return VALID if execute will not throw, else why it can not be done
      */
     @Override
-    public void execute() throws InvalidOperationException{
-        Phase currPhase = Game.getInstance().getCurrentPhase().getPhase();
-        PlayerType currPlayer = Game.getInstance().getCurrentPlayer();
-        SkillCardInField card = Game.getInstance().getPlayerByType(playerType).getField().getSkillCardList()
-                .stream()
-                .filter(c -> c.getCard().getId() == idTarget)
-                .findFirst()
-                .orElse(null);
-
-        List<CharacterCardInField> list1 = Game.getInstance().getPlayerByType(Game.getInstance().getCurrentPlayer()).getField().getCharCardList();
-        List<CharacterCardInField> list2 = Game.getInstance().getPlayerByType(Game.getInstance().getCurrentOpponent()).getField().getCharCardList();
+    public ValidationResult validate(Game game) {
+        SkillCardInField card = game.getPlayerByType(playerType).getSkillCardByID(idTarget);
 
-        CharacterCardInField pairedCharacter = list1.stream()
-                .filter(c -> c.getConnectedCard().contains(card.getCard()))
-                .findFirst()
-                .orElse(null);
-
-        if (pairedCharacter == null) {
-            pairedCharacter = list2.stream()
-                    .filter(c -> c.getConnectedCard().contains(card.getCard()))
-                    .findFirst()
-                    .orElse(null);
+        if (!GameRule.isPhase(game, Phase.MAIN)){
+            return ValidationResult.INVALID_PHASE;
+        }
+        if (card == null || card.getPairedCharacter() == null) {
+            return ValidationResult.CARD_NOT_FOUND;
         }
+        return ValidationResult.VALID;
+    }
+
+    /**
+     * execute method to run the event invoked by user action
+     * @param game the game this event acts on
+     */
+    @Override
+    public void execute(Game game) throws InvalidOperationException {
+        SkillCardInField card = game.getPlayerByType(playerType).getSkillCardByID(idTarget);
 
-        if (currPhase != Phase.MAIN){
-            throw new InvalidRemoveSkillcardException(new InvalidPhaseCause(Phase.MAIN));
+        switch (validate(game)) {
+            case INVALID_PHASE: throw new InvalidRemoveSkillcardException(new InvalidPhaseCause(Phase.MAIN));
+            case CARD_NOT_FOUND: throw new InvalidRemoveSkillcardException(new InvalidTargetCause(CardType.SKILL_AURA));
         }
 
-        pairedCharacter.setConnectedCard(pairedCharacter.getConnectedCard().stream()
-                .filter(c-> c.getId() !=card.getCard().getId())
-                .collect(Collectors.toList()));
+        UndoRecord undo = game.getUndoRecord();
+        undo.unpair(card.getPairedCharacter(), card.getCard());
 
-        List<SkillCardInField> cardInFields = Game.getInstance().getPlayerByType(Game.getInstance().getCurrentPlayer()).getField().getSkillCardList();
-        Game.getInstance().getPlayerByType(Game.getInstance().getCurrentPlayer()).getField().setSkillCardList(cardInFields.stream()
-                .filter(c -> c.getCard().getId() != idTarget)
-                .collect(Collectors.toList()));
+        undo.removeSkill(game.getPlayerByType(game.getCurrentPlayer()), idTarget);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventRecord toRecord() {
+        return new EventRecord(EventType.REMOVE_SKILL, playerType, idTarget, 0, 0);
+    }
 }
@@ -3,9 +3,11 @@ package com.avatarduel.event;
 import com.avatarduel.exception.*;
 import com.avatarduel.exception.ExceptionCause.FullBoardCause;
 import com.avatarduel.exception.ExceptionCause.InvalidPhaseCause;
+import com.avatarduel.exception.ExceptionCause.InvalidTargetCause;
 import com.avatarduel.exception.ExceptionCause.NotEnoughPowerCause;
 import com.avatarduel.factory.CardInFieldFactory;
 import com.avatarduel.model.Game;
+import com.avatarduel.model.card.Card;
 import com.avatarduel.model.card.CharacterCard;
 import com.avatarduel.model.card.CharacterCardInField;
 import com.avatarduel.model.player_component.Player;
@@ -19,8 +21,8 @@ import com.avatarduel.model.type.PlayerType;
  * Event will only executed if there are enough space in the field, else it will throw exception.
  *
  * IMPORTANT NOTE:
- * This event will communicate with game singleton instantly, so there are no need to validate
- * In case where event is not possible to do, we throw exception so that the GUI Board can give the
+ * validate tells whether the event can be done without changing the game or throwing.
+ * In case where event is not possible to do, execute throws exception so that the GUI Board can give the
  * error message to the player playing the games
  * @author G10-K03-CardGameOOP
  */
@@ -40,39 +42,71 @@ public class SummonEvent implements IEvent {
     }
 
     /**
-     * execute method to run the event invoked by user action
+     * check the event without changing the game
+     * @param game the game this event acts on
+     * @return VALID if execute will not throw, else why it can not be done
      */
     @Override
-    public void execute() throws InvalidOperationException {
-        CharacterCard charCard = (CharacterCard) Game.getInstance().getPlayerByType(playerType).getHand()
-                .stream()
-                .filter(card -> card.getId() == idCard && card.getType().equals(CardType.CHARACTER))
-                .findFirst()
-                .orElse(null);
-        int currTurn = Game.getInstance().getCurrentTurn();
-        Player p = Game.getInstance().getPlayerByType(playerType);
-        Phase currPhase = Game.getInstance().getCurrentPhase().getPhase();
-        int currentFieldSize = Game.getInstance().getPlayerByType(playerType).getField().getCharCardList().size();
-        PlayerType currPlayer = Game.getInstance().getCurrentPlayer();
+    public ValidationResult validate(Game game) {
+        Player p = game.getPlayerByType(playerType);
+        CharacterCard charCard = findCard(p);
 
-        if (currPhase != Phase.MAIN){
-            throw new InvalidSummonException(new InvalidPhaseCause(Phase.MAIN));
+        if (!GameRule.isPhase(game, Phase.MAIN)){
+            return ValidationResult.INVALID_PHASE;
         }
-
-        if (currentFieldSize >= Game.getInstance().getPlayerByType(playerType).getField().getFieldSize()){
-            throw new InvalidSummonException(new FullBoardCause(charCard.getType()));
+        if (charCard == null) {
+            return ValidationResult.CARD_NOT_FOUND;
+        }
+        if (!GameRule.hasCharacterSlot(p)){
+            return ValidationResult.FULL_BOARD;
+        }
+        if (!GameRule.isFreeCharacterSlot(p, index)) {
+            return ValidationResult.INVALID_SLOT;
+        }
+        if (!GameRule.canPay(p, charCard)){
+            return ValidationResult.NOT_ENOUGH_POWER;
         }
+        return ValidationResult.VALID;
+    }
+
+    /**
+     * execute method to run the event invoked by user action
+     * @param game the game this event acts on
+     */
+    @Override
+    public void execute(Game game) throws InvalidOperationException {
+        Player p = game.getPlayerByType(playerType);
+        CharacterCard charCard = findCard(p);
+        int currTurn = game.getCurrentTurn();
 
-        if (charCard.getPower() > Game.getInstance().getPlayerByType(playerType).getPower().getCurrent(charCard.getElement())){
-            throw new InvalidSummonException(new NotEnoughPowerCause(charCard.getElement()));
+        switch (validate(game)) {
+            case INVALID_PHASE: throw new InvalidSummonException(new InvalidPhaseCause(Phase.MAIN));
+            case CARD_NOT_FOUND: throw new InvalidSummonException(new InvalidTargetCause(CardType.CHARACTER));
+            case FULL_BOARD: throw new InvalidSummonException(new FullBoardCause(CardType.CHARACTER));
+            case INVALID_SLOT: throw new InvalidSummonException(new InvalidTargetCause(CardType.CHARACTER));
+            case NOT_ENOUGH_POWER: throw new InvalidSummonException(new NotEnoughPowerCause(charCard.getElement()));
         }
 
-        p.getHand().remove(charCard);
-        p.getField().addCharacterCard((CharacterCardInField) factory.createCardInField(charCard, currTurn, index,position));
-        p.getPower().reduce(charCard.getElement(), charCard.getPower());
+        UndoRecord undo = game.getUndoRecord();
+        undo.removeFromHand(p, charCard);
+        undo.addCharacter(p, (CharacterCardInField) factory.createCardInField(charCard, currTurn, index,position));
+        undo.reducePower(p, charCard.getElement(), charCard.getPower());
+    }
+
+    private CharacterCard findCard(Player p) {
+        Card card = p.getCardInHandByID(idCard);
+        return (card != null && card.getType().equals(CardType.CHARACTER)) ? (CharacterCard) card : null;
     }
 
     public PlayerType getPlayerType() {
         return playerType;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventRecord toRecord() {
+        return new EventRecord(EventType.SUMMON, playerType, idCard, position.ordinal(), index);
+    }
 }
@@ -0,0 +1,307 @@
+package com.avatarduel.event;
+
+import com.avatarduel.model.Game;
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.card.CharacterCardInField;
+import com.avatarduel.model.card.SkillCard;
+import com.avatarduel.model.card.SkillCardInField;
+import com.avatarduel.model.player_component.Deck;
+import com.avatarduel.model.player_component.Field;
+import com.avatarduel.model.player_component.Hand;
+import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.player_component.PowerManager;
+import com.avatarduel.model.type.Element;
+import com.avatarduel.model.type.Phase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * UndoRecord keeps the changes made by an event, so the event can be undone without copying the game.
+ *
+ * IMPORTANT NOTE:
+ * Events make every change to the game through the UndoRecord of the game, each method does the change
+ * and keeps how to reverse it. undo reverses the changes from the last to the first,
+ * so it takes as long as the number of changes and gives back the exact game before the event.
+ * When the game is not recording, Game.getUndoRecord returns NONE, which only does the changes.
+ * A record must be undone before any later event on the same game is undone.
+ * @author G10-K03-CardGameOOP
+ */
+
+public final class UndoRecord {
+    /**
+     * does the changes without keeping anything
+     */
+    public static final UndoRecord NONE = new UndoRecord(false);
+
+    private final boolean recording;
+    private final List<Runnable> inverses;
+
+    public UndoRecord() {
+        this(true);
+    }
+
+    private UndoRecord(boolean recording) {
+        this.recording = recording;
+        this.inverses = recording ? new ArrayList<>() : null;
+    }
+
+    /**
+     * keep a change made outside of this record
+     * @param inverse what reverses the change
+     */
+    public void add(Runnable inverse) {
+        if (recording) {
+            inverses.add(inverse);
+        }
+    }
+
+    /**
+     * @return number of changes kept
+     */
+    public int size() {
+        return recording ? inverses.size() : 0;
+    }
+
+    /**
+     * reverse every change kept, from the last to the first
+     */
+    public void undo() {
+        if (!recording) {
+            throw new IllegalStateException("NONE keeps no change to undo");
+        }
+        for (int i = inverses.size() - 1; i >= 0; i--) {
+            inverses.get(i).run();
+        }
+        inverses.clear();
+    }
+
+    // HAND AND DECK
+
+    /**
+     * play the card from the hand of the player, it is kept in the played cards
+     * @param player owner of the hand
+     * @param card the card, compared by reference
+     */
+    public void removeFromHand(Player player, Card card) {
+        Hand hand = player.getHand();
+        List<Card> played = player.getPlayedCards();
+        for (int i = 0; i < hand.size(); i++) {
+            if (hand.get(i) == card) {
+                hand.remove(i);
+                played.add(card);
+                int index = i;
+                if (recording) {
+                    inverses.add(() -> {
+                        played.remove(played.size() - 1);
+                        hand.add(index, card);
+                    });
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * draw a card from the deck of the player
+     * @param player the player
+     */
+    public void draw(Player player) {
+        Deck deck = player.getDeck();
+        Hand hand = player.getHand();
+        Card card = deck.peek();
+        int handSize = hand.size();
+        player.draw();
+        boolean kept = hand.size() > handSize; // the card is lost if the hand is full
+        if (recording) {
+            inverses.add(() -> {
+                if (kept) {
+                    hand.remove(hand.size() - 1);
+                }
+                deck.undoDraw(card);
+            });
+        }
+    }
+
+    // FIELD
+
+    /**
+     * put the character in the field of the player
+     * @param player owner of the field
+     * @param inField the character, put in the slot of its index
+     * @throws IllegalArgumentException if the slot is not in the field or is used, then nothing is changed
+     */
+    public void addCharacter(Player player, CharacterCardInField inField) {
+        Field field = player.getField();
+        field.addCharacterCard(inField);
+        if (recording) {
+            inverses.add(() -> field.removeCharacterCard(inField));
+        }
+    }
+
+    public void removeCharacter(Player player, CharacterCardInField inField) {
+        Field field = player.getField();
+        if (field.getCharacterCardAt(inField.getIndex()) == inField) {
+            field.removeCharacterCard(inField);
+            if (recording) {
+                inverses.add(() -> field.addCharacterCard(inField));
+            }
+        }
+    }
+
+    /**
+     * put the skill card in the field of the player
+     * @param player owner of the field
+     * @param card the skill card
+     * @param index slot of the card
+     * @param createdAt turn the card is played
+     * @throws IllegalArgumentException if the slot is not in the field or is used, then nothing is changed
+     */
+    public void addSkill(Player player, SkillCard card, int index, int createdAt) {
+        Field field = player.getField();
+        field.addSkillCard(card, index, createdAt);
+        if (recording) {
+            inverses.add(() -> field.removeSkillCardByID(card.getId()));
+        }
+    }
+
+    public void removeSkill(Player player, int cardID) {
+        Field field = player.getField();
+        SkillCardInField inField = field.getSkillCardByID(cardID);
+        if (field.removeSkillCardByID(cardID) && recording) {
+            inverses.add(() -> field.addSkillCard(inField));
+        }
+    }
+
+    // CARDS IN FIELD
+
+    public void pair(CharacterCardInField character, SkillCard card) {
+        character.pair(card);
+        if (recording) {
+            inverses.add(() -> character.unpair(card));
+        }
+    }
+
+    public void unpair(CharacterCardInField character, SkillCard card) {
+        List<SkillCard> connected = character.getConnectedCard();
+        for (int i = 0; i < connected.size(); i++) {
+            if (connected.get(i).getId() == card.getId()) {
+                SkillCard removed = connected.get(i);
+                int position = i;
+                character.unpair(card);
+                if (recording) {
+                    inverses.add(() -> character.pair(position, removed));
+                }
+                return;
+            }
+        }
+    }
+
+    public void setPairedCharacter(Player owner, SkillCardInField skill, CharacterCardInField character) {
+        Field field = owner.getField();
+        CharacterCardInField old = skill.getPairedCharacter();
+        field.setPairedCharacter(skill, character);
+        if (recording) {
+            inverses.add(() -> field.setPairedCharacter(skill, old));
+        }
+    }
+
+    public void setHasAttacked(Player owner, CharacterCardInField character, boolean hasAttacked) {
+        Field field = owner.getField();
+        boolean old = character.hasAttacked();
+        field.setHasAttacked(character, hasAttacked);
+        if (recording) {
+            inverses.add(() -> field.setHasAttacked(character, old));
+        }
+    }
+
+    public void switchPosition(Player owner, CharacterCardInField character) {
+        Field field = owner.getField();
+        field.switchPosition(character);
+        if (recording) {
+            inverses.add(() -> field.switchPosition(character));
+        }
+    }
+
+    // PLAYER
+
+    public void addPower(Player player, Element element, int power) {
+        player.getPower().add(element, power);
+        if (recording) {
+            inverses.add(() -> player.getPower().add(element, -power));
+        }
+    }
+
+    public void reducePower(Player player, Element element, int power) {
+        PowerManager manager = player.getPower();
+        int old = manager.getCurrent(element);
+        if (manager.reduce(element, power) && recording) {
+            inverses.add(() -> manager.setCurrent(element, old));
+        }
+    }
+
+    public void setHealthPoint(Player player, int healthPoint) {
+        int old = player.getHealthPoint();
+        player.setHealthPoint(healthPoint);
+        if (recording) {
+            inverses.add(() -> player.setHealthPoint(old));
+        }
+    }
+
+    public void setHasPlayLand(Player player, boolean hasPlayLand) {
+        boolean old = player.hasPlayLand();
+        player.setHasPlayLand(hasPlayLand);
+        if (recording) {
+            inverses.add(() -> player.setHasPlayLand(old));
+        }
+    }
+
+    /**
+     * refresh the power, land flag and attack flags of the player at the start of the turn
+     * @param player the player
+     */
+    public void refreshState(Player player) {
+        if (recording) {
+            int[] power = player.getPower().snapshot(null);
+            boolean hasPlayLand = player.hasPlayLand();
+            Field field = player.getField();
+            List<CharacterCardInField> attacked = new ArrayList<>();
+            for (CharacterCardInField character : field.getCharCardList()) {
+                if (character.hasAttacked()) {
+                    attacked.add(character);
+                }
+            }
+            inverses.add(() -> {
+                player.getPower().restore(power);
+                player.setHasPlayLand(hasPlayLand);
+                attacked.forEach(character -> field.setHasAttacked(character, true));
+            });
+        }
+        player.refreshState();
+    }
+
+    // GAME
+
+    public void nextPhase(Game game) {
+        Phase old = game.getCurrentPhase().getPhase();
+        game.nextPhase();
+        if (recording) {
+            inverses.add(() -> game.setCurrentPhase(old));
+        }
+    }
+
+    public void nextPlayer(Game game) {
+        game.nextPlayer();
+        if (recording) {
+            inverses.add(game::nextPlayer);
+        }
+    }
+
+    public void incrementTurn(Game game) {
+        int old = game.getCurrentTurn();
+        game.incrementTurn();
+        if (recording) {
+            inverses.add(() -> game.setCurrentTurn(old));
+        }
+    }
+}
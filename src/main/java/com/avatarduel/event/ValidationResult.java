@@ -0,0 +1,28 @@
+package com.avatarduel.event;
+
+/**
+ * An enum class for the result of checking an event against a game,
+ * each value other than VALID tells why the event can not be done
+ * @author G10-K03-CardGameOOP
+ */
+
+public enum ValidationResult {
+    VALID,
+    INVALID_PHASE,
+    CARD_NOT_FOUND,
+    TARGET_NOT_FOUND,
+    FULL_BOARD,
+    INVALID_SLOT,
+    NOT_ENOUGH_POWER,
+    LAND_ALREADY_PLAYED,
+    CREATED_THIS_TURN,
+    ALREADY_ATTACKED,
+    NOT_ATTACK_POSITION,
+    INVALID_DEFENDER,
+    OPPONENT_HAS_CHARACTER,
+    EMPTY_DECK;
+
+    public boolean isValid() {
+        return this == VALID;
+    }
+}
@@ -0,0 +1,15 @@
+package com.avatarduel.exception.ExceptionCause;
+
+/**
+ * Defines an exception cause, caused by commanding a character in defense position to attack
+ */
+public class AttackInDefensePositionCause extends AttackCause {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCause() {
+        return super.getCause() + " while this character is in defense position";
+    }
+}
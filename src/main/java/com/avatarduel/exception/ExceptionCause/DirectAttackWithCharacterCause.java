@@ -0,0 +1,15 @@
+package com.avatarduel.exception.ExceptionCause;
+
+/**
+ * Defines an exception cause, caused by attacking the opponent directly while the opponent still has a character
+ */
+public class DirectAttackWithCharacterCause extends AttackCause {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCause() {
+        return super.getCause() + " directly while the enemy has a character card in field";
+    }
+}
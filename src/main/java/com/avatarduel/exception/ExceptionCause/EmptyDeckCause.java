@@ -0,0 +1,17 @@
+package com.avatarduel.exception.ExceptionCause;
+
+/**
+ * Defines an exception cause, caused by drawing from an empty deck
+ */
+public class EmptyDeckCause implements ExceptionCause {
+    public EmptyDeckCause() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCause() {
+        return "cannot draw because the deck is empty";
+    }
+}
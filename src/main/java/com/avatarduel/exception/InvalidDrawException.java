@@ -0,0 +1,12 @@
+package com.avatarduel.exception;
+
+import com.avatarduel.exception.ExceptionCause.ExceptionCause;
+
+/**
+ * Exception because the player is trying to draw a card
+ */
+public class InvalidDrawException extends InvalidOperationException {
+    public InvalidDrawException(ExceptionCause cause) {
+        super("Invalid Draw", cause);
+    }
+}
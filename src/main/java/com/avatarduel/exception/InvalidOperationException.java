@@ -5,6 +5,7 @@ import com.avatarduel.exception.ExceptionCause.ExceptionCause;
 /**
  * Base exception used for the game, Invalid operation means that
  * the operation the player is doing cannot be done
+ * The exception is made without stack trace, it is an expected result of a player action and not a bug
  */
 public abstract class InvalidOperationException extends Exception {
     private String operation;
@@ -16,6 +17,7 @@ public abstract class InvalidOperationException extends Exception {
      * @param cause the cause of the exception
      */
     public InvalidOperationException(String operation, ExceptionCause cause){
+        super(null, null, false, false);
         this.operation = operation;
         this.message = "Cause : " + cause.getCause();
     }
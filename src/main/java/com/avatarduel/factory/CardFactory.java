@@ -8,6 +8,7 @@ import com.avatarduel.model.type.Element;
  * CardFactory is a factory method design pattern implementation for creating cards from database.
  * IMPORTANT NOTE:
  * This factory also used to creating clone of card object, so we can seperate object from database and object that were used in the game
+ * The clone shares the CardTemplate of the original card, so only the id of the clone is a new object in memory
  * @author G10-K03-CardGameOOP
  */
 
@@ -28,13 +29,29 @@ public class CardFactory {
         }
     }
 
+    /**
+     * Method for cloning card object of any type in the game
+     * @param card : card to be cloned
+     * @return Card : cloned object card with the same type as the original
+     */
+    public static Card createClone(Card card) {
+        switch (card.getType()) {
+            case CHARACTER: return createClone((CharacterCard) card);
+            case LAND: return createClone((LandCard) card);
+            case SKILL_AURA: return createClone((SkillAuraCard) card);
+            case SKILL_DESTROY: return createClone((SkillDestroyCard) card);
+            case SKILL_POWER_UP: return createClone((SkillPowerUpCard) card);
+        }
+        return new Card(card.getId(), card.getTemplate());
+    }
+
     /**
      * Method for cloning card object in the game
      * @param card : card to be cloned
      * @return CharacterCard : cloned object card
      */
     public static CharacterCard createClone(CharacterCard card) {
-        return new CharacterCard(card.getId(), card.getName(), card.getElement(), card.getDescription(), card.getImage(), card.getAttack(),card.getDefense(), card.getPower());
+        return new CharacterCard(card.getId(), card.getTemplate());
     }
 
     /**
@@ -43,7 +60,7 @@ public class CardFactory {
      * @return SkillAuraCard : cloned object card
      */
     public static SkillAuraCard createClone(SkillAuraCard card) {
-        return new SkillAuraCard(card.getId(), card.getName(), card.getElement(), card.getDescription(), card.getImage(), card.getPower(), card.getAttack(),card.getDefense());
+        return new SkillAuraCard(card.getId(), card.getTemplate());
     }
 
     /**
@@ -52,7 +69,7 @@ public class CardFactory {
      * @return LandCard : cloned object card
      */
     public static LandCard createClone (LandCard card) {
-        return new LandCard(card.getId(), card.getName(), card.getElement(), card.getDescription(), card.getImage());
+        return new LandCard(card.getId(), card.getTemplate());
     }
 
     /**
@@ -61,7 +78,7 @@ public class CardFactory {
      * @return SkillDestroyCard : cloned object card
      */
     public static SkillDestroyCard createClone (SkillDestroyCard card) {
-        return new SkillDestroyCard(card.getId(), card.getName(), card.getElement(), card.getDescription(), card.getImage(), String.valueOf(card.getPower()));
+        return new SkillDestroyCard(card.getId(), card.getTemplate());
     }
 
     /**
@@ -70,7 +87,7 @@ public class CardFactory {
      * @return SkillPowerUpCard : cloned object card
      */
     public static SkillPowerUpCard createClone (SkillPowerUpCard card) {
-        return new SkillPowerUpCard(card.getId(), card.getName(), card.getElement(), card.getDescription(), card.getImage(), String.valueOf(card.getPower()));
+        return new SkillPowerUpCard(card.getId(), card.getTemplate());
     }
 
     /**
@@ -2,17 +2,25 @@ package com.avatarduel.guicontroller.Board;
 
 import com.avatarduel.event.EndTurnEvent;
 import com.avatarduel.event.IEvent;
+import com.avatarduel.event.NextPhaseEvent;
+import com.avatarduel.event.ValidationResult;
 import com.avatarduel.exception.InvalidOperationException;
 import com.avatarduel.guicontroller.Card.DisplayCardController;
 import com.avatarduel.guicontroller.Request.GlobalRequest.GameStatusRenderRequest;
 import com.avatarduel.guicontroller.Request.GlobalRequest.ShowSelectedCardRequest;
 import com.avatarduel.guicontroller.Request.SpecificRequest.CheckWinRequest;
 import com.avatarduel.guicontroller.Request.SpecificRequest.DeckDrawAndRenderRequest;
+import com.avatarduel.guicontroller.Request.SpecificRequest.FieldRenderRequest;
+import com.avatarduel.guicontroller.Request.SpecificRequest.HandRenderRequest;
 import com.avatarduel.guicontroller.Request.SpecificRequest.PlayerStatusRenderRequest;
 import com.avatarduel.guicontroller.Request.GlobalRequest.PlayMusicRequest;
 import com.avatarduel.model.Game;
+import com.avatarduel.model.GameState;
+import com.avatarduel.model.type.Phase;
 import com.avatarduel.model.type.PlayerType;
+import com.avatarduel.simulation.IPolicy;
 import com.google.common.eventbus.Subscribe;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
@@ -21,12 +29,16 @@ import javafx.scene.media.MediaPlayer;
 
 import java.io.File;
 import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * BoardController is the one big class that controls:
  * alert
  * playing song
  * ending turn
+ * playing the turns of player B when player B is the computer
+ * undoing the moves of the current turn in casual mode
  * @author G10-K03-CardGameOOP
  */
 public class BoardController {
@@ -40,11 +52,24 @@ public class BoardController {
     @FXML private PlayerStatusController playerAStatusController;
     @FXML private PlayerStatusController playerBStatusController;
     @FXML private Button end_turn;
+    @FXML private Button undo;
     @FXML private GameStatusController gameStatusController;
     /**
      * to play the in game music
      */
     private MediaPlayer mediaPlayer;
+    /**
+     * policy choosing the moves of player B, null if player B is a person
+     */
+    private IPolicy computerPlayer;
+    /**
+     * the one thread the computer player chooses its moves on, away from the JavaFX thread
+     */
+    private final ExecutorService computerThread = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "computer-player");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * initialize all objects in board controller, such as hand controller, field controller,
@@ -92,6 +117,89 @@ public class BoardController {
         }
         fieldAController.setCharactersActionsVisible(Game.getInstance().getCurrentPlayer() == PlayerType.A);
         fieldBController.setCharactersActionsVisible(Game.getInstance().getCurrentPlayer() == PlayerType.B);
+        Game.getInstance().clearUndoHistory(); // an ended turn can not be taken back
+        if (isComputerTurn()) {
+            playComputerMove();
+        }
+    }
+
+    /**
+     * let the players undo the moves of the current turn
+     * @param casualMode true to show the undo button
+     */
+    public void setCasualMode(boolean casualMode) {
+        Game.getInstance().setUndoHistory(casualMode);
+        undo.setVisible(casualMode);
+    }
+
+    /**
+     * undo the last move of the current turn, then render the board again
+     */
+    @FXML
+    public void undo() {
+        if (isComputerTurn() || !Game.getInstance().undoLast()) {
+            return;
+        }
+        renderAll();
+    }
+
+    /**
+     * render the hands, fields, player status and game status
+     */
+    private void renderAll() {
+        for (PlayerType type : PlayerType.values()) {
+            Game.getInstance().getEventBus().post(new HandRenderRequest(type));
+            Game.getInstance().getEventBus().post(new FieldRenderRequest(type));
+            Game.getInstance().getEventBus().post(new PlayerStatusRenderRequest(type));
+        }
+        Game.getInstance().getEventBus().post(new GameStatusRenderRequest());
+    }
+
+    /**
+     * let the computer play as player B
+     * @param computerPlayer policy choosing the moves of player B
+     */
+    public void setComputerPlayer(IPolicy computerPlayer) {
+        this.computerPlayer = computerPlayer;
+    }
+
+    private boolean isComputerTurn() {
+        return computerPlayer != null
+                && Game.getInstance().getCurrentPlayer() == PlayerType.B
+                && !Game.getInstance().checkGameOver();
+    }
+
+    /**
+     * choose the next computer move on a copy of the game on the computer thread,
+     * then play it on the JavaFX thread
+     */
+    private void playComputerMove() {
+        Game copy = GameState.copyOf(Game.getInstance());
+        computerThread.execute(() -> {
+            IEvent event = computerPlayer.nextAction(copy);
+            Platform.runLater(() -> applyComputerMove(event));
+        });
+    }
+
+    /**
+     * play the computer move, a move the game does not allow ends the turn,
+     * so a policy choosing it again can not ask for moves forever
+     * @param event the move
+     */
+    private void applyComputerMove(IEvent event) {
+        boolean endsTurn = event instanceof EndTurnEvent
+                || event.validate(Game.getInstance()) != ValidationResult.VALID
+                || (event instanceof NextPhaseEvent && Game.getInstance().getCurrentPhase().getPhase() == Phase.BATTLE);
+        if (endsTurn) {
+            endTurn();
+            return;
+        }
+        Game.getInstance().getEventBus().post(event);
+        renderAll();
+        Game.getInstance().getEventBus().post(new CheckWinRequest());
+        if (isComputerTurn()) {
+            playComputerMove();
+        }
     }
 
     /**
@@ -112,7 +220,7 @@ public class BoardController {
     @Subscribe
     public void executeEvent(IEvent event) {
         try{
-            event.execute();
+            Game.getInstance().execute(event);
         } catch (InvalidOperationException e) {
             Alert a = new Alert(Alert.AlertType.ERROR);
             a.setHeaderText(e.getOperation());
@@ -138,6 +246,7 @@ public class BoardController {
             gameEnded = true;
         }
         if(gameEnded) {
+            Game.getInstance().clearUndoHistory(); // so the last moves are logged too
             a.showAndWait();
             end_turn.getScene().getWindow().hide();
         }
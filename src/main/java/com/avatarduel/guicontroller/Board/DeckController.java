@@ -43,7 +43,7 @@ public class DeckController  {
      * updating deck's remaining card
      */
     public void render() {
-        deck_size.setText("Remaining Card : " + Integer.toString(Game.getInstance().getPlayerByType(playerType).getDeck().size()));
+        deck_size.setText("Remaining Card : " + Integer.toString(Game.getInstance().getPlayerByType(playerType).getDeck().remaining()));
     }
 
     /**
@@ -127,7 +127,7 @@ public class CardInHandController extends CardController{
         try {
             if (cardData.getType() == CardType.LAND) {
                 event = new PlayLandCardEvent(cardData.getId(), playerType);
-                event.execute();
+                Game.getInstance().execute(event);
                 Game.getInstance().getEventBus().post(new HandRenderRequest(playerType));
             }
             else if(Game.getInstance().getPlayerByType(Game.getInstance().getCurrentPlayer()).getPower().getCurrent(this.cardData.getElement()) < this.cardData.getPower()) {
@@ -136,7 +136,7 @@ public class CardInHandController extends CardController{
             }
             else if (cardData.getType() == CardType.CHARACTER) {
                 event = new SummonEvent(cardData.getId(), Game.getInstance().getCurrentPlayer(), CharacterState.ATTACK, Game.getInstance().getPlayerByType(playerType).getField().getEmptyCharacterIndex());
-                event.execute();
+                Game.getInstance().execute(event);
                 Game.getInstance().getEventBus().post(new HandRenderRequest(playerType));
                 Game.getInstance().getEventBus().post(new FieldRenderRequest(playerType));
             } else if (cardData.getType() == CardType.SKILL_DESTROY) {
@@ -46,7 +46,7 @@ public class CharacterCardInFieldController extends CardInFieldController {
     public void rotateCard() {
         try {
             IEvent event = new ChangePositionEvent(playerType, characterCardInField.getCard().getId());
-            event.execute();
+            Game.getInstance().execute(event);
             this.renderRotate();
         }
         catch (InvalidOperationException e) {
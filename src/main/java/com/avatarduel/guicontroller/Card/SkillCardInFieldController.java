@@ -33,7 +33,7 @@ public class SkillCardInFieldController extends CardInFieldController {
     public void removeCard(){
         try {
             IEvent removeSkillCardEvent = new RemoveSkillCardEvent(this.skillCardInField.getCard().getId(), playerType);
-            removeSkillCardEvent.execute();
+            Game.getInstance().execute(removeSkillCardEvent);
             Game.getInstance().getEventBus().post(new FieldRenderRequest(PlayerType.A));
             Game.getInstance().getEventBus().post(new FieldRenderRequest(PlayerType.B));
         }
@@ -1,8 +1,10 @@
 package com.avatarduel.guicontroller.MainMenu;
 
+import com.avatarduel.dao.CSVCardDAO;
+import com.avatarduel.dao.CardDAO;
 import com.avatarduel.guicontroller.Card.DisplayCardController;
 import com.avatarduel.model.card.Card;
-import com.avatarduel.util.Loader;
+import com.avatarduel.model.type.CardType;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.layout.AnchorPane;
@@ -45,12 +47,12 @@ public class CardLibraryController {
      */
     @FXML
     public void initialize() {
-        Loader loader = new Loader();
-        characterCards = loader.loadCharacter();
-        skillAuraCards      = loader.loadSkillAura();
-        skillDestroyCards   = loader.loadSkillDestroy();
-        skillPowerUpCards   = loader.loadSkillPowerUp();
-        landCards           = loader.loadLand();
+        CardDAO cardDAO = new CSVCardDAO();
+        characterCards      = cardDAO.getAllCardByType(CardType.CHARACTER);
+        skillAuraCards      = cardDAO.getAllCardByType(CardType.SKILL_AURA);
+        skillDestroyCards   = cardDAO.getAllCardByType(CardType.SKILL_DESTROY);
+        skillPowerUpCards   = cardDAO.getAllCardByType(CardType.SKILL_POWER_UP);
+        landCards           = cardDAO.getAllCardByType(CardType.LAND);
         charIndex = 1;
         auraIndex = 1;
         powerUpIndex = 1;
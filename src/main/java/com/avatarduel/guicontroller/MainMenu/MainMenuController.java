@@ -1,9 +1,12 @@
 package com.avatarduel.guicontroller.MainMenu;
 
+import com.avatarduel.ai.AlphaBetaPolicy;
+import com.avatarduel.ai.MctsPolicy;
 import com.avatarduel.guicontroller.Board.BoardController;
 import com.avatarduel.guicontroller.util.FXMLHandler;
 import com.avatarduel.guicontroller.Request.GlobalRequest.PlayMusicRequest;
 import com.avatarduel.model.Game;
+import com.avatarduel.replay.MatchLog;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -64,6 +67,13 @@ public class MainMenuController {
             Parent startGui = fxmlLoader.load();
             Scene startScene = new Scene(startGui);
             BoardController boardController = fxmlLoader.getController();
+            Game.getInstance().setMatchLog(new MatchLog(Game.getInstance().getSeed())); // so the match can be replayed
+            if ("computer".equalsIgnoreCase(System.getProperty("avatarduel.playerB"))) {
+                boardController.setComputerPlayer(new MctsPolicy());
+            } else if ("alphabeta".equalsIgnoreCase(System.getProperty("avatarduel.playerB"))) {
+                boardController.setComputerPlayer(new AlphaBetaPolicy());
+            }
+            boardController.setCasualMode(Boolean.getBoolean("avatarduel.casual"));
             start.onMouseClickedProperty().setValue(event -> {
                 Game.getInstance().getEventBus().post(new PlayMusicRequest());
                 stage.setScene(startScene);
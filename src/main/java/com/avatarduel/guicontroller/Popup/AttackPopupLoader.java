@@ -60,7 +60,7 @@ public class AttackPopupLoader extends PopupLoader {
             try {
                 if (choiceBox.getSelectionModel().getSelectedItem() != null) {
                     IEvent attackEvent = new AttackEvent(attacker.getCard().getId(), choiceBox.getSelectionModel().getSelectedItem().getCard().getId(), Game.getInstance().getCurrentPlayer(), Game.getInstance().getCurrentOpponent());
-                    attackEvent.execute();
+                    Game.getInstance().execute(attackEvent);
                     Game.getInstance().getEventBus().post(new FieldRenderRequest(Game.getInstance().getCurrentOpponent()));
                     Game.getInstance().getEventBus().post(new FieldRenderRequest(Game.getInstance().getCurrentPlayer()));
                     Game.getInstance().getEventBus().post(new PlayerStatusRenderRequest(Game.getInstance().getCurrentOpponent()));
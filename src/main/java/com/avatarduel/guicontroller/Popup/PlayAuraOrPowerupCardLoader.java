@@ -73,7 +73,7 @@ public class PlayAuraOrPowerupCardLoader extends PopupLoader {
             }
             IEvent skillEvent = new ActivateSkillEvent(cardPlayed.getCard().getId(), choiceBox.getSelectionModel().getSelectedItem().getCard().getId(), cardPlayed.getPlayerType());
             try {
-                skillEvent.execute();
+                Game.getInstance().execute(skillEvent);
                 Game.getInstance().getEventBus().post(new HandRenderRequest(cardPlayed.getPlayerType()));  // render tangan lagi soalny kartunya uda dipake
                 Game.getInstance().getEventBus().post(new FieldRenderRequest(Game.getInstance().getCurrentPlayer()));
                 Game.getInstance().getEventBus().post(new FieldRenderRequest(Game.getInstance().getCurrentOpponent()));
@@ -71,7 +71,7 @@ public class PlayDestroyCardLoader extends PopupLoader {
                 }
                 skillEvent = new ActivateDestroyEvent(cardPlayed.getPlayerType(), cardPlayed.getCard().getId(), choiceBox.getSelectionModel().getSelectedItem().getCard().getId());
                 try {
-                    skillEvent.execute();
+                    Game.getInstance().execute(skillEvent);
                     Game.getInstance().getEventBus().post(new HandRenderRequest(cardPlayed.getPlayerType()));  // render tangan lagi soalny kartunya uda dipake
                     Game.getInstance().getEventBus().post(new FieldRenderRequest(Game.getInstance().getCurrentPlayer()));
                     Game.getInstance().getEventBus().post(new FieldRenderRequest(Game.getInstance().getCurrentOpponent()));
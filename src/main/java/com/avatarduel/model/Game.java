@@ -1,18 +1,42 @@
 package com.avatarduel.model;
 
+import com.avatarduel.event.IEvent;
+import com.avatarduel.event.UndoRecord;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.model.player_component.DeckComposition;
+import com.avatarduel.model.player_component.IDeckSource;
 import com.avatarduel.model.player_component.Player;
 import com.avatarduel.model.type.Phase;
 import com.avatarduel.model.type.PlayerType;
 import com.avatarduel.phase.*;
+import com.avatarduel.replay.MatchLog;
 import com.google.common.eventbus.EventBus;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+
 /**
  * Game is the main class of the model package.
  * Game class sets the player, phase, and also event that able to occur in the game.
+ *
+ * IMPORTANT NOTE:
+ * Every Game object is one independent duel, so many games can be played in the same JVM.
+ * The GUI Board uses one shared game, which can be taken using getInstance.
+ * Everything random in a game comes from the random of the game, so a game made with a seed
+ * deals the same decks on every run. resetGame starts a new match with a new seed drawn from that random.
+ * Events executed with execute(IEvent) are appended to the match log of the game, if it has one,
+ * so the match can be played again by ReplayEngine from the seed.
+ * Events make their changes through the UndoRecord of the game. executeUndoable gives the record of the event,
+ * so search and previews can undo it instead of copying the game, those events are not logged. With the undo
+ * history on, every executed event is kept so players can undo their moves, and the kept events are only
+ * appended to the match log when clearUndoHistory commits them, so the log never has an undone event.
+ * getHash gives a Zobrist hash of the game, made from hashes kept up to date by the hand, field and powers,
+ * so search can find states it has already seen, even when they are reached by other moves.
  * @author G10-K03-CardGameOOP
  */
 
-// Singleton Design pattern
 public class Game {
     private static Game game;
     private Player p1;
@@ -21,12 +45,95 @@ public class Game {
     private PlayerType currentPlayer;
     private IPhase currentPhase;
     private EventBus eventBus;
+    private long seed;
+    private SplittableRandom random;
+    private MatchLog matchLog;
+    private IDeckSource deckSourceA;
+    private IDeckSource deckSourceB;
+    /**
+     * record of the event being executed, NONE when no event is recorded
+     */
+    private UndoRecord undoRecord = UndoRecord.NONE;
+    /**
+     * executed events that can still be undone, last first, null if the history is off
+     */
+    private Deque<KeptEvent> undoHistory;
+
+    public Game() {
+        this(new SplittableRandom().nextLong());
+    }
 
-    private Game() {
-        this.resetGame();
+    /**
+     * make a game that can be played again with the same decks
+     * @param seed seed of the random of the game
+     */
+    public Game(long seed) {
+        this(seed, DeckComposition.STANDARD, DeckComposition.STANDARD);
     }
 
-    public static Game getInstance() {
+    /**
+     * make a game where the decks come from deck sources, like fixed deck lists
+     * @param seed seed of the random of the game
+     * @param deckSourceA source of the deck of player A
+     * @param deckSourceB source of the deck of player B
+     */
+    public Game(long seed, IDeckSource deckSourceA, IDeckSource deckSourceB) {
+        this.seed = seed;
+        this.deckSourceA = deckSourceA;
+        this.deckSourceB = deckSourceB;
+        this.deal();
+    }
+
+    /**
+     * make a game that continues from the given players and turn
+     * @param p1 player A
+     * @param p2 player B
+     * @param currentTurn the turn number
+     * @param currentPlayer the player that is playing the turn
+     * @param phase the phase of the turn
+     */
+    public Game(Player p1, Player p2, int currentTurn, PlayerType currentPlayer, Phase phase) {
+        this.p1 = p1;
+        this.p2 = p2;
+        this.currentTurn = currentTurn;
+        this.currentPlayer = currentPlayer;
+        this.setCurrentPhase(phase);
+        this.eventBus = new EventBus();
+        // seeded from the state, so the same players and turn always give the same game
+        this.seed = getHash();
+        this.random = new SplittableRandom(seed);
+        this.deckSourceA = DeckComposition.STANDARD;
+        this.deckSourceB = DeckComposition.STANDARD;
+    }
+
+    /**
+     * make this game continue from the given players and turn, keeping its event bus,
+     * so a scratch game can be used again instead of making a new one
+     * @param p1 player A
+     * @param p2 player B
+     * @param currentTurn the turn number
+     * @param currentPlayer the player that is playing the turn
+     * @param phase the phase of the turn
+     * @param seed seed of the random of the game
+     */
+    void load(Player p1, Player p2, int currentTurn, PlayerType currentPlayer, Phase phase, long seed) {
+        this.p1 = p1;
+        this.p2 = p2;
+        this.currentTurn = currentTurn;
+        this.currentPlayer = currentPlayer;
+        this.setCurrentPhase(phase);
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        this.matchLog = null;
+        this.undoRecord = UndoRecord.NONE;
+        this.undoHistory = null;
+    }
+
+    /**
+     * get the game played by the GUI Board
+     * @return the shared game, created on the first call
+     */
+    public static synchronized Game getInstance() {
         if (game == null) {
             game = new Game();
         }
@@ -92,6 +199,146 @@ public class Game {
         }
     }
 
+    /**
+     * execute an event on this game and append it to the match log, with the undo history on the event is
+     * appended when it is committed by clearUndoHistory
+     * @param event the event
+     * @throws InvalidOperationException if the event can not be done, then it is not logged
+     */
+    public void execute(IEvent event) throws InvalidOperationException {
+        if (undoHistory != null) {
+            int turn = currentTurn;
+            Phase phase = currentPhase.getPhase();
+            PlayerType player = currentPlayer;
+            UndoRecord record = executeUndoable(event);
+            undoHistory.push(new KeptEvent(record, turn, phase, player, event));
+        } else {
+            executeAndLog(event);
+        }
+    }
+
+    /**
+     * execute an event on this game and keep its changes, the event is not logged,
+     * so search and previews can try events on a logged game
+     * @param event the event
+     * @return the record to undo the event
+     * @throws InvalidOperationException if the event can not be done, then the game is not changed
+     */
+    public UndoRecord executeUndoable(IEvent event) throws InvalidOperationException {
+        UndoRecord record = new UndoRecord();
+        UndoRecord outer = undoRecord;
+        undoRecord = record;
+        try {
+            event.execute(this);
+        } catch (InvalidOperationException | RuntimeException e) {
+            record.undo();
+            throw e;
+        } finally {
+            undoRecord = outer;
+        }
+        return record;
+    }
+
+    private void executeAndLog(IEvent event) throws InvalidOperationException {
+        int turn = currentTurn;
+        Phase phase = currentPhase.getPhase();
+        PlayerType player = currentPlayer;
+        event.execute(this);
+        if (matchLog != null) {
+            matchLog.append(turn, phase, player, event.toRecord());
+        }
+    }
+
+    /**
+     * @return Zobrist hash of the players, turn, phase and current player, equal games have equal hashes
+     */
+    public long getHash() {
+        // the hash of player B is rotated, so the same cards in both players do not cancel out
+        return p1.getHash() ^ Long.rotateLeft(p2.getHash(), 32)
+                ^ Zobrist.key(Zobrist.TURN, currentTurn)
+                ^ Zobrist.key(Zobrist.PHASE, currentPhase.getPhase().ordinal())
+                ^ Zobrist.key(Zobrist.CURRENT_PLAYER, currentPlayer.ordinal());
+    }
+
+    /**
+     * @return record the events make their changes through, NONE when no event is recorded
+     */
+    public UndoRecord getUndoRecord() {
+        return undoRecord;
+    }
+
+    /**
+     * keep every event executed with execute(IEvent) from now on, so it can be undone with undoLast
+     * @param enabled true to keep the events, false to commit the kept events and stop keeping them
+     */
+    public void setUndoHistory(boolean enabled) {
+        clearUndoHistory();
+        this.undoHistory = enabled ? new ArrayDeque<>() : null;
+    }
+
+    /**
+     * commit the kept events, for example when a turn ends and can not be taken back,
+     * they are appended to the match log from the first to the last
+     */
+    public void clearUndoHistory() {
+        if (undoHistory == null) {
+            return;
+        }
+        if (matchLog != null) {
+            for (Iterator<KeptEvent> it = undoHistory.descendingIterator(); it.hasNext(); ) {
+                KeptEvent kept = it.next();
+                matchLog.append(kept.turn, kept.phase, kept.player, kept.event.toRecord());
+            }
+        }
+        undoHistory.clear();
+    }
+
+    public boolean canUndo() {
+        return undoHistory != null && !undoHistory.isEmpty();
+    }
+
+    /**
+     * undo the last event kept in the undo history
+     * @return false if there is no event to undo
+     */
+    public boolean undoLast() {
+        if (!canUndo()) {
+            return false;
+        }
+        undoHistory.pop().record.undo();
+        return true;
+    }
+
+    /**
+     * @return seed of the current match, games made from players are seeded from their state
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @param type the player
+     * @return source the deck of the player was made from, STANDARD for games made from players
+     */
+    public IDeckSource getDeckSource(PlayerType type) {
+        return (type == PlayerType.A) ? deckSourceA : deckSourceB;
+    }
+
+    /**
+     * @return the match log, null if the game is not logged, events still in the undo history are not in it yet
+     */
+    public MatchLog getMatchLog() {
+        return matchLog;
+    }
+
+    /**
+     * log every event executed with execute(IEvent) from now on
+     * @param matchLog the log, null to stop logging
+     */
+    public void setMatchLog(MatchLog matchLog) {
+        this.matchLog = matchLog;
+    }
+
     public EventBus getEventBus() {
         return eventBus;
     }
@@ -100,12 +347,47 @@ public class Game {
         return (p1.checkLose()||p2.checkLose());
     }
 
+    /**
+     * start a new match with new decks from the same deck sources, the seed of the new match is drawn
+     * from the random of this game, so a seeded game always resets to the same sequence of matches
+     */
     public void resetGame() {
-        this.p1 = new Player(PlayerType.A);
-        this.p2 = new Player(PlayerType.B);
+        this.seed = random.nextLong();
+        this.deal();
+    }
+
+    /**
+     * deal the decks and hands of a new match from the seed of the game
+     */
+    private void deal() {
+        this.random = new SplittableRandom(seed);
+        clearUndoHistory();
+        this.matchLog = null;
+        this.undoRecord = UndoRecord.NONE;
+        this.p1 = new Player(PlayerType.A, deckSourceA, random.split());
+        this.p2 = new Player(PlayerType.B, deckSourceB, random.split());
         this.currentTurn = 1; // first turn
         this.currentPhase = new DrawPhase();
         this.currentPlayer = PlayerType.A;
         this.eventBus = new EventBus();
     }
+
+    /**
+     * event kept in the undo history, with what the match log needs once it is committed
+     */
+    private static final class KeptEvent {
+        private final UndoRecord record;
+        private final int turn;
+        private final Phase phase;
+        private final PlayerType player;
+        private final IEvent event;
+
+        KeptEvent(UndoRecord record, int turn, Phase phase, PlayerType player, IEvent event) {
+            this.record = record;
+            this.turn = turn;
+            this.phase = phase;
+            this.player = player;
+            this.event = event;
+        }
+    }
 }
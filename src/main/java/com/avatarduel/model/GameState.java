@@ -0,0 +1,403 @@
+package com.avatarduel.model;
+
+import com.avatarduel.dao.CardCatalog;
+import com.avatarduel.event.IEvent;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.factory.CardFactory;
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.card.CharacterCard;
+import com.avatarduel.model.card.CharacterCardInField;
+import com.avatarduel.model.card.SkillCard;
+import com.avatarduel.model.card.SkillCardInField;
+import com.avatarduel.model.player_component.Deck;
+import com.avatarduel.model.player_component.Field;
+import com.avatarduel.model.player_component.Hand;
+import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.player_component.PowerManager;
+import com.avatarduel.model.type.CharacterState;
+import com.avatarduel.model.type.Element;
+import com.avatarduel.model.type.Phase;
+import com.avatarduel.model.type.PlayerType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * GameState is the whole duel packed into one int array, so it can be copied, hashed and compared quickly.
+ *
+ * IMPORTANT NOTE:
+ * The array starts with the turn, current player and phase, followed by one block for player A and one for player B.
+ * Each block has the HP, the land flag, the power snapshot, the deck (bottom card first), the hand,
+ * and then the character and skill slots of the field. A skill slot keeps the id of the character it is attached to.
+ * A card is stored as (catalog index + 1) shifted left 16 bits, or'ed with the card id in the game, 0 means no card.
+ * GameState never changes after it is made. copy and the getters are the fast part, a copy is a few hundred nanoseconds.
+ * apply loads the state into a scratch Game of the thread, runs the event on it and packs the result, so it costs
+ * about as much as making every card of the state again, a few microseconds. Search should run and undo events on
+ * a Game instead, and keep states for hashing and storing. The random of the scratch game is seeded from the hash
+ * of the state, so applying the same event to the same state always gives the same state.
+ * The played cards of the players are not kept, the rules never look at them. copyOf keeps them next to the state,
+ * for players that read what the opponent has played, like the BeliefModel.
+ * @author G10-K03-CardGameOOP
+ */
+
+public final class GameState {
+    public static final int MAX_DECK_SIZE = 60;
+    public static final int MAX_HAND_SIZE = 10;
+    public static final int FIELD_SIZE = 6;
+
+    private static final int TURN = 0;
+    private static final int CURRENT_PLAYER = 1;
+    private static final int PHASE = 2;
+    private static final int HEADER_SIZE = 3;
+
+    // offsets inside a player block
+    private static final int HP = 0;
+    private static final int HAS_PLAY_LAND = 1;
+    private static final int POWER = 2;
+    private static final int DECK_SIZE = POWER + PowerManager.SNAPSHOT_SIZE;
+    private static final int DECK = DECK_SIZE + 1;
+    private static final int HAND_SIZE = DECK + MAX_DECK_SIZE;
+    private static final int HAND = HAND_SIZE + 1;
+    private static final int CHARACTER = HAND + MAX_HAND_SIZE;
+    private static final int SKILL = CHARACTER + 3 * FIELD_SIZE;
+    private static final int PLAYER_SIZE = SKILL + 3 * FIELD_SIZE;
+
+    public static final int SIZE = HEADER_SIZE + 2 * PLAYER_SIZE;
+
+    private static final int ID_BITS = 16;
+    private static final int ID_MASK = (1 << ID_BITS) - 1;
+    private static final int ATTACKED_FLAG = 1 << 8;
+
+    /**
+     * game of every thread that apply loads the states into
+     */
+    private static final ThreadLocal<Game> scratch = new ThreadLocal<>();
+
+    private final int[] data;
+    private long hash;
+
+    private GameState(int[] data) {
+        this.data = data;
+    }
+
+    /**
+     * pack the game into a state
+     * @param game the game
+     * @return the state of the game
+     */
+    public static GameState of(Game game) {
+        int[] data = new int[SIZE];
+        data[TURN] = game.getCurrentTurn();
+        data[CURRENT_PLAYER] = game.getCurrentPlayer().ordinal();
+        data[PHASE] = game.getCurrentPhase().getPhase().ordinal();
+        writePlayer(data, offset(PlayerType.A), game.getPlayerByType(PlayerType.A), game);
+        writePlayer(data, offset(PlayerType.B), game.getPlayerByType(PlayerType.B), game);
+        return new GameState(data);
+    }
+
+    /**
+     * make a new game with the same state, changing the game does not change this state
+     * @return the game
+     */
+    public Game toGame() {
+        Player[] players = toPlayers();
+        return new Game(players[0], players[1], getTurn(), getCurrentPlayer(), getPhase());
+    }
+
+    /**
+     * make a new game with the same state and the same played cards, for a player choosing a move on its own copy
+     * @param game the game
+     * @return the copy, changing it does not change the game
+     */
+    public static Game copyOf(Game game) {
+        Game copy = of(game).toGame();
+        for (PlayerType type : PlayerType.values()) {
+            List<Card> played = copy.getPlayerByType(type).getPlayedCards();
+            for (Card card : game.getPlayerByType(type).getPlayedCards()) {
+                played.add(readCard(writeCard(card)));
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * @return player A and B of this state, with the skill cards attached to the characters
+     */
+    private Player[] toPlayers() {
+        Player p1 = toPlayer(PlayerType.A);
+        Player p2 = toPlayer(PlayerType.B);
+        linkSkillCards(p1, p1, p2);
+        linkSkillCards(p2, p1, p2);
+        return new Player[] {p1, p2};
+    }
+
+    /**
+     * run the event on this state, this makes the cards of the state again, so it takes microseconds
+     * @param event the event
+     * @return the state after the event, this state does not change
+     * @throws InvalidOperationException if the event is not allowed in this state
+     */
+    public GameState apply(IEvent event) throws InvalidOperationException {
+        Player[] players = toPlayers();
+        Game game = scratch.get();
+        if (game == null) {
+            game = new Game(players[0], players[1], getTurn(), getCurrentPlayer(), getPhase());
+            scratch.set(game);
+        }
+        game.load(players[0], players[1], getTurn(), getCurrentPlayer(), getPhase(), hash());
+        event.execute(game);
+        return of(game);
+    }
+
+    /**
+     * make a state where the cards in the hand and the deck of a player are other cards,
+     * so a search can play a guess of the cards it can not see
+     * @param type owner of the cards
+     * @param hand catalog index of every card in hand, in the order of the hand, null to keep the hand
+     * @param deck catalog index of every card in the deck, bottom card first, null to keep the deck
+     * @return the new state, the card ids and everything else are the same
+     * @throws IllegalArgumentException if an array has another size than the hand or the deck
+     */
+    public GameState withHiddenCards(PlayerType type, int[] hand, int[] deck) {
+        int base = offset(type);
+        int[] copy = data.clone();
+        if (hand != null) {
+            replaceCards(copy, base + HAND, data[base + HAND_SIZE], hand);
+        }
+        if (deck != null) {
+            replaceCards(copy, base + DECK, data[base + DECK_SIZE], deck);
+        }
+        return new GameState(copy);
+    }
+
+    private static void replaceCards(int[] data, int start, int size, int[] indexes) {
+        if (indexes.length != size) {
+            throw new IllegalArgumentException("expected " + size + " cards, not " + indexes.length);
+        }
+        for (int i = 0; i < size; i++) {
+            data[start + i] = ((indexes[i] + 1) << ID_BITS) | (data[start + i] & ID_MASK);
+        }
+    }
+
+    /**
+     * @return a state with its own copy of the array
+     */
+    public GameState copy() {
+        GameState copy = new GameState(data.clone());
+        copy.hash = hash;
+        return copy;
+    }
+
+    /**
+     * 64 bit hash of the state, computed once
+     * @return the hash
+     */
+    public long hash() {
+        if (hash == 0) {
+            long h = 0xcbf29ce484222325L;
+            for (int value : data) {
+                h = (h ^ value) * 0x100000001b3L;
+            }
+            hash = (h == 0) ? 1 : h;
+        }
+        return hash;
+    }
+
+    public int getTurn() {
+        return data[TURN];
+    }
+
+    public PlayerType getCurrentPlayer() {
+        return PlayerType.values()[data[CURRENT_PLAYER]];
+    }
+
+    public Phase getPhase() {
+        return Phase.values()[data[PHASE]];
+    }
+
+    public int getHealthPoint(PlayerType type) {
+        return data[offset(type) + HP];
+    }
+
+    public int getCurrentPower(PlayerType type, Element element) {
+        return data[offset(type) + POWER + element.ordinal()];
+    }
+
+    public int getDeckSize(PlayerType type) {
+        return data[offset(type) + DECK_SIZE];
+    }
+
+    public int getHandSize(PlayerType type) {
+        return data[offset(type) + HAND_SIZE];
+    }
+
+    /**
+     * @return a copy of the packed array
+     */
+    public int[] toArray() {
+        return data.clone();
+    }
+
+    /**
+     * @param data array made by toArray
+     * @return the state of the array
+     */
+    public static GameState fromArray(int[] data) {
+        if (data.length != SIZE) {
+            throw new IllegalArgumentException("game state must have " + SIZE + " ints");
+        }
+        return new GameState(data.clone());
+    }
+
+    /**
+     * make the player of this state, the skill cards are not attached to the characters yet
+     * @param type the player type
+     * @return the player
+     */
+    public Player toPlayer(PlayerType type) {
+        int base = offset(type);
+        List<Card> deckCards = new ArrayList<>(data[base + DECK_SIZE]);
+        for (int i = 0; i < data[base + DECK_SIZE]; i++) {
+            deckCards.add(readCard(data[base + DECK + i]));
+        }
+        Player player = new Player(type, new Deck(type, deckCards));
+        player.setHealthPoint(data[base + HP]);
+        player.setHasPlayLand(data[base + HAS_PLAY_LAND] != 0);
+        player.getPower().restore(data, base + POWER);
+
+        Hand hand = player.getHand();
+        for (int i = 0; i < data[base + HAND_SIZE]; i++) {
+            hand.add(readCard(data[base + HAND + i]));
+        }
+
+        Field field = player.getField();
+        for (int i = 0; i < FIELD_SIZE; i++) {
+            int slot = base + CHARACTER + 3 * i;
+            if (data[slot] != 0) {
+                int flags = data[slot + 2];
+                CharacterCardInField inField = new CharacterCardInField((CharacterCard) readCard(data[slot]),
+                        CharacterState.values()[flags & 0xFF], data[slot + 1], i);
+                inField.setHasAttacked((flags & ATTACKED_FLAG) != 0);
+                field.addCharacterCard(inField);
+            }
+        }
+        for (int i = 0; i < FIELD_SIZE; i++) {
+            int slot = base + SKILL + 3 * i;
+            if (data[slot] != 0) {
+                field.addSkillCard((SkillCard) readCard(data[slot]), i, data[slot + 1]);
+            }
+        }
+        return player;
+    }
+
+    private void linkSkillCards(Player owner, Player p1, Player p2) {
+        int base = offset(owner.getType());
+        for (int i = 0; i < FIELD_SIZE; i++) {
+            int slot = base + SKILL + 3 * i;
+            if (data[slot] != 0 && data[slot + 2] != 0) {
+                CharacterCardInField target = p1.getCharacterCardByID(data[slot + 2]);
+                if (target == null) {
+                    target = p2.getCharacterCardByID(data[slot + 2]);
+                }
+                SkillCardInField skill = owner.getField().getSkillCardAt(i);
+                if (target != null) {
+                    owner.getField().setPairedCharacter(skill, target);
+                    target.pair(skill.getCard());
+                }
+            }
+        }
+    }
+
+    private static void writePlayer(int[] data, int base, Player player, Game game) {
+        data[base + HP] = player.getHealthPoint();
+        data[base + HAS_PLAY_LAND] = player.hasPlayLand() ? 1 : 0;
+        player.getPower().snapshot(data, base + POWER);
+
+        Deck deck = player.getDeck();
+        if (deck.size() > MAX_DECK_SIZE) {
+            throw new IllegalArgumentException("deck can not have more than " + MAX_DECK_SIZE + " cards");
+        }
+        data[base + DECK_SIZE] = deck.size();
+        for (int i = 0; i < deck.size(); i++) {
+            data[base + DECK + i] = writeCard(deck.get(i));
+        }
+
+        Hand hand = player.getHand();
+        data[base + HAND_SIZE] = hand.size();
+        for (int i = 0; i < hand.size(); i++) {
+            data[base + HAND + i] = writeCard(hand.get(i));
+        }
+
+        Field field = player.getField();
+        for (int i = 0; i < FIELD_SIZE; i++) {
+            CharacterCardInField inField = field.getCharacterCardAt(i);
+            if (inField != null) {
+                int slot = base + CHARACTER + 3 * i;
+                data[slot] = writeCard(inField.getCard());
+                data[slot + 1] = inField.getCreatedAtTurn();
+                data[slot + 2] = inField.getPosition().ordinal() | (inField.hasAttacked() ? ATTACKED_FLAG : 0);
+            }
+            SkillCardInField skill = field.getSkillCardAt(i);
+            if (skill != null) {
+                int slot = base + SKILL + 3 * i;
+                CharacterCardInField paired = findPairedCharacter(skill, game);
+                data[slot] = writeCard(skill.getCard());
+                data[slot + 1] = skill.getCreatedAtTurn();
+                data[slot + 2] = (paired == null) ? 0 : paired.getCard().getId();
+            }
+        }
+    }
+
+    private static CharacterCardInField findPairedCharacter(SkillCardInField skill, Game game) {
+        if (skill.getPairedCharacter() != null) {
+            return skill.getPairedCharacter();
+        }
+        for (PlayerType type : PlayerType.values()) {
+            for (CharacterCardInField inField : game.getPlayerByType(type).getField().getCharCardList()) {
+                for (SkillCard card : inField.getConnectedCard()) {
+                    if (card.getId() == skill.getCard().getId()) {
+                        return inField;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static int writeCard(Card card) {
+        int index = CardCatalog.getInstance().getCatalogIndex(card);
+        if (index < 0 || card.getId() < 0 || card.getId() > ID_MASK) {
+            throw new IllegalArgumentException("card " + card + " can not be packed");
+        }
+        return ((index + 1) << ID_BITS) | card.getId();
+    }
+
+    private static Card readCard(int code) {
+        Card card = CardFactory.createClone(CardCatalog.getInstance().getCardByCatalogIndex((code >>> ID_BITS) - 1));
+        card.setId(code & ID_MASK);
+        return card;
+    }
+
+    private static int offset(PlayerType type) {
+        return HEADER_SIZE + type.ordinal() * PLAYER_SIZE;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GameState)) {
+            return false;
+        }
+        GameState other = (GameState) o;
+        return hash() == other.hash() && Arrays.equals(data, other.data);
+    }
+
+    @Override
+    public int hashCode() {
+        long h = hash();
+        return (int) (h ^ (h >>> 32));
+    }
+}
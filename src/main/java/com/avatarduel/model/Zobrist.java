@@ -0,0 +1,49 @@
+package com.avatarduel.model;
+
+/**
+ * Zobrist gives the random 64 bit keys that are xor'ed together into the hash of a game.
+ *
+ * IMPORTANT NOTE:
+ * A key belongs to one feature of the game, like the card in a character slot, and one value of it, like the card id.
+ * Keys are made by mixing the feature and the value with the splitmix64 finalizer instead of being read from
+ * a table, so values without a known range, like the health point, get keys too.
+ * Player, Deck, Hand, Field and PowerManager keep the xor of the keys of their values, changing it whenever a value
+ * changes : the health point, land flag, deck size, cards, powers, and the position, attack flag and target of the
+ * cards in the field. The events make these changes through the UndoRecord, so the hash of a game is a few xors
+ * of kept hashes and the keys of the turn, phase and current player, and never goes through the cards again.
+ * @author G10-K03-CardGameOOP
+ */
+
+public final class Zobrist {
+    public static final int HEALTH_POINT = 1;
+    public static final int HAS_PLAY_LAND = 2;
+    public static final int DECK_SIZE = 3;
+    public static final int TURN = 4;
+    public static final int PHASE = 5;
+    public static final int CURRENT_PLAYER = 6;
+    public static final int HAND_CARD = 7;
+    /**
+     * the features below are followed by one feature for every element or slot
+     */
+    public static final int CURRENT_POWER = 16;
+    public static final int TOTAL_POWER = 32;
+    public static final int CHARACTER_SLOT = 64;
+    public static final int SKILL_SLOT = 96;
+    public static final int CHARACTER_STATE = 128;
+    public static final int SKILL_TARGET = 160;
+
+    private Zobrist() {
+    }
+
+    /**
+     * @param feature what the value is, one of the constants of Zobrist
+     * @param value the value
+     * @return the key of the value of the feature
+     */
+    public static long key(int feature, int value) {
+        long z = ((long) feature << 32 | (value & 0xFFFFFFFFL)) + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -8,24 +8,24 @@ import com.avatarduel.model.type.Element;
  * Card is the main object of our game application that consists of id, name,
  * element, description, image, type, and power.
  * Each attribute also have its own types.
+ *
+ * IMPORTANT NOTE:
+ * A card only keeps its own id, the other attributes are read from a CardTemplate
+ * that is shared with every copy of the same card.
  * @author G10-K03-CardGameOOP
  */
 
 public class Card  {
     protected int id;
-    protected String name;
-    protected Element element;
-    protected String description;
-    protected String image;
-    protected CardType type;
-    protected int power;
+    protected CardTemplate template;
 
     public Card(int id, String name, Element element, String description, String image) {
+        this(id, new CardTemplate(name, element, description, image, null, 0, 0, 0));
+    }
+
+    public Card(int id, CardTemplate template) {
         this.id = id;
-        this.name = name;
-        this.element = element;
-        this.description = description;
-        this.image = image;
+        this.template = template;
     }
 
     public Card(String[] elements) {
@@ -38,8 +38,12 @@ public class Card  {
         return super.clone();
     }
 
+    public CardTemplate getTemplate() {
+        return template;
+    }
+
     public Element getElement() {
-        return element;
+        return template.getElement();
     }
 
     public int getId() {
@@ -47,27 +51,27 @@ public class Card  {
     }
 
     public String getDescription() {
-        return description;
+        return template.getDescription();
     }
 
     public String getImage() {
-        return image;
+        return template.getImage();
     }
 
     public String getName() {
-        return name;
+        return template.getName();
     }
 
     public int getPower() {
-        return power;
+        return template.getPower();
     }
 
     public void setDescription(String description) {
-        this.description = description;
+        this.template = template.withDescription(description);
     }
 
     public void setElement(Element element) {
-        this.element = element;
+        this.template = template.withElement(element);
     }
 
     public void setId(int id) {
@@ -75,22 +79,22 @@ public class Card  {
     }
 
     public void setImage(String image) {
-        this.image = image;
+        this.template = template.withImage(image);
     }
 
     public void setName(String name) {
-        this.name = name;
+        this.template = template.withName(name);
     }
 
     public void setPower(int power) {
-        this.power = power;
+        this.template = template.withPower(power);
     }
 
     public CardType getType() {
-        return type;
+        return template.getType();
     }
 
     public void setType(CardType type) {
-        this.type = type;
+        this.template = template.withType(type);
     }
 }
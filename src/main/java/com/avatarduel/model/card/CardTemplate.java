@@ -0,0 +1,137 @@
+package com.avatarduel.model.card;
+
+import com.avatarduel.model.type.CardType;
+import com.avatarduel.model.type.Element;
+
+import java.util.Objects;
+
+/**
+ * CardTemplate is the unchangeable data of a card, as written in the csv files.
+ *
+ * IMPORTANT NOTE:
+ * One template is shared by every copy of the same card in every game, the copies only keep their own id.
+ * To change a value, a new template is made with one of the "with" methods, so other copies are not changed.
+ * Attack and defense are only used by character and aura cards, other cards keep them 0.
+ * @author G10-K03-CardGameOOP
+ */
+
+public final class CardTemplate {
+    private final String name;
+    private final Element element;
+    private final String description;
+    private final String image;
+    private final CardType type;
+    private final int power;
+    private final int attack;
+    private final int defense;
+    /**
+     * hashCode, made on the first call since the template never changes
+     */
+    private int hash;
+
+    public CardTemplate(String name, Element element, String description, String image, CardType type, int power, int attack, int defense) {
+        this.name = name;
+        this.element = element;
+        this.description = description;
+        this.image = image;
+        this.type = type;
+        this.power = power;
+        this.attack = attack;
+        this.defense = defense;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Element getElement() {
+        return element;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getImage() {
+        return image;
+    }
+
+    public CardType getType() {
+        return type;
+    }
+
+    public int getPower() {
+        return power;
+    }
+
+    public int getAttack() {
+        return attack;
+    }
+
+    public int getDefense() {
+        return defense;
+    }
+
+    public CardTemplate withName(String name) {
+        return new CardTemplate(name, element, description, image, type, power, attack, defense);
+    }
+
+    public CardTemplate withElement(Element element) {
+        return new CardTemplate(name, element, description, image, type, power, attack, defense);
+    }
+
+    public CardTemplate withDescription(String description) {
+        return new CardTemplate(name, element, description, image, type, power, attack, defense);
+    }
+
+    public CardTemplate withImage(String image) {
+        return new CardTemplate(name, element, description, image, type, power, attack, defense);
+    }
+
+    public CardTemplate withType(CardType type) {
+        return new CardTemplate(name, element, description, image, type, power, attack, defense);
+    }
+
+    public CardTemplate withPower(int power) {
+        return new CardTemplate(name, element, description, image, type, power, attack, defense);
+    }
+
+    public CardTemplate withAttack(int attack) {
+        return new CardTemplate(name, element, description, image, type, power, attack, defense);
+    }
+
+    public CardTemplate withDefense(int defense) {
+        return new CardTemplate(name, element, description, image, type, power, attack, defense);
+    }
+
+    /**
+     * {@inheritDoc}
+     * two templates are equal if all of their values are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CardTemplate)) {
+            return false;
+        }
+        CardTemplate other = (CardTemplate) o;
+        return power == other.power && attack == other.attack && defense == other.defense
+                && element == other.element && type == other.type
+                && Objects.equals(name, other.name)
+                && Objects.equals(description, other.description)
+                && Objects.equals(image, other.image);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        if (hash == 0) {
+            hash = Objects.hash(name, element, description, image, type, power, attack, defense);
+        }
+        return hash;
+    }
+}
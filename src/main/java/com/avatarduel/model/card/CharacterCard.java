@@ -10,16 +10,13 @@ import com.avatarduel.model.type.Element;
  */
 
 public class CharacterCard extends Card {
-    private int attack;
-    private int defense;
-    private int power;
 
     public CharacterCard(int id, String name, Element element, String description, String image, int attack, int defense, int power) {
-        super(id, name, element, description, image);
-        this.attack = attack;
-        this.defense = defense;
-        this.power = power;
-        this.type = CardType.CHARACTER;
+        super(id, new CardTemplate(name, element, description, image, CardType.CHARACTER, power, attack, defense));
+    }
+
+    public CharacterCard(int id, CardTemplate template) {
+        super(id, template);
     }
 
     public CharacterCard(String[] elements) {
@@ -28,27 +25,19 @@ public class CharacterCard extends Card {
     }
 
     public int getAttack() {
-        return attack;
+        return template.getAttack();
     }
 
     public int getDefense() {
-        return defense;
-    }
-
-    public int getPower() {
-        return power;
+        return template.getDefense();
     }
 
     public void setAttack(int attack) {
-        this.attack = attack;
+        this.template = template.withAttack(attack);
     }
 
     public void setDefense(int defense) {
-        this.defense = defense;
-    }
-
-    public void setPower(int power) {
-        this.power = power;
+        this.template = template.withDefense(defense);
     }
 
 //    @Override -- > later implement || for debugging purpose
@@ -4,21 +4,31 @@ import com.avatarduel.model.type.CardType;
 import com.avatarduel.model.type.CharacterState;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * CharacterCardInField is a class for the character that in field states.
  * CharacterCardInField also has 2 states which are attack or defense that will
  * determine the process of the game.
+ *
+ * IMPORTANT NOTE:
+ * The bonus from the connected skill cards is kept as a running total,
+ * updated whenever a skill card is paired or unpaired, so reading the
+ * total attack or defense never goes through the connected cards.
+ * The attack flag and the position of a character in a field are changed through the Field,
+ * so the Zobrist hash of the field follows them.
  * @author G10-K03-CardGameOOP
  */
 
 public class CharacterCardInField implements IField{
     private CharacterCard card;
-    public boolean hasAttacked;
+    private boolean hasAttacked;
     private CharacterState position;
     private List<SkillCard> connectedCard;
+    private int bonusAttack;
+    private int bonusDefense;
+    private int powerUpCount;
     private int createdAtTurn;
     private int index; // index in field for gui
 
@@ -32,8 +42,15 @@ public class CharacterCardInField implements IField{
     }
 
 
-    public void refresh() {
-        hasAttacked = false;
+    public boolean hasAttacked() {
+        return hasAttacked;
+    }
+
+    /**
+     * @param hasAttacked true if the character has attacked this turn, use Field.setHasAttacked for a character in a field
+     */
+    public void setHasAttacked(boolean hasAttacked) {
+        this.hasAttacked = hasAttacked;
     }
 
     public boolean canAttack() {
@@ -54,18 +71,22 @@ public class CharacterCardInField implements IField{
         this.card = card;
     }
 
+    /**
+     * replace all skill cards connected to this character
+     * @param listCard the new connected cards
+     */
     public void setConnectedCard(List<SkillCard> listCard) {
-        this.connectedCard = listCard;
+        this.connectedCard = new ArrayList<>();
+        this.bonusAttack = 0;
+        this.bonusDefense = 0;
+        this.powerUpCount = 0;
+        for (SkillCard card : listCard) {
+            pair(card);
+        }
     }
 
     public int getBonusAttack() {
-        AtomicInteger bonus = new AtomicInteger();
-        for (Card card: connectedCard) {
-            if (card.getType().equals(CardType.SKILL_AURA)) {
-                bonus.addAndGet(((SkillAuraCard) card).getAttack());
-            }
-        }
-        return bonus.get();
+        return bonusAttack;
     }
 
     public CharacterState getPosition() {
@@ -73,27 +94,16 @@ public class CharacterCardInField implements IField{
     }
 
     public int getBonusDefense() {
-        AtomicInteger bonus = new AtomicInteger();
-        for (Card card: connectedCard) {
-            if (card.getType().equals(CardType.SKILL_AURA)) {
-                bonus.addAndGet(((SkillAuraCard) card).getDefense());
-            }
-        }
-        return bonus.get();
+        return bonusDefense;
     }
 
     /**
-     * check if there is any skill card associated with this character
+     * check if there is any power up card associated with this character
      * if yes return true, else return false
      * @return boolean
      */
     public boolean isPowerUp() {
-        for (Card card : connectedCard) {
-            if (card.getType() == CardType.SKILL_POWER_UP) {
-                return true;
-            }
-        }
-        return false;
+        return powerUpCount > 0;
     }
 
     /**
@@ -102,6 +112,41 @@ public class CharacterCardInField implements IField{
      */
     public void pair(SkillCard card) {
         connectedCard.add(card);
+        updateBonus(card, 1);
+    }
+
+    /**
+     * add a skill card to this character card at a position of the connected cards
+     * @param position position in the connected cards
+     * @param card the card attached
+     */
+    public void pair(int position, SkillCard card) {
+        connectedCard.add(position, card);
+        updateBonus(card, 1);
+    }
+
+    /**
+     * remove a skill card from this character card
+     * @param card the card detached
+     * @return true if the card was connected to this character
+     */
+    public boolean unpair(SkillCard card) {
+        for (int i = 0; i < connectedCard.size(); i++) {
+            if (connectedCard.get(i).getId() == card.getId()) {
+                updateBonus(connectedCard.remove(i), -1);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void updateBonus(SkillCard card, int sign) {
+        if (card.getType() == CardType.SKILL_AURA) {
+            bonusAttack += sign * ((SkillAuraCard) card).getAttack();
+            bonusDefense += sign * ((SkillAuraCard) card).getDefense();
+        } else if (card.getType() == CardType.SKILL_POWER_UP) {
+            powerUpCount += sign;
+        }
     }
 
     /**
@@ -126,8 +171,11 @@ public class CharacterCardInField implements IField{
         return createdAtTurn;
     }
 
+    /**
+     * @return unmodifiable list of the connected skill cards, use pair and unpair to change it
+     */
     public List<SkillCard> getConnectedCard() {
-        return connectedCard;
+        return Collections.unmodifiableList(connectedCard);
     }
 
     /**
@@ -147,7 +195,7 @@ public class CharacterCardInField implements IField{
     }
 
     /**
-     * rotate the character from attack to defense or vice versa
+     * rotate the character from attack to defense or vice versa, use Field.switchPosition for a character in a field
      */
     public void switchPosition() {
         if (CharacterState.ATTACK.equals(position)) {
@@ -11,22 +11,15 @@ import com.avatarduel.model.type.Element;
  */
 
 public class LandCard extends Card {
-    private int power;
     public LandCard(int id, String name, Element element, String description, String image) {
-        super(id, name, element, description, image);
-        this.power = 1; // hard-coded without context power
-        this.type = CardType.LAND;
+        super(id, new CardTemplate(name, element, description, image, CardType.LAND, 1, 0, 0)); // power hard-coded without context power
     }
 
-    public LandCard(String[] elements) {
-        this(Integer.parseInt(elements[0]), elements[1], CardFactory.outputElement(elements[2]), elements[3], elements[4]);
-    }
-
-    public int getPower() {
-        return power;
+    public LandCard(int id, CardTemplate template) {
+        super(id, template);
     }
 
-    public void setPower(int power) {
-        this.power = power;
+    public LandCard(String[] elements) {
+        this(Integer.parseInt(elements[0]), elements[1], CardFactory.outputElement(elements[2]), elements[3], elements[4]);
     }
 }
@@ -12,17 +12,14 @@ import com.avatarduel.model.type.Element;
 
 public class SkillAuraCard extends SkillCard {
 
-    private int attack;
-    private int defense;
-
     // Aura Skill Card
     //id	name	element	description	imagepath	power	attack	defense
     public SkillAuraCard(int id, String name, Element element, String description, String image, int power, int attack, int defense) {
-        super(id, name, element, description, image);
-        this.type = CardType.SKILL_AURA;
-        this.power = power;
-        this.attack = attack;
-        this.defense = defense;
+        super(id, new CardTemplate(name, element, description, image, CardType.SKILL_AURA, power, attack, defense));
+    }
+
+    public SkillAuraCard(int id, CardTemplate template) {
+        super(id, template);
     }
 
     public SkillAuraCard(String[] elements) {
@@ -31,18 +28,18 @@ public class SkillAuraCard extends SkillCard {
     }
 
     public int getDefense() {
-        return defense;
+        return template.getDefense();
     }
 
     public void setDefense(int defense) {
-        this.defense = defense;
+        this.template = template.withDefense(defense);
     }
 
     public int getAttack() {
-        return attack;
+        return template.getAttack();
     }
 
     public void setAttack(int attack) {
-        this.attack = attack;
+        this.template = template.withAttack(attack);
     }
 }
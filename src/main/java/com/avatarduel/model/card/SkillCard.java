@@ -12,4 +12,8 @@ public class SkillCard extends Card{
     public SkillCard(int id, String name, Element element, String description, String image) {
         super(id,name,element,description,image);
     }
+
+    public SkillCard(int id, CardTemplate template) {
+        super(id, template);
+    }
 }
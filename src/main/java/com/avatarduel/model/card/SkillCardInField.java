@@ -11,6 +11,7 @@ public class SkillCardInField implements IField {
     private SkillCard card;
     private int createdAt;
     private int index;
+    private CharacterCardInField pairedCharacter; // character this card is attached to
 
     public SkillCardInField(SkillCard card, int createdAt, int index) {
         this.card = card;
@@ -32,4 +33,18 @@ public class SkillCardInField implements IField {
     public int getCreatedAtTurn() {
         return createdAt;
     }
+
+    /**
+     * @return the character this card is attached to, null if it is not attached yet
+     */
+    public CharacterCardInField getPairedCharacter() {
+        return pairedCharacter;
+    }
+
+    /**
+     * @param pairedCharacter the character this card is attached to, use Field.setPairedCharacter for a card in a field
+     */
+    public void setPairedCharacter(CharacterCardInField pairedCharacter) {
+        this.pairedCharacter = pairedCharacter;
+    }
 }
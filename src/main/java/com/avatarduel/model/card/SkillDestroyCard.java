@@ -13,9 +13,11 @@ public class SkillDestroyCard extends SkillCard {
 
     // Destroy Skill Card
     public SkillDestroyCard (int id, String name, Element element, String description, String image, String power) {
-        super(id,name,element,description,image);
-        this.type = CardType.SKILL_DESTROY;
-        this.power = Integer.parseInt(power);
+        super(id, new CardTemplate(name, element, description, image, CardType.SKILL_DESTROY, Integer.parseInt(power), 0, 0));
+    }
+
+    public SkillDestroyCard(int id, CardTemplate template) {
+        super(id, template);
     }
 
     public SkillDestroyCard(String[] elements) {
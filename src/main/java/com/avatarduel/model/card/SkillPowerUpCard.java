@@ -15,9 +15,11 @@ import com.avatarduel.model.type.Element;
 public class SkillPowerUpCard extends SkillCard {
 
     public SkillPowerUpCard(int id, String name, Element element, String description, String image, String power) {
-        super(id,name, element, description, image);
-        this.type = CardType.SKILL_POWER_UP;
-        this.power = Integer.parseInt(power);
+        super(id, new CardTemplate(name, element, description, image, CardType.SKILL_POWER_UP, Integer.parseInt(power), 0, 0));
+    }
+
+    public SkillPowerUpCard(int id, CardTemplate template) {
+        super(id, template);
     }
 
     public SkillPowerUpCard(String[] elements) {
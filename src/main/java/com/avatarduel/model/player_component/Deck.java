@@ -1,90 +1,198 @@
 package com.avatarduel.model.player_component;
 
-import com.avatarduel.dao.CSVCardDAO;
-import com.avatarduel.dao.CardDAO;
-import com.avatarduel.factory.CardFactory;
-import com.avatarduel.model.card.*;
+import com.avatarduel.model.Zobrist;
+import com.avatarduel.model.card.Card;
 import com.avatarduel.model.type.PlayerType;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 /**
  * Deck is one of component that used for to put stacks of cards before move to hands
  *
  * IMPORTANT NOTE:
- * Deck maximum number is 60 and minimum 40 cards.
+ * Deck maximum number is 60 and minimum 40 cards, the rule is checked by DeckComposition and DeckList.
  * If one of player that loses all the cards in the deck first
  * That player will automatically lose.
+ * Picking and shuffling cards only use the random of the deck, so a deck made with a seeded random
+ * is the same on every run.
+ * The cards are kept in an array with the top of the deck at the end, so drawing, peeking and copying
+ * never lock or move the other cards. A deck is only used by the thread playing its game.
+ * Only the size of the deck is in its Zobrist hash, the order of the cards is hidden from both players.
  * @author G10-K03-CardGameOOP
  */
 
-public class Deck extends Stack<Card>{
-    private CardDAO csvDao;
-    private int deckSize;
+public class Deck implements Iterable<Card> {
     private PlayerType type;
+    private SplittableRandom random;
+    /**
+     * cards[0] is the bottom card, cards[top - 1] is the next card drawn
+     */
+    private Card[] cards;
+    private int top;
+    /**
+     * Zobrist key of the size of the deck
+     */
+    private long hash;
 
     public Deck(int deckSize, PlayerType type) {
-        super();
-        this.deckSize = deckSize;
-        this.csvDao = new CSVCardDAO();
+        this(deckSize, type, new SplittableRandom());
+    }
+
+    /**
+     * make a deck of random cards with the split of the GUI Board, the deck size is not checked
+     * @param deckSize number of cards
+     * @param type owner of the deck
+     * @param random random used to pick and shuffle the cards
+     */
+    public Deck(int deckSize, PlayerType type, SplittableRandom random) {
+        this(type, DeckComposition.unchecked(deckSize).pickCards(type, random), random);
+        shuffle();
+    }
+
+    /**
+     * make a deck with the given cards, without shuffling
+     * @param type owner of the deck
+     * @param cards the cards, the last card is drawn first
+     */
+    public Deck(PlayerType type, List<Card> cards) {
+        this(type, cards, new SplittableRandom());
+    }
+
+    /**
+     * make a deck with the given cards, without shuffling
+     * @param type owner of the deck
+     * @param cards the cards, the last card is drawn first
+     * @param random random used when the deck is shuffled
+     */
+    public Deck(PlayerType type, List<Card> cards, SplittableRandom random) {
         this.type = type;
-        init();
+        this.random = random;
+        this.cards = cards.toArray(new Card[0]);
+        this.top = this.cards.length;
+        this.hash = Zobrist.key(Zobrist.DECK_SIZE, top);
     }
 
-    // init
-    private void init() {
-        List<Card> charCards = csvDao.getAllCharacterCard();
-        List<Card> landCards = csvDao.getAllLandCard();
-        List<Card> skillCards = csvDao.getAllSkillCard();
+    /**
+     * make a copy of another deck
+     */
+    private Deck(Deck other) {
+        this.type = other.type;
+        this.random = other.random.split();
+        this.cards = Arrays.copyOf(other.cards, other.top);
+        this.top = other.top;
+        this.hash = other.hash;
+    }
 
-        AtomicInteger j = (type.equals(PlayerType.A)) ? new AtomicInteger(100) : new AtomicInteger(200); // duar terlalu pinrat
+    /**
+     * shuffle the remaining cards with the random of the deck (Fisher-Yates)
+     */
+    public void shuffle() {
+        for (int i = top - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Card card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+    }
 
-        for (int i = 0; i < Math.round(deckSize * 0.4) ; i++) {
-            Card card = CardFactory.createClone((CharacterCard) selectRandom(charCards));
-            card.setId(j.incrementAndGet());
-            super.push(card);
+    /**
+     * draw the card from the top of the deck
+     * @return card
+     * @throws EmptyStackException if there is no card left
+     */
+    public Card draw() throws EmptyStackException {
+        if (top == 0) {
+            throw new EmptyStackException();
         }
-        for (int i = 0; i < Math.round(deckSize * 0.4) ; i++) {
-            Card card = CardFactory.createClone((LandCard) selectRandom(landCards));
-            card.setId(j.incrementAndGet());
-            super.push(card);
+        Card card = cards[--top];
+        cards[top] = null;
+        hash ^= Zobrist.key(Zobrist.DECK_SIZE, top + 1) ^ Zobrist.key(Zobrist.DECK_SIZE, top);
+        return card;
+    }
+
+    /**
+     * put the last drawn card back on the top of the deck, only used to undo a draw
+     * @param card the card drawn last
+     */
+    public void undoDraw(Card card) {
+        cards[top++] = card;
+        hash ^= Zobrist.key(Zobrist.DECK_SIZE, top - 1) ^ Zobrist.key(Zobrist.DECK_SIZE, top);
+    }
+
+    /**
+     * @return Zobrist key of the size of the deck
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * @return the next card drawn, without drawing it
+     * @throws EmptyStackException if there is no card left
+     */
+    public Card peek() throws EmptyStackException {
+        return peek(0);
+    }
+
+    /**
+     * @param depth number of cards drawn before the card, 0 is the top card
+     * @return the card, without drawing it
+     * @throws EmptyStackException if there are not more than depth cards left
+     */
+    public Card peek(int depth) throws EmptyStackException {
+        if (depth < 0 || depth >= top) {
+            throw new EmptyStackException();
         }
-        for (int i = 0; i < Math.round(deckSize * 0.2) ; i++) {
-            Card card = selectRandom(skillCards);
-            card.setId(j.incrementAndGet());
-            switch(card.getType()){
-                case SKILL_AURA: card = CardFactory.createClone((SkillAuraCard) card); break;
-                case SKILL_DESTROY: card = CardFactory.createClone((SkillDestroyCard) card); break;
-                case SKILL_POWER_UP: card = CardFactory.createClone((SkillPowerUpCard) card); break;
-            }
-            super.push(card);
+        return cards[top - 1 - depth];
+    }
+
+    /**
+     * @param index position from the bottom of the deck, the last position is the next card drawn
+     * @return the card at the position
+     */
+    public Card get(int index) {
+        if (index < 0 || index >= top) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + top);
         }
-        shuffle();
+        return cards[index];
     }
 
     /**
-     * select 1 random card from the list of cards
-     * @param cardList list of cards
-     * @return a card
+     * copy the deck, the copy shares the cards but draws and shuffles on its own
+     * @return the copy
      */
-    private Card selectRandom(List<Card> cardList) {
-        return cardList.get(new Random().nextInt(cardList.size()));
+    public Deck copy() {
+        return new Deck(this);
     }
 
     /**
-     * shuffle the deck using collections.shuffle
+     * @return number of cards left in the deck
      */
-    public void shuffle() {
-        Collections.shuffle(this);
+    public int remaining() {
+        return top;
+    }
+
+    public int size() {
+        return top;
+    }
+
+    public boolean isEmpty() {
+        return top == 0;
     }
 
     /**
-     * draw the card, using the operation pop() from stack
-     * @return card
-     * @throws EmptyStackException if there is no card left
+     * @return the cards from the bottom to the top of the deck
+     */
+    public Stream<Card> stream() {
+        return Arrays.stream(cards, 0, top);
+    }
+
+    /**
+     * {@inheritDoc}
      */
-    public Card draw() throws EmptyStackException{
-        return super.pop();
+    @Override
+    public Iterator<Card> iterator() {
+        return stream().iterator();
     }
 }
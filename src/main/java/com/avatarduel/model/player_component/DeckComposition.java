@@ -0,0 +1,170 @@
+package com.avatarduel.model.player_component;
+
+import com.avatarduel.dao.CardCatalog;
+import com.avatarduel.factory.CardFactory;
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.type.Element;
+import com.avatarduel.model.type.PlayerType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+/**
+ * DeckComposition makes decks of random cards, with a fixed number of character, land and skill cards.
+ *
+ * IMPORTANT NOTE:
+ * The number of cards is checked against the 40 to 60 cards rule when the composition is made.
+ * Only cards with one of the chosen elements are picked, the lists of cards to pick from
+ * are made once, so making a deck only picks and clones cards.
+ * @author G10-K03-CardGameOOP
+ */
+
+public final class DeckComposition implements IDeckSource {
+    /**
+     * the composition of the GUI Board, 40% character, 40% land and 20% skill cards of every element
+     */
+    public static final DeckComposition STANDARD = standard(MAX_DECK_SIZE);
+
+    private final int characterCount;
+    private final int landCount;
+    private final int skillCount;
+    private final Set<Element> elements;
+    private final List<Card> characters;
+    private final List<Card> lands;
+    private final List<Card> skills;
+
+    /**
+     * @param characterCount number of character cards
+     * @param landCount number of land cards
+     * @param skillCount number of skill cards
+     * @param elements elements of the picked cards
+     * @throws IllegalArgumentException if the deck has less than 40 or more than 60 cards,
+     *                                  or there is a needed card type without a card of the elements
+     */
+    public DeckComposition(int characterCount, int landCount, int skillCount, Set<Element> elements) {
+        this(characterCount, landCount, skillCount, elements, true);
+    }
+
+    private DeckComposition(int characterCount, int landCount, int skillCount, Set<Element> elements, boolean checkSize) {
+        int size = characterCount + landCount + skillCount;
+        if (characterCount < 0 || landCount < 0 || skillCount < 0) {
+            throw new IllegalArgumentException("Card count can not be negative");
+        }
+        if (checkSize && (size < MIN_DECK_SIZE || size > MAX_DECK_SIZE)) {
+            throw new IllegalArgumentException("Deck must have " + MIN_DECK_SIZE + " to " + MAX_DECK_SIZE + " cards, not " + size);
+        }
+        CardCatalog catalog = CardCatalog.getInstance();
+        this.characterCount = characterCount;
+        this.landCount = landCount;
+        this.skillCount = skillCount;
+        this.elements = Collections.unmodifiableSet(EnumSet.copyOf(elements));
+        this.characters = filter(catalog.getAllCharacterCard(), characterCount);
+        this.lands = filter(catalog.getAllLandCard(), landCount);
+        this.skills = filter(catalog.getAllSkillCard(), skillCount);
+    }
+
+    /**
+     * the split of the GUI Board for a deck size
+     * @param deckSize number of cards
+     * @return 40% character, 40% land and 20% skill cards of every element
+     * @throws IllegalArgumentException if the deck size is not between 40 and 60
+     */
+    public static DeckComposition standard(int deckSize) {
+        return standard(deckSize, EnumSet.allOf(Element.class));
+    }
+
+    /**
+     * the split of the GUI Board for a deck size, with cards of some elements only
+     * @param deckSize number of cards
+     * @param elements elements of the picked cards
+     * @return 40% character, 40% land and 20% skill cards of the elements
+     * @throws IllegalArgumentException if the deck size is not between 40 and 60
+     */
+    public static DeckComposition standard(int deckSize, Set<Element> elements) {
+        return new DeckComposition(split(deckSize, 0.4), split(deckSize, 0.4), split(deckSize, 0.2), elements);
+    }
+
+    /**
+     * the split of the GUI Board without checking the deck size, only for Deck(int, PlayerType)
+     */
+    static DeckComposition unchecked(int deckSize) {
+        if (deckSize == MAX_DECK_SIZE && STANDARD != null) {
+            return STANDARD;
+        }
+        return new DeckComposition(split(deckSize, 0.4), split(deckSize, 0.4), split(deckSize, 0.2), EnumSet.allOf(Element.class), false);
+    }
+
+    private static int split(int deckSize, double part) {
+        return (int) Math.round(deckSize * part);
+    }
+
+    private List<Card> filter(List<Card> cards, int count) {
+        List<Card> filtered = cards.stream().filter(card -> elements.contains(card.getElement())).collect(Collectors.toList());
+        if (count > 0 && filtered.isEmpty()) {
+            throw new IllegalArgumentException("No card of the elements " + elements);
+        }
+        return filtered;
+    }
+
+    public int getCharacterCount() {
+        return characterCount;
+    }
+
+    public int getLandCount() {
+        return landCount;
+    }
+
+    public int getSkillCount() {
+        return skillCount;
+    }
+
+    public int getSize() {
+        return characterCount + landCount + skillCount;
+    }
+
+    public Set<Element> getElements() {
+        return elements;
+    }
+
+    /**
+     * pick clones of random cards, player A cards get ids from 101 and player B cards from 201
+     * @param type owner of the cards
+     * @param random random used to pick the cards
+     * @return the cards, not shuffled
+     */
+    List<Card> pickCards(PlayerType type, SplittableRandom random) {
+        List<Card> cards = new ArrayList<>(getSize());
+        int nextId = (type == PlayerType.A) ? 101 : 201;
+        for (int i = 0; i < characterCount; i++) {
+            cards.add(pick(characters, random, nextId++));
+        }
+        for (int i = 0; i < landCount; i++) {
+            cards.add(pick(lands, random, nextId++));
+        }
+        for (int i = 0; i < skillCount; i++) {
+            cards.add(pick(skills, random, nextId++));
+        }
+        return cards;
+    }
+
+    private static Card pick(List<Card> cards, SplittableRandom random, int id) {
+        Card card = CardFactory.createClone(cards.get(random.nextInt(cards.size())));
+        card.setId(id); // only the clone is changed, the card database is shared
+        return card;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Deck createDeck(PlayerType type, SplittableRandom random) {
+        Deck deck = new Deck(type, pickCards(type, random), random);
+        deck.shuffle();
+        return deck;
+    }
+}
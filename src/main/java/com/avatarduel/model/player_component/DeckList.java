@@ -0,0 +1,156 @@
+package com.avatarduel.model.player_component;
+
+import com.avatarduel.dao.CardCatalog;
+import com.avatarduel.factory.CardFactory;
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.type.CardType;
+import com.avatarduel.model.type.PlayerType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * DeckList is a fixed list of cards, every deck made from it has the same cards in a new order.
+ *
+ * IMPORTANT NOTE:
+ * A deck list file has one line for every different card : count, card type, card id and optionally the card name,
+ * like "2 CHARACTER 17 Katara". The type is needed because card ids are only unique inside one csv file.
+ * When the name is written, it must be the name of the card, so a wrong id is found early.
+ * Empty lines and lines starting with # are skipped.
+ * The list is checked against the 40 to 60 cards rule when it is read.
+ * Deck lists in the resources are read once and kept, so every game reuses the same DeckList.
+ * @author G10-K03-CardGameOOP
+ */
+
+public final class DeckList implements IDeckSource {
+    public static final String RESOURCE_PATH = "/com/avatarduel/card/deck/";
+
+    private static final Map<String, DeckList> loaded = new ConcurrentHashMap<>();
+
+    private final String name;
+    /**
+     * every copy of every card, taken from the catalog
+     */
+    private final List<Card> cards;
+
+    /**
+     * @param name name of the deck list
+     * @param cards every copy of every card in the deck, taken from the catalog
+     * @throws IllegalArgumentException if the list has less than 40 or more than 60 cards
+     */
+    public DeckList(String name, List<Card> cards) {
+        if (cards.size() < MIN_DECK_SIZE || cards.size() > MAX_DECK_SIZE) {
+            throw new IllegalArgumentException("Deck list " + name + " must have " + MIN_DECK_SIZE + " to "
+                    + MAX_DECK_SIZE + " cards, not " + cards.size());
+        }
+        this.name = name;
+        this.cards = Collections.unmodifiableList(new ArrayList<>(cards));
+    }
+
+    /**
+     * get a deck list from the resources, reading it only the first time
+     * @param name file name in the deck resources, like water_tribe.txt
+     * @return the deck list
+     * @throws IllegalArgumentException if the file does not exist or is not a valid deck list
+     */
+    public static DeckList load(String name) {
+        return loaded.computeIfAbsent(name, DeckList::read);
+    }
+
+    private static DeckList read(String name) {
+        try (InputStream stream = DeckList.class.getResourceAsStream(RESOURCE_PATH + name)) {
+            if (stream == null) {
+                throw new IllegalArgumentException("No deck list " + name);
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+            return parse(name, reader.lines().collect(Collectors.toList()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * read a deck list
+     * @param name name of the deck list
+     * @param lines lines of the deck list file
+     * @return the deck list
+     * @throws IllegalArgumentException if a line is not valid or the list breaks the 40 to 60 cards rule
+     */
+    public static DeckList parse(String name, List<String> lines) {
+        CardCatalog catalog = CardCatalog.getInstance();
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\\s+", 4);
+            if (parts.length < 3) {
+                throw new IllegalArgumentException(name + " line " + (i + 1) + " must be : count type id [name]");
+            }
+            try {
+                int count = Integer.parseInt(parts[0]);
+                CardType type = CardType.valueOf(parts[1].toUpperCase(Locale.ROOT));
+                int id = Integer.parseInt(parts[2]);
+                Card card = catalog.getCardsByType(type).stream()
+                        .filter(c -> c.getId() == id)
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("No " + type + " card with id " + id));
+                if (parts.length == 4 && !parts[3].trim().equals(card.getName())) {
+                    throw new IllegalArgumentException(type + " card " + id + " is " + card.getName() + ", not " + parts[3].trim());
+                }
+                if (count <= 0) {
+                    throw new IllegalArgumentException("Card count must be positive");
+                }
+                cards.addAll(Collections.nCopies(count, card));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(name + " line " + (i + 1) + " : " + e.getMessage(), e);
+            }
+        }
+        return new DeckList(name, cards);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return every copy of every card, taken from the catalog
+     */
+    public List<Card> getCards() {
+        return cards;
+    }
+
+    public int getSize() {
+        return cards.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Deck createDeck(PlayerType type, SplittableRandom random) {
+        List<Card> clones = new ArrayList<>(cards.size());
+        int nextId = (type == PlayerType.A) ? 101 : 201;
+        for (Card card : cards) {
+            Card clone = CardFactory.createClone(card);
+            clone.setId(nextId++);
+            clones.add(clone);
+        }
+        Deck deck = new Deck(type, clones, random);
+        deck.shuffle();
+        return deck;
+    }
+}
@@ -1,13 +1,16 @@
 package com.avatarduel.model.player_component;
 
 import com.avatarduel.factory.CardInFieldFactory;
+import com.avatarduel.model.Zobrist;
 import com.avatarduel.model.card.CharacterCardInField;
 import com.avatarduel.model.card.SkillCard;
 import com.avatarduel.model.card.SkillCardInField;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * Field is one of component that used for to put all the cards that we used to play the game
@@ -15,18 +18,53 @@ import java.util.stream.Collectors;
  * IMPORTANT NOTE:
  * Field able to filter which card can be in field which can't.
  * Also there is limit number card in Field.
+ * Each card is kept in the slot of its index, and a bitmask tells which slots are used,
+ * so finding, adding and removing a card by its slot never scans the field.
+ * Adding a card to a slot that is used or not in the field throws, the events check the slot before.
+ * Cards are also indexed by their id, so finding a card by id never scans the field either.
+ * The field size can not be more than 31 slots.
+ * The Zobrist hash of the field is changed whenever a card is added or removed, and whenever the position,
+ * attack flag or target of a card in the field is changed through the field, so reading it is free.
+ * Cards in a field must be changed through the field, or its hash does not follow them.
  * @author G10-K03-CardGameOOP
  */
 
 public class Field {
-    private List<CharacterCardInField> charCardList;
-    private List<SkillCardInField> skillCardList;
+    private static final int maxFieldSize = 31;
+
+    private CharacterCardInField[] charSlots;
+    private SkillCardInField[] skillSlots;
+    /**
+     * bit i is set if slot i is used
+     */
+    private int charMask;
+    private int skillMask;
+    private int fullMask;
+    private Map<Integer, CharacterCardInField> charById;
+    private Map<Integer, SkillCardInField> skillById;
     private int fieldSize;
+    /**
+     * xor of the Zobrist keys of the cards in the slots and of their state
+     */
+    private long hash;
     private CardInFieldFactory cardFactory;
+    /**
+     * lists returned to the caller, made again only after the field changes
+     */
+    private List<CharacterCardInField> charCardList;
+    private List<SkillCardInField> skillCardList;
 
     public Field (int size) {
-        this.charCardList = new ArrayList<CharacterCardInField>();
-        this.skillCardList = new ArrayList<SkillCardInField>();
+        if (size > maxFieldSize) {
+            throw new IllegalArgumentException("field size can not be more than " + maxFieldSize);
+        }
+        this.charSlots = new CharacterCardInField[size];
+        this.skillSlots = new SkillCardInField[size];
+        this.charMask = 0;
+        this.skillMask = 0;
+        this.fullMask = (1 << size) - 1;
+        this.charById = new HashMap<>();
+        this.skillById = new HashMap<>();
         this.fieldSize = size;
         this.cardFactory = new CardInFieldFactory();
     }
@@ -35,87 +73,288 @@ public class Field {
         return fieldSize;
     }
 
+    /**
+     * @return unmodifiable list of skill cards, ordered by their index
+     */
     public List<SkillCardInField> getSkillCardList() {
+        if (skillCardList == null) {
+            List<SkillCardInField> list = new ArrayList<>(Integer.bitCount(skillMask));
+            for (int mask = skillMask; mask != 0; mask &= mask - 1) {
+                list.add(skillSlots[Integer.numberOfTrailingZeros(mask)]);
+            }
+            skillCardList = Collections.unmodifiableList(list);
+        }
         return skillCardList;
     }
 
+    /**
+     * @return unmodifiable list of character cards, ordered by their index
+     */
     public List<CharacterCardInField> getCharCardList() {
+        if (charCardList == null) {
+            List<CharacterCardInField> list = new ArrayList<>(Integer.bitCount(charMask));
+            for (int mask = charMask; mask != 0; mask &= mask - 1) {
+                list.add(charSlots[Integer.numberOfTrailingZeros(mask)]);
+            }
+            charCardList = Collections.unmodifiableList(list);
+        }
         return charCardList;
     }
 
     private boolean isContainCharacter(CharacterCardInField c) {
-        return charCardList.contains(c);
+        return c != null && isValidIndex(c.getIndex()) && charSlots[c.getIndex()] == c;
+    }
+
+    private boolean isValidIndex(int index) {
+        return index >= 0 && index < fieldSize;
     }
 
     public boolean isAbleToAddChar() {
-        return charCardList.size() < fieldSize;
+        return charMask != fullMask;
     }
 
     public boolean isAbleToAddSkill() {
-        return skillCardList.size() < fieldSize;
+        return skillMask != fullMask;
     }
 
+    public int getCharacterCount() {
+        return Integer.bitCount(charMask);
+    }
+
+    public int getSkillCardCount() {
+        return Integer.bitCount(skillMask);
+    }
+
+    /**
+     * @param index slot index
+     * @return true if the index is in the field and no character is in its slot
+     */
+    public boolean isCharacterSlotFree(int index) {
+        return isValidIndex(index) && (charMask & (1 << index)) == 0;
+    }
+
+    /**
+     * @param index slot index
+     * @return true if the index is in the field and no skill card is in its slot
+     */
+    public boolean isSkillSlotFree(int index) {
+        return isValidIndex(index) && (skillMask & (1 << index)) == 0;
+    }
+
+    /**
+     * put the character in the slot of its index
+     * @param inField the character
+     * @throws IllegalArgumentException if the index is not in the field or its slot is used
+     */
     public void addCharacterCard(CharacterCardInField inField) {
-        if (isAbleToAddChar()){
-            charCardList.add(inField);
+        int index = inField.getIndex();
+        if (!isCharacterSlotFree(index)) {
+            throw new IllegalArgumentException("character slot " + index + " is not free");
         }
+        charSlots[index] = inField;
+        charMask |= 1 << index;
+        charById.put(inField.getCard().getId(), inField);
+        hash ^= characterKey(inField);
+        charCardList = null;
+    }
+
+    /**
+     * @param index slot index
+     * @return the character in the slot, null if the slot is empty
+     */
+    public CharacterCardInField getCharacterCardAt(int index) {
+        return isValidIndex(index) ? charSlots[index] : null;
     }
 
+    /**
+     * @param index slot index
+     * @return the skill card in the slot, null if the slot is empty
+     */
+    public SkillCardInField getSkillCardAt(int index) {
+        return isValidIndex(index) ? skillSlots[index] : null;
+    }
 
     public CharacterCardInField getCharacterCardByID(int cardID) {
-        return charCardList.stream()
-                .filter(card -> card.getCard().getId() == cardID)
-                .findFirst()
-                .orElse(null);
+        return charById.get(cardID);
+    }
+
+    public SkillCardInField getSkillCardByID(int cardID) {
+        return skillById.get(cardID);
     }
 
+    /**
+     * replace all skill cards in the field
+     * @param skillCardList the new skill cards, each put in the slot of its index
+     */
     public void setSkillCardList(List<SkillCardInField> skillCardList) {
-        this.skillCardList = skillCardList;
+        for (int mask = skillMask; mask != 0; mask &= mask - 1) {
+            int index = Integer.numberOfTrailingZeros(mask);
+            hash ^= skillKey(skillSlots[index]);
+            skillSlots[index] = null;
+        }
+        skillMask = 0;
+        skillById.clear();
+        for (SkillCardInField card : skillCardList) {
+            if (isValidIndex(card.getIndex())) {
+                if ((skillMask & (1 << card.getIndex())) != 0) {
+                    hash ^= skillKey(skillSlots[card.getIndex()]);
+                }
+                skillSlots[card.getIndex()] = card;
+                skillMask |= 1 << card.getIndex();
+                skillById.put(card.getCard().getId(), card);
+                hash ^= skillKey(card);
+            }
+        }
+        this.skillCardList = null;
     }
 
+    /**
+     * put a new skill card in the slot of the index
+     * @param card the skill card
+     * @param index slot index
+     * @param createdAt turn the card is played
+     * @throws IllegalArgumentException if the index is not in the field or its slot is used
+     */
     public void addSkillCard(SkillCard card, int index, int createdAt){
-        if (isAbleToAddSkill()) {
-           skillCardList.add((SkillCardInField) cardFactory.createCardInField(card, createdAt,index, null));
+        addSkillCard((SkillCardInField) cardFactory.createCardInField(card, createdAt, index, null));
+    }
+
+    /**
+     * put a skill card that was in the field back in the slot of its index
+     * @param inField the skill card
+     * @throws IllegalArgumentException if the index is not in the field or its slot is used
+     */
+    public void addSkillCard(SkillCardInField inField) {
+        int index = inField.getIndex();
+        if (!isSkillSlotFree(index)) {
+            throw new IllegalArgumentException("skill slot " + index + " is not free");
         }
+        skillSlots[index] = inField;
+        skillMask |= 1 << index;
+        skillById.put(inField.getCard().getId(), inField);
+        hash ^= skillKey(inField);
+        skillCardList = null;
     }
 
-    public int getEmptyCharacterIndex() {
-        List<Integer> notAvailableIndex= new ArrayList<Integer>();
-        for(CharacterCardInField characterCardInField : charCardList) {
-            notAvailableIndex.add(characterCardInField.getIndex());
+    /**
+     * remove the skill card with the id from the field
+     * @param cardID id of the skill card
+     * @return true if a skill card is removed
+     */
+    public boolean removeSkillCardByID(int cardID) {
+        SkillCardInField card = getSkillCardByID(cardID);
+        if (card == null) {
+            return false;
         }
-        for(int i = 0 ; i < 6 ; i++ ) {
-            if(!notAvailableIndex.contains(i)) {
-                return i;
-            }
+        skillSlots[card.getIndex()] = null;
+        skillMask &= ~(1 << card.getIndex());
+        skillById.remove(cardID);
+        hash ^= skillKey(card);
+        skillCardList = null;
+        return true;
+    }
+
+    /**
+     * @return xor of the Zobrist keys of the cards in the slots and of the state of the cards
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    private static long characterKey(CharacterCardInField character) {
+        int index = character.getIndex();
+        int state = (character.getCreatedAtTurn() << 2) | (character.hasAttacked() ? 2 : 0) | character.getPosition().ordinal();
+        return Zobrist.key(Zobrist.CHARACTER_SLOT + index, character.getCard().getId())
+                ^ Zobrist.key(Zobrist.CHARACTER_STATE + index, state);
+    }
+
+    private static long skillKey(SkillCardInField skill) {
+        int index = skill.getIndex();
+        CharacterCardInField target = skill.getPairedCharacter();
+        return Zobrist.key(Zobrist.SKILL_SLOT + index, skill.getCard().getId())
+                ^ Zobrist.key(Zobrist.SKILL_TARGET + index, (target == null) ? 0 : target.getCard().getId());
+    }
+
+    private boolean isContainSkill(SkillCardInField s) {
+        return s != null && isValidIndex(s.getIndex()) && skillSlots[s.getIndex()] == s;
+    }
+
+    /**
+     * set the attack flag of a character, keeping the hash up to date if the character is in this field
+     * @param character the character
+     * @param hasAttacked true if it has attacked this turn
+     */
+    public void setHasAttacked(CharacterCardInField character, boolean hasAttacked) {
+        boolean contained = isContainCharacter(character);
+        if (contained) {
+            hash ^= characterKey(character);
+        }
+        character.setHasAttacked(hasAttacked);
+        if (contained) {
+            hash ^= characterKey(character);
         }
-        return -1;
     }
 
-    public int getEmptySkillCardIndex()  {
-        List<Integer> notAvailableIndex = new ArrayList<>();
-        for(SkillCardInField skillCardInField : skillCardList) {
-            notAvailableIndex.add(skillCardInField.getIndex());
+    /**
+     * rotate a character, keeping the hash up to date if the character is in this field
+     * @param character the character
+     */
+    public void switchPosition(CharacterCardInField character) {
+        boolean contained = isContainCharacter(character);
+        if (contained) {
+            hash ^= characterKey(character);
+        }
+        character.switchPosition();
+        if (contained) {
+            hash ^= characterKey(character);
         }
-        for(int i = 0 ; i < 6 ; i++) {
-            if(!notAvailableIndex.contains(i)) {
-                return i;
+    }
+
+    /**
+     * attach a skill card to a character, keeping the hash up to date if the skill card is in this field
+     * @param skill the skill card
+     * @param character the character, null to detach the skill card
+     */
+    public void setPairedCharacter(SkillCardInField skill, CharacterCardInField character) {
+        boolean contained = isContainSkill(skill);
+        if (contained) {
+            hash ^= skillKey(skill);
+        }
+        skill.setPairedCharacter(character);
+        if (contained) {
+            hash ^= skillKey(skill);
+        }
+    }
+
+    /**
+     * let every character of the field attack again, at the start of the turn
+     */
+    public void refresh() {
+        for (int mask = charMask; mask != 0; mask &= mask - 1) {
+            CharacterCardInField character = charSlots[Integer.numberOfTrailingZeros(mask)];
+            if (character.hasAttacked()) {
+                setHasAttacked(character, false);
             }
         }
-        return -1;
+    }
+
+    public int getEmptyCharacterIndex() {
+        int free = ~charMask & fullMask;
+        return (free == 0) ? -1 : Integer.numberOfTrailingZeros(free);
+    }
+
+    public int getEmptySkillCardIndex()  {
+        int free = ~skillMask & fullMask;
+        return (free == 0) ? -1 : Integer.numberOfTrailingZeros(free);
     }
 
     public void removeCharacterCard(CharacterCardInField inField) {
         if (isContainCharacter(inField)){
-            CharacterCardInField cardInField = charCardList
-                    .stream()
-                    .filter(c -> c.equals(inField))
-                    .findFirst()
-                    .orElse(null); // throw Error
-            charCardList = charCardList
-                    .stream()
-                    .filter(card -> !card.equals(inField))
-                    .collect(Collectors.toList());
+            charSlots[inField.getIndex()] = null;
+            charMask &= ~(1 << inField.getIndex());
+            charById.remove(inField.getCard().getId(), inField);
+            hash ^= characterKey(inField);
+            charCardList = null;
         }
     }
 
@@ -1,28 +1,113 @@
 package com.avatarduel.model.player_component;
 
+import com.avatarduel.model.Zobrist;
 import com.avatarduel.model.card.Card;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Hand is one of component that used for to put stacks of cards before move to hand.
  * IMPORTANT NOTE:
  * We assume the maximum number cards hold in hand is 10.
+ * Cards are also indexed by their id, the index is kept by add, remove, set and clear.
+ * They also keep the Zobrist hash of the hand, which does not depend on the order of the cards.
  * @author G10-K03-CardGameOOP
  */
 
 public class Hand extends ArrayList<Card>{
     private int maxSize;
+    private Map<Integer, Card> cardById;
+    private long hash;
+
     public Hand(int size) {
         super();
+        this.cardById = new HashMap<>();
     }
 
     @Override
     public boolean add(Card c) {
         if (this.size() < 10) {
             super.add(c);
+            index(c);
             return true;
         }
         return false;
     }
+
+    @Override
+    public void add(int index, Card c) {
+        super.add(index, c);
+        index(c);
+    }
+
+    @Override
+    public Card set(int index, Card c) {
+        Card old = super.set(index, c);
+        unindex(old);
+        index(c);
+        return old;
+    }
+
+    @Override
+    public Card remove(int index) {
+        Card removed = super.remove(index);
+        unindex(removed);
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        boolean removed = super.remove(o);
+        if (removed) {
+            unindex((Card) o);
+        }
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        cardById.clear();
+        hash = 0;
+    }
+
+    /**
+     * @param id id of the card
+     * @return the card in hand with the id, null if there is none
+     */
+    public Card getCardByID(int id) {
+        return cardById.get(id);
+    }
+
+    /**
+     * @return xor of the Zobrist keys of the cards in hand
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    private void index(Card card) {
+        cardById.putIfAbsent(card.getId(), card);
+        hash ^= Zobrist.key(Zobrist.HAND_CARD, card.getId());
+    }
+
+    /**
+     * remove the card from the id index, if other card in hand has the same id it takes its place
+     * @param card the card removed from hand
+     */
+    private void unindex(Card card) {
+        if (card != null) {
+            hash ^= Zobrist.key(Zobrist.HAND_CARD, card.getId());
+        }
+        if (card != null && cardById.remove(card.getId(), card)) {
+            for (Card c : this) {
+                if (c.getId() == card.getId()) {
+                    cardById.put(c.getId(), c);
+                    return;
+                }
+            }
+        }
+    }
 }
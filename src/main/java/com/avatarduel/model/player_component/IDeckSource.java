@@ -0,0 +1,28 @@
+package com.avatarduel.model.player_component;
+
+import com.avatarduel.model.type.PlayerType;
+
+import java.util.SplittableRandom;
+
+/**
+ * IDeckSource is an interface for anything that can make the deck of a player at the start of a game,
+ * like a DeckComposition or a DeckList.
+ *
+ * IMPORTANT NOTE:
+ * A deck source is checked and loaded once, then used for many games,
+ * so it must not change after it is made and can be shared by many threads.
+ * @author G10-K03-CardGameOOP
+ */
+
+public interface IDeckSource {
+    int MIN_DECK_SIZE = 40;
+    int MAX_DECK_SIZE = 60;
+
+    /**
+     * make a new shuffled deck
+     * @param type owner of the deck
+     * @param random random used to pick and shuffle the cards, kept by the deck
+     * @return the deck
+     */
+    Deck createDeck(PlayerType type, SplittableRandom random);
+}
@@ -1,10 +1,15 @@
 package com.avatarduel.model.player_component;
 
+import com.avatarduel.model.Zobrist;
 import com.avatarduel.model.card.Card;
 import com.avatarduel.model.card.CharacterCardInField;
+import com.avatarduel.model.card.SkillCardInField;
 import com.avatarduel.model.type.PlayerType;
 
+import java.util.ArrayList;
 import java.util.EmptyStackException;
+import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Player is one of component that play the game itself
@@ -12,6 +17,9 @@ import java.util.EmptyStackException;
  * IMPORTANT NOTE:
  * Each player can draw cards from deck and put it in Hand then in Field
  * Player also has HP that will determine the winner of this game
+ * Cards played from hand are kept in order, they are seen by both players, unlike the hand and the deck.
+ * The Zobrist keys of the health point and the land flag are changed together with them, the deck, hand, field
+ * and powers keep their own hash the same way, so the hash of a player is only a few xors.
  * @author G10-K03-CardGameOOP
  */
 
@@ -22,24 +30,57 @@ public class Player {
     protected PlayerType type;
     protected PowerManager power;
     protected int healthPoint;
-    public boolean hasPlayLand;
+    protected List<Card> playedCards;
+    private boolean hasPlayLand;
+    /**
+     * xor of the Zobrist keys of the health point and the land flag
+     */
+    private long stateHash;
 
     // hard coded constant
     private static final int firstDraw = 7; // can be better coded, but right now, still hardcoded
-    private static final int deckSize = 60;
     private static final int fieldSize = 6;
     private static final int initialHP = 80;
 
     public Player(PlayerType type) {
-        this.deck = new Deck(deckSize, type); // decksize harus lebih dari 7
+        this(type, new SplittableRandom());
+    }
+
+    /**
+     * make a player with a random deck and draw the first hand
+     * @param type the player type
+     * @param random random used to make and shuffle the deck
+     */
+    public Player(PlayerType type, SplittableRandom random) {
+        this(type, DeckComposition.STANDARD, random);
+    }
+
+    /**
+     * make a player with a deck from the deck source and draw the first hand
+     * @param type the player type
+     * @param deckSource source of the deck, with at least 7 cards
+     * @param random random used to make and shuffle the deck
+     */
+    public Player(PlayerType type, IDeckSource deckSource, SplittableRandom random) {
+        this(type, deckSource.createDeck(type, random));
+        startGameDraw();
+    }
+
+    /**
+     * make a player with the deck and an empty hand, without drawing any card
+     * @param type the player type
+     * @param deck the deck of the player
+     */
+    public Player(PlayerType type, Deck deck) {
+        this.deck = deck;
         this.field = new Field(fieldSize);
         this.hand = new Hand(10); // hand size harus lebih dari 7 maksimum
         this.type = type;
         this.power = new PowerManager();
         this.healthPoint = initialHP; // starting health point, bisa dinamik namun sekarang statik saja
         this.hasPlayLand = false;
-
-        startGameDraw();
+        this.playedCards = new ArrayList<>();
+        this.stateHash = Zobrist.key(Zobrist.HEALTH_POINT, healthPoint) ^ Zobrist.key(Zobrist.HAS_PLAY_LAND, 0);
     }
 
     public void startGameDraw() throws EmptyStackException {
@@ -55,6 +96,30 @@ public class Player {
         }
     }
 
+    /**
+     * @param id card id
+     * @return the character in the field with the id, null if there is none
+     */
+    public CharacterCardInField getCharacterCardByID(int id) {
+        return field.getCharacterCardByID(id);
+    }
+
+    /**
+     * @param id card id
+     * @return the skill card in the field with the id, null if there is none
+     */
+    public SkillCardInField getSkillCardByID(int id) {
+        return field.getSkillCardByID(id);
+    }
+
+    /**
+     * @param id card id
+     * @return the card in hand with the id, null if there is none
+     */
+    public Card getCardInHandByID(int id) {
+        return hand.getCardByID(id);
+    }
+
     public void removeCharacterFromFieldByID(int id)  {
         CharacterCardInField card = field.getCharacterCardByID(id);
         field.removeCharacterCard(card);
@@ -72,6 +137,13 @@ public class Player {
         return hand;
     }
 
+    /**
+     * @return cards played from hand, the first played first
+     */
+    public List<Card> getPlayedCards() {
+        return playedCards;
+    }
+
     public PlayerType getType() {
         return type;
     }
@@ -85,17 +157,36 @@ public class Player {
     }
 
     public void setHealthPoint(int healthPoint) {
+        stateHash ^= Zobrist.key(Zobrist.HEALTH_POINT, this.healthPoint) ^ Zobrist.key(Zobrist.HEALTH_POINT, healthPoint);
         this.healthPoint = healthPoint;
     }
 
+    /**
+     * @return true if the player has played a land card this turn
+     */
+    public boolean hasPlayLand() {
+        return hasPlayLand;
+    }
+
+    public void setHasPlayLand(boolean hasPlayLand) {
+        stateHash ^= Zobrist.key(Zobrist.HAS_PLAY_LAND, this.hasPlayLand ? 1 : 0) ^ Zobrist.key(Zobrist.HAS_PLAY_LAND, hasPlayLand ? 1 : 0);
+        this.hasPlayLand = hasPlayLand;
+    }
+
+    /**
+     * @return Zobrist hash of the health point, land flag, powers, hand, field and deck size of the player
+     */
+    public long getHash() {
+        return stateHash ^ deck.getHash() ^ power.getHash() ^ hand.getHash() ^ field.getHash();
+    }
+
     public boolean checkLose() {
         return healthPoint <= 0;
     }
 
     public void refreshState() {
         this.power.refresh();
-        this.getField().getCharCardList()
-                .forEach(c -> c.refresh());
-        this.hasPlayLand = false;
+        this.field.refresh();
+        this.setHasPlayLand(false);
     }
 }
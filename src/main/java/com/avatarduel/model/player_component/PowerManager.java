@@ -1,157 +1,183 @@
 package com.avatarduel.model.player_component;
 
+import com.avatarduel.model.Zobrist;
 import com.avatarduel.model.type.Element;
 
 /**
  * PowerManager is one of component that used to manage the power for each element that
  * can be added or reduced according to the situation and also when
  * the phase got reset the power will also got reset.
+ *
+ * IMPORTANT NOTE:
+ * The power of each element is kept in an array indexed by the element ordinal.
+ * A snapshot puts the current powers first and then the total powers,
+ * so it takes 2 * Element.values().length ints.
+ * The Zobrist hash of the powers is changed together with every power.
  * @author G10-K03-CardGameOOP
  */
 
 public class PowerManager {
-    protected int current_fire;
-    protected int current_water;
-    protected int current_earth;
-    protected int current_air;
-    protected int total_fire;
-    protected int total_water;
-    protected int total_earth;
-    protected int total_air;
-    protected int total_energy;
-    protected int current_energy;
+    public static final int ELEMENT_COUNT = Element.values().length;
+    public static final int SNAPSHOT_SIZE = 2 * ELEMENT_COUNT;
+
+    protected int[] current;
+    protected int[] total;
+    private long hash;
 
     //constructor
     public PowerManager(){
-        this.current_fire=0;
-        this.current_water=0;
-        this.current_earth=0;
-        this.current_air=0;
-        this.current_energy=0;
+        this.current = new int[ELEMENT_COUNT];
+        this.total = new int[ELEMENT_COUNT];
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            hash ^= Zobrist.key(Zobrist.CURRENT_POWER + i, 0) ^ Zobrist.key(Zobrist.TOTAL_POWER + i, 0);
+        }
+    }
+
+    /**
+     * @return xor of the Zobrist keys of the current and total powers
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    private void setCurrentAt(int i, int value) {
+        hash ^= Zobrist.key(Zobrist.CURRENT_POWER + i, current[i]) ^ Zobrist.key(Zobrist.CURRENT_POWER + i, value);
+        current[i] = value;
+    }
 
-        this.total_fire=0;
-        this.total_water=0;
-        this.total_earth=0;
-        this.total_air=0;
-        this.total_energy=0;
+    private void setTotalAt(int i, int value) {
+        hash ^= Zobrist.key(Zobrist.TOTAL_POWER + i, total[i]) ^ Zobrist.key(Zobrist.TOTAL_POWER + i, value);
+        total[i] = value;
     }
 
     //GETTER
-    public int getCurrent_fire(){ return this.current_fire; }
+    public int getCurrent_fire(){ return getCurrent(Element.FIRE); }
 
-    public int getCurrent_water(){ return this.current_water; }
+    public int getCurrent_water(){ return getCurrent(Element.WATER); }
 
-    public int getCurrent_earth(){ return this.current_earth; }
+    public int getCurrent_earth(){ return getCurrent(Element.EARTH); }
 
-    public int getCurrent_air(){ return this.current_air; }
+    public int getCurrent_air(){ return getCurrent(Element.AIR); }
 
-    public int getCurrent_energy() { return this.current_energy; }
+    public int getCurrent_energy() { return getCurrent(Element.ENERGY); }
 
 
     public int getCurrent(Element elem) {
-        switch (elem) {
-            case AIR: return getCurrent_air();
-            case FIRE:return getCurrent_fire();
-            case EARTH: return getCurrent_earth();
-            case WATER:return getCurrent_water();
-            case ENERGY: return getCurrent_energy();
-        }
-        return -1; // throw element error
+        return current[elem.ordinal()];
+    }
+
+    public int getTotal(Element elem) {
+        return total[elem.ordinal()];
     }
 
-    public int getTotal_fire(){ return this.total_fire; }
+    public int getTotal_fire(){ return getTotal(Element.FIRE); }
 
-    public int getTotal_water(){ return this.total_water; }
+    public int getTotal_water(){ return getTotal(Element.WATER); }
 
-    public int getTotal_earth(){ return this.total_earth; }
+    public int getTotal_earth(){ return getTotal(Element.EARTH); }
 
-    public int getTotal_air(){ return this.total_air; }
+    public int getTotal_air(){ return getTotal(Element.AIR); }
 
     public int getTotal_energy() {
-        return this.total_energy;
+        return getTotal(Element.ENERGY);
     }
 
     //SETTER
 
     public void setCurrent(Element elem, int value) {
-        switch (elem) {
-            case AIR: setCurrent_air(value); break;
-            case FIRE: setCurrent_fire(value); break;
-            case EARTH: setCurrent_earth(value); break;
-            case WATER: setCurrent_water(value); break;
-            case ENERGY: setCurrent_energy(value);break;
-        }
+        setCurrentAt(elem.ordinal(), value);
     }
-    public void setCurrent_fire(int current_Fire){ this.current_fire = current_Fire; }
+    public void setCurrent_fire(int current_Fire){ setCurrent(Element.FIRE, current_Fire); }
 
-    public void setCurrent_water(int current_Water){ this.current_water = current_Water; }
+    public void setCurrent_water(int current_Water){ setCurrent(Element.WATER, current_Water); }
 
-    public void setCurrent_earth(int current_Earth){ this.current_earth = current_Earth; }
+    public void setCurrent_earth(int current_Earth){ setCurrent(Element.EARTH, current_Earth); }
 
-    public void setCurrent_air(int current_Air){ this.current_air = current_Air; }
+    public void setCurrent_air(int current_Air){ setCurrent(Element.AIR, current_Air); }
 
     public void setCurrent_energy(int current_energy) {
-        this.current_energy = current_energy;
+        setCurrent(Element.ENERGY, current_energy);
     }
 
     //To add power
     public void add(Element type, int power){
-        switch (type) {
-            case WATER: total_water += power; current_water += power; break;
-            case EARTH: total_earth += power; current_earth += power; break;
-            case FIRE: total_fire += power; current_fire += power; break;
-            case AIR: total_air += power; current_air += power; break;
-            case ENERGY: total_energy += power; current_energy += power; break;
-        }
+        int i = type.ordinal();
+        setTotalAt(i, total[i] + power);
+        setCurrentAt(i, current[i] + power);
+    }
+
+    /**
+     * @param type element of the power
+     * @param power amount of power needed
+     * @return true if the current power of the element is enough
+     */
+    public boolean canAfford(Element type, int power) {
+        return current[type.ordinal()] >= power;
     }
 
-    //To reduce or or delete power
+    /**
+     * reduce the power only if there is enough of it
+     * @param type element of the power
+     * @param power amount of power to reduce
+     * @return true if the power is reduced
+     */
     public boolean reduce(Element type, int power){
-        if(type==Element.AIR){
-            if (this.current_air >= power) {
-                this.current_air -= power;
-                return true;
-            }
-            return false;
+        int i = type.ordinal();
+        if (current[i] >= power) {
+            setCurrentAt(i, current[i] - power);
+            return true;
         }
-        else if (type==Element.EARTH){
-            if (this.current_earth >= power) {
-                this.current_earth -= power;
-                return true;
-            }
-            return false;
-        }
-        else if (type==Element.FIRE){
-            if (this.current_fire >= power) {
-                this.current_fire -= power;
-                return true;
-            }
-            return false;
-        }
-        else if(type==Element.WATER) {
-            if (this.current_water >= power) {
-                this.current_water -= power;
-                return true;
-            }
-            return false;
-        }
-        else if (type==Element.ENERGY) {
-            if (this.current_energy >= power) {
-                this.current_energy -= power;
-                return true;
-            }
-        }
-        return false; // throw
+        return false;
     }
 
     // To reset every new phase
     public void refresh(){
-        setCurrent_air(getTotal_air());
-        setCurrent_earth(getTotal_earth());
-        setCurrent_fire(getTotal_fire());
-        setCurrent_water(getTotal_water());
-        setCurrent_energy(getTotal_energy());
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            setCurrentAt(i, total[i]);
+        }
+    }
+
+    /**
+     * copy the current and total powers into the buffer
+     * @param buffer array of at least SNAPSHOT_SIZE ints, a new one is made if null
+     * @return the buffer
+     */
+    public int[] snapshot(int[] buffer) {
+        if (buffer == null) {
+            buffer = new int[SNAPSHOT_SIZE];
+        }
+        snapshot(buffer, 0);
+        return buffer;
+    }
+
+    /**
+     * copy the current and total powers into a part of a bigger array, like a packed GameState
+     * @param buffer the array
+     * @param offset index of the first of the SNAPSHOT_SIZE ints written
+     */
+    public void snapshot(int[] buffer, int offset) {
+        System.arraycopy(current, 0, buffer, offset, ELEMENT_COUNT);
+        System.arraycopy(total, 0, buffer, offset + ELEMENT_COUNT, ELEMENT_COUNT);
     }
 
+    /**
+     * set the current and total powers back to a snapshot
+     * @param buffer array filled by snapshot
+     */
+    public void restore(int[] buffer) {
+        restore(buffer, 0);
+    }
+
+    /**
+     * set the current and total powers back to a snapshot inside a bigger array
+     * @param buffer the array
+     * @param offset index of the first of the SNAPSHOT_SIZE ints read
+     */
+    public void restore(int[] buffer, int offset) {
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            setCurrentAt(i, buffer[offset + i]);
+            setTotalAt(i, buffer[offset + ELEMENT_COUNT + i]);
+        }
+    }
 
 }
@@ -0,0 +1,129 @@
+package com.avatarduel.replay;
+
+import com.avatarduel.event.EventRecord;
+import com.avatarduel.event.EventType;
+import com.avatarduel.model.type.Phase;
+import com.avatarduel.model.type.PlayerType;
+
+import java.util.Arrays;
+
+/**
+ * MatchLog is the list of every event executed in a match, in order, with the turn, phase and player of the game
+ * when the event was executed.
+ *
+ * IMPORTANT NOTE:
+ * The log can only grow, an entry can never be changed or removed once it is appended.
+ * Entries are packed into one int array with ENTRY_SIZE ints each, so a log keeps no object per event.
+ * With the seed of the game and the deck sources, the log is enough for ReplayEngine to play the match again.
+ * @author G10-K03-CardGameOOP
+ */
+
+public final class MatchLog {
+    public static final int ENTRY_SIZE = 5;
+
+    private static final int TURN = 0;
+    private static final int HEADER = 1;
+    private static final int CARD = 2;
+    private static final int TARGET = 3;
+    private static final int EXTRA = 4;
+
+    private final long seed;
+    private int[] data;
+    private int size;
+
+    /**
+     * @param seed seed of the game the log is for
+     */
+    public MatchLog(long seed) {
+        this.seed = seed;
+        this.data = new int[64 * ENTRY_SIZE];
+        this.size = 0;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * add an event to the end of the log
+     * @param turn turn of the game when the event was executed
+     * @param phase phase of the game when the event was executed
+     * @param player current player of the game when the event was executed
+     * @param record the event
+     */
+    public void append(int turn, Phase phase, PlayerType player, EventRecord record) {
+        if ((size + 1) * ENTRY_SIZE > data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        int base = size * ENTRY_SIZE;
+        data[base + TURN] = turn;
+        data[base + HEADER] = (record.getType().ordinal() << 16) | (phase.ordinal() << 8) | (player.ordinal() << 4) | playerCode(record.getPlayer());
+        data[base + CARD] = record.getCard();
+        data[base + TARGET] = record.getTarget();
+        data[base + EXTRA] = record.getExtra();
+        size++;
+    }
+
+    public int getTurn(int index) {
+        return data[offset(index) + TURN];
+    }
+
+    public Phase getPhase(int index) {
+        return Phase.values()[(data[offset(index) + HEADER] >>> 8) & 0xFF];
+    }
+
+    public PlayerType getPlayer(int index) {
+        return PlayerType.values()[(data[offset(index) + HEADER] >>> 4) & 0xF];
+    }
+
+    /**
+     * @param index position of the entry
+     * @return the event of the entry
+     */
+    public EventRecord getRecord(int index) {
+        int base = offset(index);
+        int header = data[base + HEADER];
+        return new EventRecord(EventType.values()[header >>> 16], playerOf(header & 0xF),
+                data[base + CARD], data[base + TARGET], data[base + EXTRA]);
+    }
+
+    /**
+     * @param turn a turn number
+     * @return position of the first entry executed in the turn or later, size if there is none
+     */
+    public int firstIndexOfTurn(int turn) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (data[mid * ENTRY_SIZE + TURN] < turn) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int offset(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return index * ENTRY_SIZE;
+    }
+
+    private static int playerCode(PlayerType player) {
+        return (player == null) ? 0 : player.ordinal() + 1;
+    }
+
+    private static PlayerType playerOf(int code) {
+        return (code == 0) ? null : PlayerType.values()[code - 1];
+    }
+}
@@ -0,0 +1,81 @@
+package com.avatarduel.replay;
+
+import com.avatarduel.event.EventRecord;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.player_component.DeckComposition;
+import com.avatarduel.model.player_component.IDeckSource;
+
+/**
+ * ReplayEngine plays a logged match again from the seed of the game and the MatchLog.
+ *
+ * IMPORTANT NOTE:
+ * The game is made again with the same seed and deck sources, so it deals the same decks,
+ * then the logged events are executed in order.
+ * Every replay starts from a new game, so the games it returns can be changed freely.
+ * If a logged event can not be executed, the log does not belong to the seed and deck sources
+ * and IllegalStateException is thrown.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class ReplayEngine {
+    private final MatchLog log;
+    private final IDeckSource deckSourceA;
+    private final IDeckSource deckSourceB;
+
+    /**
+     * replay a game made with Game(seed)
+     * @param log log of the match
+     */
+    public ReplayEngine(MatchLog log) {
+        this(log, DeckComposition.STANDARD, DeckComposition.STANDARD);
+    }
+
+    /**
+     * replay a game made with Game(seed, deckSourceA, deckSourceB)
+     * @param log log of the match
+     * @param deckSourceA source of the deck of player A
+     * @param deckSourceB source of the deck of player B
+     */
+    public ReplayEngine(MatchLog log, IDeckSource deckSourceA, IDeckSource deckSourceB) {
+        this.log = log;
+        this.deckSourceA = deckSourceA;
+        this.deckSourceB = deckSourceB;
+    }
+
+    /**
+     * @return the game after every logged event
+     */
+    public Game replay() {
+        return replayEntries(log.size());
+    }
+
+    /**
+     * @param turn a turn number
+     * @return the game at the start of the turn, before any event of the turn
+     */
+    public Game seekTurn(int turn) {
+        return replayEntries(log.firstIndexOfTurn(turn));
+    }
+
+    /**
+     * @param entries number of logged events to execute
+     * @return the game after the first entries events
+     */
+    public Game replayEntries(int entries) {
+        Game game = new Game(log.getSeed(), deckSourceA, deckSourceB);
+        for (int i = 0; i < entries; i++) {
+            EventRecord record = log.getRecord(i);
+            if (game.getCurrentTurn() != log.getTurn(i) || game.getCurrentPhase().getPhase() != log.getPhase(i)) {
+                throw new IllegalStateException("Entry " + i + " " + record + " was logged on turn " + log.getTurn(i)
+                        + " " + log.getPhase(i) + ", but the game is on turn " + game.getCurrentTurn() + " " + game.getCurrentPhase().getPhase());
+            }
+            try {
+                record.toEvent().execute(game);
+            } catch (InvalidOperationException e) {
+                throw new IllegalStateException("Entry " + i + " " + record + " can not be executed : " + e.getMessage(), e);
+            }
+        }
+        return game;
+    }
+}
@@ -0,0 +1,161 @@
+package com.avatarduel.simulation;
+
+import com.avatarduel.dao.CardCatalog;
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.type.Element;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * CardStatistics counts how often every catalog card was in the deck of the winner.
+ *
+ * IMPORTANT NOTE:
+ * Every copy of a card is counted, so a deck with three copies of a card adds three games for it.
+ * A card is "drawn" when it left the deck during the match, which tells apart the cards that
+ * could change the match from the cards that stayed in the deck.
+ * One CardStatistics is only used by one thread, the statistics of many threads are added with merge.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class CardStatistics {
+    private final int[] games;
+    private final int[] wins;
+    private final int[] drawnGames;
+    private final int[] drawnWins;
+    private int matches;
+    private int draws;
+
+    public CardStatistics() {
+        int size = CardCatalog.getInstance().getAllCard().size();
+        this.games = new int[size];
+        this.wins = new int[size];
+        this.drawnGames = new int[size];
+        this.drawnWins = new int[size];
+    }
+
+    /**
+     * count one match
+     * @param result result of the match
+     */
+    public void addMatch(MatchResult result) {
+        matches++;
+        if (result.isDraw()) {
+            draws++;
+        }
+    }
+
+    /**
+     * count one copy of a card in the deck of a player
+     * @param catalogIndex position of the card in the catalog
+     * @param drawn true if the copy left the deck during the match
+     * @param won true if the owner of the deck won the match
+     */
+    public void addCard(int catalogIndex, boolean drawn, boolean won) {
+        games[catalogIndex]++;
+        wins[catalogIndex] += won ? 1 : 0;
+        if (drawn) {
+            drawnGames[catalogIndex]++;
+            drawnWins[catalogIndex] += won ? 1 : 0;
+        }
+    }
+
+    /**
+     * add the counts of other statistics to this statistics
+     * @param other the other statistics
+     * @return this statistics
+     */
+    public CardStatistics merge(CardStatistics other) {
+        for (int i = 0; i < games.length; i++) {
+            games[i] += other.games[i];
+            wins[i] += other.wins[i];
+            drawnGames[i] += other.drawnGames[i];
+            drawnWins[i] += other.drawnWins[i];
+        }
+        matches += other.matches;
+        draws += other.draws;
+        return this;
+    }
+
+    public int getMatches() {
+        return matches;
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    public int getGames(int catalogIndex) {
+        return games[catalogIndex];
+    }
+
+    public int getWins(int catalogIndex) {
+        return wins[catalogIndex];
+    }
+
+    public int getDrawnGames(int catalogIndex) {
+        return drawnGames[catalogIndex];
+    }
+
+    public int getDrawnWins(int catalogIndex) {
+        return drawnWins[catalogIndex];
+    }
+
+    /**
+     * @param element the element
+     * @return games and wins of every copy of the cards with the element, then the same for drawn copies
+     */
+    public int[] getElementCount(Element element) {
+        int[] count = new int[4];
+        List<Card> cards = CardCatalog.getInstance().getAllCard();
+        for (int i = 0; i < cards.size(); i++) {
+            if (cards.get(i).getElement() == element) {
+                count[0] += games[i];
+                count[1] += wins[i];
+                count[2] += drawnGames[i];
+                count[3] += drawnWins[i];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * write the win rate of every card that was in at least one deck, as csv
+     * @param writer where the csv is written
+     * @throws IOException if the writer fails
+     */
+    public void writeCardCsv(Writer writer) throws IOException {
+        writer.write("type,id,name,element,games,wins,win_rate,drawn_games,drawn_wins,drawn_win_rate\n");
+        List<Card> cards = CardCatalog.getInstance().getAllCard();
+        for (int i = 0; i < cards.size(); i++) {
+            if (games[i] == 0) {
+                continue;
+            }
+            Card card = cards.get(i);
+            writer.write(String.format(Locale.ROOT, "%s,%d,\"%s\",%s,%d,%d,%.4f,%d,%d,%.4f\n",
+                    card.getType(), card.getId(), card.getName().replace("\"", "\"\""), card.getElement(),
+                    games[i], wins[i], rate(wins[i], games[i]),
+                    drawnGames[i], drawnWins[i], rate(drawnWins[i], drawnGames[i])));
+        }
+    }
+
+    /**
+     * write the win rate of every element, as csv
+     * @param writer where the csv is written
+     * @throws IOException if the writer fails
+     */
+    public void writeElementCsv(Writer writer) throws IOException {
+        writer.write("element,games,wins,win_rate,drawn_games,drawn_wins,drawn_win_rate\n");
+        for (Element element : Element.values()) {
+            int[] count = getElementCount(element);
+            writer.write(String.format(Locale.ROOT, "%s,%d,%d,%.4f,%d,%d,%.4f\n", element,
+                    count[0], count[1], rate(count[1], count[0]), count[2], count[3], rate(count[3], count[2])));
+        }
+    }
+
+    private static double rate(int wins, int games) {
+        return (games == 0) ? 0 : (double) wins / games;
+    }
+}
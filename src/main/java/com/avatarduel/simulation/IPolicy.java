@@ -0,0 +1,22 @@
+package com.avatarduel.simulation;
+
+import com.avatarduel.event.IEvent;
+import com.avatarduel.model.Game;
+
+/**
+ * IPolicy is an interface for anything that can choose actions for a player without the GUI Board.
+ *
+ * IMPORTANT NOTE:
+ * The policy is only asked when it is the turn of the player it plays for.
+ * Returning EndTurnEvent (or NextPhaseEvent in battle phase) gives the turn to the opponent.
+ * @author G10-K03-CardGameOOP
+ */
+
+public interface IPolicy {
+    /**
+     * choose the next action of the current player
+     * @param game the game being played
+     * @return the event to be executed on the game
+     */
+    IEvent nextAction(Game game);
+}
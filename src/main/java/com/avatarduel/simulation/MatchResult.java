@@ -0,0 +1,48 @@
+package com.avatarduel.simulation;
+
+import com.avatarduel.model.type.PlayerType;
+
+/**
+ * MatchResult is the summary of one match played by MatchSimulator.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class MatchResult {
+    private final PlayerType winner;
+    private final int turns;
+    private final int actions;
+    private final int rejectedActions;
+
+    /**
+     * @param winner the player who won, null if the match reached the turn limit
+     * @param turns number of turns played
+     * @param actions number of executed events
+     * @param rejectedActions number of events rejected with InvalidOperationException
+     */
+    public MatchResult(PlayerType winner, int turns, int actions, int rejectedActions) {
+        this.winner = winner;
+        this.turns = turns;
+        this.actions = actions;
+        this.rejectedActions = rejectedActions;
+    }
+
+    public PlayerType getWinner() {
+        return winner;
+    }
+
+    public boolean isDraw() {
+        return winner == null;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    public int getActions() {
+        return actions;
+    }
+
+    public int getRejectedActions() {
+        return rejectedActions;
+    }
+}
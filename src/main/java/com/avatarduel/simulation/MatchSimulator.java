@@ -0,0 +1,106 @@
+package com.avatarduel.simulation;
+
+import com.avatarduel.event.DrawEvent;
+import com.avatarduel.event.EndTurnEvent;
+import com.avatarduel.event.IEvent;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.type.PlayerType;
+
+/**
+ * MatchSimulator plays a whole match between two policies without the GUI Board.
+ *
+ * Every turn follows the same steps as the GUI Board:
+ * 1. The current player draws, and loses when the deck is empty after drawing
+ * 2. The policy of the current player is asked for actions until it gives the turn away
+ * 3. The player whose health point reaches 0 loses
+ * @author G10-K03-CardGameOOP
+ */
+
+public class MatchSimulator {
+    private static final int maxTurn = 200;
+    private static final int maxActionPerTurn = 50;
+
+    private Game game;
+    private IPolicy policyA;
+    private IPolicy policyB;
+    private int actions;
+    private int rejectedActions;
+
+    public MatchSimulator(IPolicy policyA, IPolicy policyB) {
+        this(new Game(), policyA, policyB);
+    }
+
+    public MatchSimulator(Game game, IPolicy policyA, IPolicy policyB) {
+        this.game = game;
+        this.policyA = policyA;
+        this.policyB = policyB;
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * play the match until there is a winner or the turn limit is reached
+     * @return the result of the match
+     */
+    public MatchResult play() {
+        PlayerType winner = null;
+        while (winner == null && game.getCurrentTurn() <= maxTurn) {
+            winner = playTurn();
+        }
+        return new MatchResult(winner, game.getCurrentTurn(), actions, rejectedActions);
+    }
+
+    /**
+     * play one turn of the current player
+     * @return the winner if the match ended in this turn, else null
+     */
+    private PlayerType playTurn() {
+        PlayerType current = game.getCurrentPlayer();
+        PlayerType opponent = game.getCurrentOpponent();
+        Player player = game.getPlayerByType(current);
+        IPolicy policy = (current == PlayerType.A) ? policyA : policyB;
+
+        executeRule(new DrawEvent(current));
+        if (player.getDeck().size() <= 0) {
+            return opponent;
+        }
+
+        for (int i = 0; i < maxActionPerTurn && game.getCurrentPlayer() == current; i++) {
+            IEvent event = policy.nextAction(game);
+            if (!event.validate(game).isValid()) {
+                rejectedActions++;
+                continue;
+            }
+            try {
+                game.execute(event);
+                actions++;
+            } catch (InvalidOperationException e) {
+                rejectedActions++;
+            }
+            if (game.getPlayerByType(opponent).checkLose()) {
+                return current;
+            }
+        }
+
+        if (game.getCurrentPlayer() == current) {
+            executeRule(new EndTurnEvent());
+        }
+        return null;
+    }
+
+    /**
+     * execute an event the rules do on their own, like drawing, which can not be rejected
+     * @param event the event
+     */
+    private void executeRule(IEvent event) {
+        try {
+            game.execute(event);
+        } catch (InvalidOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.avatarduel.simulation;
+
+import com.avatarduel.event.IEvent;
+import com.avatarduel.event.MoveGenerator;
+import com.avatarduel.model.Game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * RandomPolicy is a policy that picks one random action from every action the player can do.
+ *
+ * IMPORTANT NOTE:
+ * The actions are listed by MoveGenerator, so they follow the same rules as the events and every picked action is valid.
+ * Every listed action has the same chance, so a card with many targets is played more often than a card with one.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class RandomPolicy implements IPolicy {
+    private SplittableRandom random;
+    private List<IEvent> moves;
+
+    public RandomPolicy(long seed) {
+        this.random = new SplittableRandom(seed);
+        this.moves = new ArrayList<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IEvent nextAction(Game game) {
+        moves.clear();
+        MoveGenerator.generate(game, moves);
+        return moves.get(random.nextInt(moves.size()));
+    }
+}
@@ -0,0 +1,40 @@
+package com.avatarduel.simulation;
+
+import com.avatarduel.event.EndTurnEvent;
+import com.avatarduel.event.IEvent;
+import com.avatarduel.model.Game;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+
+/**
+ * ScriptedPolicy is a policy that plays a fixed list of events in order.
+ * When the script is used up, the policy only ends the turn.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class ScriptedPolicy implements IPolicy {
+    private Queue<IEvent> script;
+
+    public ScriptedPolicy(IEvent... events) {
+        this.script = new ArrayDeque<>(Arrays.asList(events));
+    }
+
+    /**
+     * add an event to the end of the script
+     * @param event the event to be played later
+     */
+    public void add(IEvent event) {
+        script.add(event);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IEvent nextAction(Game game) {
+        IEvent event = script.poll();
+        return (event != null) ? event : new EndTurnEvent();
+    }
+}
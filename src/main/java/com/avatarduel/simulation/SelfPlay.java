@@ -0,0 +1,186 @@
+package com.avatarduel.simulation;
+
+import com.avatarduel.ai.FeatureEncoder;
+import com.avatarduel.dao.FeatureShardWriter;
+import com.avatarduel.event.IEvent;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.player_component.IDeckSource;
+import com.avatarduel.model.type.PlayerType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * SelfPlay plays headless games of a policy against itself and writes every position with the result of the game,
+ * to train a model that scores games.
+ *
+ * IMPORTANT NOTE:
+ * A position is kept every time a policy is asked for an action and the game changed since the last position,
+ * so actions rejected by the rules do not give the same position twice.
+ * Positions are encoded by FeatureEncoder, as seen by the player to move, and kept until the game ends,
+ * then written with the result for that player and the number of turns left.
+ * Every thread plays its own share of the games and writes its own shards, named worker-N, so threads never wait
+ * for each other. Games are made from the seed like in Tournament, so with random policies the shards of every
+ * worker only depend on the seed and the number of threads.
+ *
+ * Usage : SelfPlay [--games=1000] [--seed=42] [--threads=cores] [--policy=random] [--deckA=ALL] [--deckB=ALL]
+ *                  [--out=selfplay] [--shardSize=262144]
+ * Policies and decks are the ones of Tournament. The names of the features are written to features.txt in the out
+ * directory.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class SelfPlay {
+    private final String policy;
+    private final IDeckSource deckSourceA;
+    private final IDeckSource deckSourceB;
+
+    /**
+     * @param policy name of the policy playing both players
+     * @param deckSourceA source of the deck of player A
+     * @param deckSourceB source of the deck of player B
+     * @throws IllegalArgumentException if the policy is unknown
+     */
+    public SelfPlay(String policy, IDeckSource deckSourceA, IDeckSource deckSourceB) {
+        Tournament.createPolicy(policy, 0, ForkJoinPool.commonPool()); // fail early on an unknown policy
+        this.policy = policy;
+        this.deckSourceA = deckSourceA;
+        this.deckSourceB = deckSourceB;
+    }
+
+    /**
+     * play the games and write their positions
+     * @param games number of games
+     * @param seed seed of the run, every game gets its own seed from it
+     * @param threads number of threads playing games
+     * @param directory directory of the shards
+     * @param recordsPerShard number of positions in a full shard
+     * @return number of positions written
+     */
+    public long run(int games, long seed, int threads, Path directory, int recordsPerShard) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            // a parallel stream started inside a pool runs on the threads of that pool
+            return pool.submit(() -> IntStream.range(0, threads).parallel()
+                    .mapToLong(worker -> runWorker(worker, threads, games, seed, pool, directory, recordsPerShard))
+                    .sum())
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * play the games worker, worker + threads, worker + 2 * threads ... into the shards of the worker
+     */
+    private long runWorker(int worker, int threads, int games, long seed, ForkJoinPool pool, Path directory, int recordsPerShard) {
+        Recorder recorder = new Recorder();
+        try (FeatureShardWriter writer = new FeatureShardWriter(directory, "worker-" + worker, FeatureEncoder.SIZE, recordsPerShard)) {
+            for (int game = worker; game < games; game += threads) {
+                long gameSeed = Tournament.matchSeed(seed, game);
+                recorder.clear();
+                MatchSimulator simulator = new MatchSimulator(new Game(gameSeed, deckSourceA, deckSourceB),
+                        recorder.watch(Tournament.createPolicy(policy, Tournament.matchSeed(gameSeed, 0), pool)),
+                        recorder.watch(Tournament.createPolicy(policy, Tournament.matchSeed(gameSeed, 1), pool)));
+                recorder.write(writer, simulator.play());
+            }
+            return writer.getRecords();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Recorder keeps the positions of one game until its result is known, the arrays are reused by the next game
+     */
+    private static class Recorder {
+        private final int[] scratch = new int[FeatureEncoder.SIZE];
+        private int[] features = new int[256 * FeatureEncoder.SIZE];
+        private int[] turns = new int[256];
+        private PlayerType[] movers = new PlayerType[256];
+        private int size;
+        private long lastHash;
+
+        void clear() {
+            size = 0;
+        }
+
+        /**
+         * @return a policy that keeps the position, then asks the policy
+         */
+        IPolicy watch(IPolicy policy) {
+            return game -> {
+                record(game);
+                return policy.nextAction(game);
+            };
+        }
+
+        private void record(Game game) {
+            long hash = game.getHash();
+            if (size > 0 && hash == lastHash) {
+                return;
+            }
+            lastHash = hash;
+            if (size == turns.length) {
+                features = Arrays.copyOf(features, 2 * features.length);
+                turns = Arrays.copyOf(turns, 2 * turns.length);
+                movers = Arrays.copyOf(movers, 2 * movers.length);
+            }
+            System.arraycopy(FeatureEncoder.encode(game, scratch), 0, features, size * FeatureEncoder.SIZE, FeatureEncoder.SIZE);
+            turns[size] = game.getCurrentTurn();
+            movers[size] = game.getCurrentPlayer();
+            size++;
+        }
+
+        void write(FeatureShardWriter writer, MatchResult result) throws IOException {
+            for (int i = 0; i < size; i++) {
+                int outcome = (result.getWinner() == null) ? 0 : (result.getWinner() == movers[i]) ? 1 : -1;
+                writer.append(outcome, result.getTurns() - turns[i], features, i * FeatureEncoder.SIZE);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (!arg.startsWith("--") || split < 0) {
+                throw new IllegalArgumentException("Options are written as --name=value : " + arg);
+            }
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        int games = Integer.parseInt(options.getOrDefault("games", "1000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int shardSize = Integer.parseInt(options.getOrDefault("shardSize", String.valueOf(FeatureShardWriter.defaultRecordsPerShard)));
+        Path directory = Paths.get(options.getOrDefault("out", "selfplay"));
+        SelfPlay selfPlay = new SelfPlay(options.getOrDefault("policy", "random"),
+                Tournament.parseDeck(options.getOrDefault("deckA", "ALL")),
+                Tournament.parseDeck(options.getOrDefault("deckB", "ALL")));
+
+        long startTime = System.nanoTime();
+        long positions = selfPlay.run(games, seed, threads, directory, shardSize);
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        Files.write(directory.resolve("features.txt"), FeatureEncoder.getNames(), StandardCharsets.UTF_8);
+
+        System.out.printf("Games         : %d on %d threads%n", games, threads);
+        System.out.printf("Positions     : %d (%d features each)%n", positions, FeatureEncoder.SIZE);
+        System.out.printf("Elapsed       : %.2f s (%.0f positions/s, %.1f million/hour)%n",
+                seconds, positions / seconds, positions / seconds * 3600 / 1e6);
+    }
+}
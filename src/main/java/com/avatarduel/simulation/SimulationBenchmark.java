@@ -0,0 +1,80 @@
+package com.avatarduel.simulation;
+
+import com.avatarduel.model.Game;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * SimulationBenchmark plays many headless matches between two random policies and
+ * reports the throughput of the rules engine.
+ *
+ * Usage : SimulationBenchmark [games] [seed]
+ * The allocation rate is only reported on JVMs that support measuring allocated bytes per thread.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class SimulationBenchmark {
+    private static final int warmupGames = 200;
+
+    public static void main(String[] args) {
+        int games = (args.length > 0) ? Integer.parseInt(args[0]) : 2000;
+        long seed = (args.length > 1) ? Long.parseLong(args[1]) : 42;
+
+        run(warmupGames, seed);
+        long startAlloc = allocatedBytes();
+        long startTime = System.nanoTime();
+        int[] total = run(games, seed);
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        long allocated = allocatedBytes() - startAlloc;
+
+        System.out.printf("Games         : %d (A win %d, B win %d, draw %d)%n", games, total[0], total[1], total[2]);
+        System.out.printf("Elapsed       : %.2f s%n", seconds);
+        System.out.printf("Games/s       : %.1f%n", games / seconds);
+        System.out.printf("Turns/s       : %.1f%n", total[3] / seconds);
+        System.out.printf("Actions/s     : %.1f (%d rejected)%n", total[4] / seconds, total[5]);
+        if (startAlloc >= 0) {
+            System.out.printf("Alloc rate    : %.1f MB/s (%.1f KB/game)%n",
+                    allocated / seconds / (1024 * 1024), allocated / 1024.0 / games);
+        } else {
+            System.out.println("Alloc rate    : not supported by this JVM");
+        }
+    }
+
+    /**
+     * play matches between two random policies
+     * @param games number of matches
+     * @param seed seed of the first match, the next matches use the next seeds
+     * @return wins of A, wins of B, draws, turns, actions and rejected actions
+     */
+    private static int[] run(int games, long seed) {
+        int[] total = new int[6];
+        for (int i = 0; i < games; i++) {
+            MatchSimulator simulator = new MatchSimulator(new Game(seed + i), new RandomPolicy(seed + 2 * i), new RandomPolicy(seed + 2 * i + 1));
+            MatchResult result = simulator.play();
+            if (result.isDraw()) {
+                total[2]++;
+            } else {
+                total[result.getWinner().ordinal()]++;
+            }
+            total[3] += result.getTurns();
+            total[4] += result.getActions();
+            total[5] += result.getRejectedActions();
+        }
+        return total;
+    }
+
+    /**
+     * @return bytes allocated by the current thread, -1 if it can not be measured
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+            if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+                return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+}
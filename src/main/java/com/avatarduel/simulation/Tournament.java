@@ -0,0 +1,293 @@
+package com.avatarduel.simulation;
+
+import com.avatarduel.ai.AlphaBetaPolicy;
+import com.avatarduel.ai.MctsPolicy;
+import com.avatarduel.dao.CardCatalog;
+import com.avatarduel.dao.MatchLogWriter;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.player_component.DeckComposition;
+import com.avatarduel.model.player_component.DeckList;
+import com.avatarduel.model.player_component.IDeckSource;
+import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.type.Element;
+import com.avatarduel.model.type.PlayerType;
+import com.avatarduel.replay.MatchLog;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Tournament plays many headless matches in parallel between two policies and counts
+ * the win rate of every card and element, to help balancing the cards.
+ *
+ * IMPORTANT NOTE:
+ * Every match has its own Game, decks and policies made from the seed of the match, so matches share
+ * nothing while playing and the tournament scales with the number of threads.
+ * Each thread counts into its own CardStatistics, they are only added together at the end.
+ * With random policies the statistics only depend on the seed, not on the number of threads.
+ * The deck of a player comes from a fixed DeckList, or from a DeckComposition with the same
+ * 40% character, 40% land and 20% skill split as the GUI Board using only cards of the chosen elements.
+ *
+ * Usage : Tournament [--matches=1000] [--seed=42] [--threads=cores] [--a=random] [--b=random]
+ *                    [--deckA=ALL] [--deckB=ALL] [--out=build/tournament/matches.csv]
+ *                    [--cards=build/tournament/cards.csv] [--log=matches.adml]
+ * Policies are random, mcts or alphabeta. Decks are the file name of a deck list in the resources, like water_tribe.txt,
+ * ALL, or a comma separated list of elements, like FIRE,AIR.
+ * An out file ending with .json or .jsonl is written as json lines. The folders of the out and cards files are made
+ * when they do not exist yet.
+ * The log file gets the MatchLog of every match appended, read it with MatchLogReader and play a match again
+ * with ReplayEngine and the same decks.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class Tournament {
+    private static final long mctsTimeBudgetMillis = 50;
+    private static final int mctsIterationBudget = 2000;
+    private static final long alphaBetaTimeBudgetMillis = 50;
+    private static final int logSyncEvery = 256;
+
+    private final Side sideA;
+    private final Side sideB;
+
+    /**
+     * @param policyA name of the policy of player A
+     * @param elementsA elements of the cards in the deck of player A
+     * @param policyB name of the policy of player B
+     * @param elementsB elements of the cards in the deck of player B
+     * @throws IllegalArgumentException if a policy is unknown or a deck can not be made from the elements
+     */
+    public Tournament(String policyA, Set<Element> elementsA, String policyB, Set<Element> elementsB) {
+        this(policyA, DeckComposition.standard(DeckComposition.MAX_DECK_SIZE, elementsA),
+                policyB, DeckComposition.standard(DeckComposition.MAX_DECK_SIZE, elementsB));
+    }
+
+    /**
+     * @param policyA name of the policy of player A
+     * @param deckSourceA source of the deck of player A
+     * @param policyB name of the policy of player B
+     * @param deckSourceB source of the deck of player B
+     * @throws IllegalArgumentException if a policy is unknown
+     */
+    public Tournament(String policyA, IDeckSource deckSourceA, String policyB, IDeckSource deckSourceB) {
+        this.sideA = new Side(policyA, deckSourceA);
+        this.sideB = new Side(policyB, deckSourceB);
+    }
+
+    /**
+     * play the matches of the tournament
+     * @param matches number of matches
+     * @param seed seed of the tournament, every match gets its own seed from it
+     * @param threads number of threads playing matches
+     * @param writer where the result of every match is written as soon as it ends
+     * @return statistics of every card and element
+     */
+    public CardStatistics run(int matches, long seed, int threads, TournamentWriter writer) {
+        return run(matches, seed, threads, writer, null);
+    }
+
+    /**
+     * play the matches of the tournament and log the events of every match
+     * @param matches number of matches
+     * @param seed seed of the tournament, every match gets its own seed from it
+     * @param threads number of threads playing matches
+     * @param writer where the result of every match is written as soon as it ends
+     * @param logWriter where the MatchLog of every match is appended, null to not log
+     * @return statistics of every card and element
+     */
+    public CardStatistics run(int matches, long seed, int threads, TournamentWriter writer, MatchLogWriter logWriter) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            // a parallel stream started inside a pool runs on the threads of that pool
+            return pool.submit(() -> IntStream.range(0, matches).parallel()
+                    .collect(CardStatistics::new, (stats, match) -> playMatch(match, seed, pool, stats, writer, logWriter), CardStatistics::merge))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * play one match and count its cards
+     */
+    private void playMatch(int match, long tournamentSeed, ForkJoinPool pool, CardStatistics stats, TournamentWriter writer, MatchLogWriter logWriter) {
+        long seed = matchSeed(tournamentSeed, match);
+        // made like ReplayEngine makes it, so a logged match can be played again
+        Game game = new Game(seed, sideA.deckSource, sideB.deckSource);
+        List<Card> cardsA = startingCards(game.getPlayerByType(PlayerType.A));
+        List<Card> cardsB = startingCards(game.getPlayerByType(PlayerType.B));
+        if (logWriter != null) {
+            game.setMatchLog(new MatchLog(seed));
+        }
+
+        MatchSimulator simulator = new MatchSimulator(game,
+                createPolicy(sideA.policy, matchSeed(seed, 0), pool), createPolicy(sideB.policy, matchSeed(seed, 1), pool));
+        MatchResult result = simulator.play();
+
+        stats.addMatch(result);
+        addCards(stats, cardsA, game.getPlayerByType(PlayerType.A), result.getWinner() == PlayerType.A);
+        addCards(stats, cardsB, game.getPlayerByType(PlayerType.B), result.getWinner() == PlayerType.B);
+        if (writer != null) {
+            writer.write(match, seed, sideA.policy, sideB.policy, result);
+        }
+        if (logWriter != null) {
+            try {
+                logWriter.append(game.getMatchLog());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * @return the cards in the deck and the first hand of the player
+     */
+    private static List<Card> startingCards(Player player) {
+        return Stream.concat(player.getDeck().stream(), player.getHand().stream()).collect(Collectors.toList());
+    }
+
+    private static void addCards(CardStatistics stats, List<Card> cards, Player player, boolean won) {
+        Set<Integer> remaining = player.getDeck().stream().map(Card::getId).collect(Collectors.toSet());
+        CardCatalog catalog = CardCatalog.getInstance();
+        for (Card card : cards) {
+            stats.addCard(catalog.getCatalogIndex(card), !remaining.contains(card.getId()), won);
+        }
+    }
+
+    /**
+     * spread the seeds of the matches, so neighbouring matches do not get similar random numbers
+     */
+    static long matchSeed(long seed, int match) {
+        long z = seed + (match + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * make a new policy
+     * @param name random, mcts or alphabeta
+     * @param seed seed of the policy
+     * @param pool pool of the tournament, used by policies that search in parallel
+     * @return the policy
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static IPolicy createPolicy(String name, long seed, ForkJoinPool pool) {
+        switch (name.toLowerCase(Locale.ROOT)) {
+            case "random": return new RandomPolicy(seed);
+            case "mcts": return new MctsPolicy(mctsTimeBudgetMillis, mctsIterationBudget, pool, seed);
+            case "alphabeta": return new AlphaBetaPolicy(alphaBetaTimeBudgetMillis, AlphaBetaPolicy.defaultDepthLimit, Long.MAX_VALUE);
+            default: throw new IllegalArgumentException("Unknown policy : " + name);
+        }
+    }
+
+    /**
+     * @param text file name of a deck list in the resources, ALL or a comma separated list of elements
+     * @return the deck list, or a standard composition of the elements
+     * @throws IllegalArgumentException if the deck list is not valid or an element is unknown
+     */
+    public static IDeckSource parseDeck(String text) {
+        if (text.endsWith(".txt")) {
+            return DeckList.load(text);
+        }
+        return DeckComposition.standard(DeckComposition.MAX_DECK_SIZE, parseElements(text));
+    }
+
+    /**
+     * @param text ALL or a comma separated list of elements
+     * @return the elements
+     * @throws IllegalArgumentException if an element is unknown
+     */
+    public static Set<Element> parseElements(String text) {
+        if (text.equalsIgnoreCase("ALL")) {
+            return EnumSet.allOf(Element.class);
+        }
+        Set<Element> elements = EnumSet.noneOf(Element.class);
+        for (String element : text.split(",")) {
+            elements.add(Element.valueOf(element.trim().toUpperCase(Locale.ROOT)));
+        }
+        return elements;
+    }
+
+    /**
+     * Policy and deck source of one player
+     */
+    private static class Side {
+        private final String policy;
+        private final IDeckSource deckSource;
+
+        Side(String policy, IDeckSource deckSource) {
+            createPolicy(policy, 0, ForkJoinPool.commonPool()); // fail early on an unknown policy
+            this.policy = policy;
+            this.deckSource = deckSource;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (!arg.startsWith("--") || split < 0) {
+                throw new IllegalArgumentException("Options are written as --name=value : " + arg);
+            }
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        int matches = Integer.parseInt(options.getOrDefault("matches", "1000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        Tournament tournament = new Tournament(
+                options.getOrDefault("a", "random"), parseDeck(options.getOrDefault("deckA", "ALL")),
+                options.getOrDefault("b", "random"), parseDeck(options.getOrDefault("deckB", "ALL")));
+
+        Path out = Paths.get(options.getOrDefault("out", "build/tournament/matches.csv"));
+        Path cardsOut = Paths.get(options.getOrDefault("cards", "build/tournament/cards.csv"));
+        createParent(out);
+        createParent(cardsOut);
+
+        long startTime = System.nanoTime();
+        CardStatistics stats;
+        try (TournamentWriter writer = TournamentWriter.open(out);
+             MatchLogWriter logWriter = options.containsKey("log") ? new MatchLogWriter(Paths.get(options.get("log")), logSyncEvery) : null) {
+            stats = tournament.run(matches, seed, threads, writer, logWriter);
+        }
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        try (Writer cards = Files.newBufferedWriter(cardsOut, StandardCharsets.UTF_8)) {
+            stats.writeCardCsv(cards);
+        }
+
+        System.out.printf("Matches       : %d (%d draw) on %d threads%n", stats.getMatches(), stats.getDraws(), threads);
+        System.out.printf("Elapsed       : %.2f s (%.1f matches/s)%n", seconds, matches / seconds);
+        Writer console = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+        stats.writeElementCsv(console);
+        console.flush();
+    }
+
+    private static void createParent(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.avatarduel.simulation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * TournamentWriter writes one line for every finished match of a Tournament, as csv or as json lines.
+ *
+ * IMPORTANT NOTE:
+ * Lines are written and flushed as soon as a match ends, so the file can be read while the tournament runs.
+ * Matches end in any order when played by many threads, the match number tells them apart.
+ * @author G10-K03-CardGameOOP
+ */
+
+public class TournamentWriter implements Closeable {
+    public enum Format {
+        CSV,
+        JSON
+    }
+
+    private final Writer writer;
+    private final Format format;
+    private int lines;
+
+    public TournamentWriter(Writer writer, Format format) {
+        this.writer = writer;
+        this.format = format;
+        if (format == Format.CSV) {
+            writeLine("match,seed,policy_a,policy_b,winner,turns,actions,rejected_actions");
+        }
+    }
+
+    /**
+     * open a file to write, the format is json lines if the file name ends with .json or .jsonl, else csv
+     * @param path the file
+     * @return the writer
+     * @throws IOException if the file can not be opened
+     */
+    public static TournamentWriter open(Path path) throws IOException {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        Format format = (name.endsWith(".json") || name.endsWith(".jsonl")) ? Format.JSON : Format.CSV;
+        return new TournamentWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8), format);
+    }
+
+    /**
+     * write the result of one match
+     * @param match number of the match
+     * @param seed seed of the match
+     * @param policyA name of the policy of player A
+     * @param policyB name of the policy of player B
+     * @param result result of the match
+     */
+    public synchronized void write(int match, long seed, String policyA, String policyB, MatchResult result) {
+        String winner = result.isDraw() ? null : result.getWinner().name();
+        if (format == Format.CSV) {
+            writeLine(String.format(Locale.ROOT, "%d,%d,%s,%s,%s,%d,%d,%d", match, seed, policyA, policyB,
+                    (winner == null) ? "DRAW" : winner, result.getTurns(), result.getActions(), result.getRejectedActions()));
+        } else {
+            writeLine(String.format(Locale.ROOT,
+                    "{\"match\":%d,\"seed\":%d,\"policyA\":\"%s\",\"policyB\":\"%s\",\"winner\":%s,\"turns\":%d,\"actions\":%d,\"rejectedActions\":%d}",
+                    match, seed, policyA, policyB, (winner == null) ? "null" : "\"" + winner + "\"",
+                    result.getTurns(), result.getActions(), result.getRejectedActions()));
+        }
+    }
+
+    /**
+     * @return number of lines written, including the csv header
+     */
+    public synchronized int getLines() {
+        return lines;
+    }
+
+    private void writeLine(String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+            writer.flush();
+            lines++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
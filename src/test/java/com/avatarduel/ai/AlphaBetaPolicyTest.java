@@ -0,0 +1,102 @@
+package com.avatarduel.ai;
+
+import com.avatarduel.dao.CardCatalog;
+import com.avatarduel.event.AttackEvent;
+import com.avatarduel.event.DirectAttackEvent;
+import com.avatarduel.event.DrawEvent;
+import com.avatarduel.event.IEvent;
+import com.avatarduel.event.MoveGenerator;
+import com.avatarduel.event.NextPhaseEvent;
+import com.avatarduel.event.ValidationResult;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.factory.CardFactory;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.GameState;
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.card.CharacterCard;
+import com.avatarduel.model.card.CharacterCardInField;
+import com.avatarduel.model.type.CharacterState;
+import com.avatarduel.model.type.PlayerType;
+import com.avatarduel.simulation.MatchResult;
+import com.avatarduel.simulation.MatchSimulator;
+import com.avatarduel.simulation.RandomPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlphaBetaPolicyTest {
+
+    private static CharacterCardInField character(Comparator<Card> comparator, int id, int index) {
+        Card card = CardCatalog.getInstance().getAllCharacterCard().stream().max(comparator).get();
+        CharacterCard clone = (CharacterCard) CardFactory.createClone(card);
+        clone.setId(id);
+        return new CharacterCardInField(clone, CharacterState.ATTACK, 0, index);
+    }
+
+    private static Comparator<Card> byAttack() {
+        return Comparator.comparingInt(c -> ((CharacterCard) c).getAttack());
+    }
+
+    @Test
+    public void testFindsWinningAttack() throws InvalidOperationException {
+        Game game = new Game(1);
+        new DrawEvent(PlayerType.A).execute(game);
+        game.getPlayerByType(PlayerType.A).getField().addCharacterCard(character(byAttack(), 300, 0));
+        game.getPlayerByType(PlayerType.B).setHealthPoint(1);
+        new NextPhaseEvent().execute(game);
+
+        IEvent move = new AlphaBetaPolicy(10000, 6, 200000).nextAction(game);
+
+        assertTrue(move instanceof DirectAttackEvent);
+    }
+
+    @Test
+    public void testOrdersByExpectedDamage() throws InvalidOperationException {
+        Game game = new Game(2);
+        new DrawEvent(PlayerType.A).execute(game);
+        game.getPlayerByType(PlayerType.A).getField().addCharacterCard(character(byAttack(), 300, 0));
+        game.getPlayerByType(PlayerType.A).getField().addCharacterCard(character(byAttack().reversed(), 301, 1));
+        game.getPlayerByType(PlayerType.B).getField().addCharacterCard(character(byAttack().reversed(), 302, 0));
+        new NextPhaseEvent().execute(game);
+
+        List<IEvent> moves = MoveGenerator.generate(game);
+        int[] order = AlphaBetaSearch.order(game, moves, -1);
+        AttackEvent first = (AttackEvent) moves.get(order[0]);
+
+        assertEquals(300, first.toRecord().getCard());
+        assertTrue(moves.get(order[order.length - 1]) instanceof NextPhaseEvent);
+        // the move of the table goes first
+        assertEquals(order.length - 1, AlphaBetaSearch.order(game, moves, order.length - 1)[0]);
+    }
+
+    @Test
+    public void testSameMovesEveryTime() throws InvalidOperationException {
+        Game game = new Game(3);
+        new DrawEvent(PlayerType.A).execute(game);
+        GameState before = GameState.of(game);
+
+        AlphaBetaSearch first = new AlphaBetaSearch(60000, 32, 20000);
+        AlphaBetaSearch second = new AlphaBetaSearch(60000, 32, 20000);
+        IEvent move = first.search(game);
+
+        assertEquals(move.toRecord(), second.search(game).toRecord());
+        assertEquals(ValidationResult.VALID, move.validate(game));
+        assertEquals(before, GameState.of(game));
+        assertTrue(first.getCompletedDepth() >= 2);
+    }
+
+    @Test
+    public void testBeatsRandomPolicy() {
+        int wins = 0;
+        for (long seed = 1; seed <= 3; seed++) {
+            MatchResult result = new MatchSimulator(new Game(seed), new AlphaBetaPolicy(60000, 4, 3000), new RandomPolicy(seed)).play();
+            if (result.getWinner() == PlayerType.A) {
+                wins++;
+            }
+        }
+        assertEquals(3, wins);
+    }
+}
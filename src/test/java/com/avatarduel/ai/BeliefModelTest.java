@@ -0,0 +1,181 @@
+package com.avatarduel.ai;
+
+import com.avatarduel.dao.CardCatalog;
+import com.avatarduel.event.DrawEvent;
+import com.avatarduel.event.IEvent;
+import com.avatarduel.event.MoveGenerator;
+import com.avatarduel.event.PlayLandCardEvent;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.GameState;
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.player_component.DeckComposition;
+import com.avatarduel.model.player_component.DeckList;
+import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.type.CardType;
+import com.avatarduel.model.type.PlayerType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeliefModelTest {
+    private static final DeckList waterTribe = DeckList.load("water_tribe.txt");
+    private static final DeckList fireNation = DeckList.load("fire_nation.txt");
+
+    /**
+     * play random moves for both players until the opponent of player A has played a few cards
+     */
+    private static void play(Game game, long seed) throws InvalidOperationException {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < 400 && game.getPlayerByType(PlayerType.B).getPlayedCards().size() < 5; i++) {
+            if (MonteCarloTreeSearch.getWinner(game) != null) {
+                break;
+            }
+            List<IEvent> moves = MoveGenerator.generate(game);
+            game.execute(moves.get(random.nextInt(moves.size())));
+        }
+    }
+
+    private static Map<Integer, Integer> countByCatalogIndex(List<Card> cards) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (Card card : cards) {
+            counts.merge(CardCatalog.getInstance().getCatalogIndex(card), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    @Test
+    public void testPlayedCardsLeaveTheDeckList() throws InvalidOperationException {
+        Game game = new Game(21, waterTribe, fireNation);
+        play(game, 5);
+        BeliefModel belief = new BeliefModel(PlayerType.A, game.getDeckSource(PlayerType.B));
+        belief.update(game);
+
+        Map<Integer, Integer> copies = countByCatalogIndex(fireNation.getCards());
+        Map<Integer, Integer> played = countByCatalogIndex(game.getPlayerByType(PlayerType.B).getPlayedCards());
+        assertFalse(played.isEmpty());
+        for (Card card : fireNation.getCards()) {
+            int index = CardCatalog.getInstance().getCatalogIndex(card);
+            assertEquals(copies.get(index) - played.getOrDefault(index, 0), belief.remaining(card));
+        }
+    }
+
+    @Test
+    public void testSampleKeepsWhatIsSeen() throws InvalidOperationException {
+        Game game = new Game(22, waterTribe, fireNation);
+        play(game, 6);
+        BeliefModel belief = new BeliefModel(PlayerType.A, game.getDeckSource(PlayerType.B));
+        belief.update(game);
+        GameState root = GameState.of(game);
+
+        Player realA = game.getPlayerByType(PlayerType.A);
+        Player realB = game.getPlayerByType(PlayerType.B);
+        Map<Integer, Integer> left = countByCatalogIndex(fireNation.getCards());
+        countByCatalogIndex(realB.getPlayedCards()).forEach((index, count) -> left.merge(index, -count, Integer::sum));
+        for (int i = 0; i < 20; i++) {
+            Game sample = belief.sample(root, new SplittableRandom(i)).toGame();
+            Player a = sample.getPlayerByType(PlayerType.A);
+            Player b = sample.getPlayerByType(PlayerType.B);
+
+            assertEquals(names(realA.getHand()), names(a.getHand()));
+            assertEquals(countByCatalogIndex(realA.getDeck().stream().collect(Collectors.toList())),
+                    countByCatalogIndex(a.getDeck().stream().collect(Collectors.toList())));
+            assertEquals(realB.getHand().size(), b.getHand().size());
+            assertEquals(realB.getDeck().size(), b.getDeck().size());
+            assertEquals(realB.getHand().get(0).getId(), b.getHand().get(0).getId());
+            assertEquals(realB.getField().getHash(), b.getField().getHash());
+
+            List<Card> hidden = b.getDeck().stream().collect(Collectors.toList());
+            hidden.addAll(b.getHand());
+            countByCatalogIndex(hidden).forEach((index, count) -> assertTrue(count <= left.getOrDefault(index, 0)));
+        }
+    }
+
+    private static List<String> names(List<Card> cards) {
+        return cards.stream().map(card -> card.getId() + " " + card.getName()).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testSampleKeepsTheComposition() throws InvalidOperationException {
+        Game game = new Game(23);
+        play(game, 7);
+        BeliefModel belief = new BeliefModel(PlayerType.A, game.getDeckSource(PlayerType.B));
+        belief.update(game);
+        Player realB = game.getPlayerByType(PlayerType.B);
+        DeckComposition composition = DeckComposition.STANDARD;
+
+        Game sample = belief.sample(GameState.of(game), new SplittableRandom(1)).toGame();
+        List<Card> hidden = sample.getPlayerByType(PlayerType.B).getDeck().stream().collect(Collectors.toList());
+        hidden.addAll(sample.getPlayerByType(PlayerType.B).getHand());
+
+        assertTrue(count(hidden, CardType.CHARACTER) <= composition.getCharacterCount() - count(realB.getPlayedCards(), CardType.CHARACTER));
+        assertTrue(count(hidden, CardType.LAND) <= composition.getLandCount() - count(realB.getPlayedCards(), CardType.LAND));
+        assertEquals(realB.getHand().size() + realB.getDeck().size(), hidden.size());
+    }
+
+    private static long count(List<Card> cards, CardType type) {
+        return cards.stream().filter(card -> card.getType() == type).count();
+    }
+
+    @Test
+    public void testUndoneMovesAreForgotten() throws InvalidOperationException {
+        Game game = new Game(24, waterTribe, fireNation);
+        game.execute(new DrawEvent(PlayerType.A));
+        game.setUndoHistory(true);
+        Card land = game.getPlayerByType(PlayerType.A).getHand().stream()
+                .filter(card -> card.getType() == CardType.LAND)
+                .findFirst()
+                .get();
+        BeliefModel belief = new BeliefModel(PlayerType.B, game.getDeckSource(PlayerType.A));
+        belief.update(game);
+        int before = belief.remaining(land);
+
+        game.execute(new PlayLandCardEvent(land.getId(), PlayerType.A));
+        belief.update(game);
+        assertEquals(before - 1, belief.remaining(land));
+
+        assertTrue(game.undoLast());
+        belief.update(game);
+        assertEquals(before, belief.remaining(land));
+        assertTrue(game.getPlayerByType(PlayerType.A).getPlayedCards().isEmpty());
+    }
+
+    @Test
+    public void testGuessesAreKeyedByTheirState() throws InvalidOperationException {
+        Game game = new Game(25, waterTribe, fireNation);
+        play(game, 8);
+        BeliefModel belief = new BeliefModel(PlayerType.A, game.getDeckSource(PlayerType.B));
+        belief.update(game);
+        GameState root = GameState.of(game);
+
+        GameState first = belief.sample(root, new SplittableRandom(1));
+        GameState second = belief.sample(root, new SplittableRandom(2));
+        // the guesses only differ in the hidden cards, which Game.getHash does not see
+        assertNotEquals(first, second);
+        assertNotEquals(first.hash(), second.hash());
+        assertEquals(first.toGame().getHash(), second.toGame().getHash());
+    }
+
+    @Test
+    public void testCopyOfTheGameKeepsThePlayedCards() throws InvalidOperationException {
+        Game game = new Game(26, waterTribe, fireNation);
+        play(game, 9);
+        BeliefModel belief = new BeliefModel(PlayerType.A, game.getDeckSource(PlayerType.B));
+        belief.update(GameState.copyOf(game));
+        belief.update(GameState.copyOf(game));
+
+        Map<Integer, Integer> copies = countByCatalogIndex(fireNation.getCards());
+        Map<Integer, Integer> played = countByCatalogIndex(game.getPlayerByType(PlayerType.B).getPlayedCards());
+        assertFalse(played.isEmpty());
+        for (Card card : fireNation.getCards()) {
+            int index = CardCatalog.getInstance().getCatalogIndex(card);
+            assertEquals(copies.get(index) - played.getOrDefault(index, 0), belief.remaining(card));
+        }
+    }
+}
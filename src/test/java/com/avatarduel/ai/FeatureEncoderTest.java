@@ -0,0 +1,64 @@
+package com.avatarduel.ai;
+
+import com.avatarduel.dao.CardCatalog;
+import com.avatarduel.event.DrawEvent;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.GameState;
+import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.type.PlayerType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeatureEncoderTest {
+
+    private static int feature(int[] features, String name) {
+        return features[FeatureEncoder.getNames().indexOf(name)];
+    }
+
+    @Test
+    public void testNames() {
+        assertEquals(FeatureEncoder.SIZE, FeatureEncoder.getNames().size());
+        assertEquals(FeatureEncoder.SIZE, new HashSet<>(FeatureEncoder.getNames()).size());
+    }
+
+    @Test
+    public void testEncodeStartOfGame() throws InvalidOperationException {
+        Game game = new Game(41);
+        new DrawEvent(PlayerType.A).execute(game);
+        int[] features = FeatureEncoder.encode(game, new int[FeatureEncoder.SIZE]);
+        Player player = game.getPlayerByType(PlayerType.A);
+
+        assertEquals(1, feature(features, "turn"));
+        assertEquals(1, feature(features, "is_player_a"));
+        assertEquals(80, feature(features, "me_health_point"));
+        assertEquals(80, feature(features, "opponent_health_point"));
+        assertEquals(8, feature(features, "me_hand_size"));
+        assertEquals(7, feature(features, "opponent_hand_size"));
+        assertEquals(player.getDeck().size(), feature(features, "me_deck_size"));
+        assertEquals(0, feature(features, "me_character_0_present"));
+        int handCards = feature(features, "hand_character") + feature(features, "hand_land") + feature(features, "hand_skill_aura")
+                + feature(features, "hand_skill_power_up") + feature(features, "hand_skill_destroy");
+        assertEquals(8, handCards);
+    }
+
+    @Test
+    public void testOpponentHandIsHidden() throws InvalidOperationException {
+        Game game = new Game(42);
+        new DrawEvent(PlayerType.A).execute(game);
+        GameState state = GameState.of(game);
+        int[] other = new int[state.getHandSize(PlayerType.B)];
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < other.length; i++) {
+            other[i] = random.nextInt(CardCatalog.getInstance().getAllCard().size());
+        }
+        Game changed = state.withHiddenCards(PlayerType.B, other, null).toGame();
+
+        assertArrayEquals(FeatureEncoder.encode(game, new int[FeatureEncoder.SIZE]),
+                FeatureEncoder.encode(changed, new int[FeatureEncoder.SIZE]));
+    }
+}
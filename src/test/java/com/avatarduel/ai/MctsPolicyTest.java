@@ -0,0 +1,56 @@
+package com.avatarduel.ai;
+
+import com.avatarduel.dao.CardCatalog;
+import com.avatarduel.event.DirectAttackEvent;
+import com.avatarduel.event.DrawEvent;
+import com.avatarduel.event.IEvent;
+import com.avatarduel.event.NextPhaseEvent;
+import com.avatarduel.event.ValidationResult;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.factory.CardFactory;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.card.CharacterCard;
+import com.avatarduel.model.card.CharacterCardInField;
+import com.avatarduel.model.type.CharacterState;
+import com.avatarduel.model.type.PlayerType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MctsPolicyTest {
+    private static final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @Test
+    public void testFindsWinningAttack() throws InvalidOperationException {
+        Game game = new Game(31);
+        new DrawEvent(PlayerType.A).execute(game);
+        Card strongest = CardCatalog.getInstance().getAllCharacterCard().stream()
+                .max(Comparator.comparingInt(c -> ((CharacterCard) c).getAttack()))
+                .get();
+        CharacterCard attacker = (CharacterCard) CardFactory.createClone(strongest);
+        attacker.setId(300);
+        game.getPlayerByType(PlayerType.A).getField().addCharacterCard(new CharacterCardInField(attacker, CharacterState.ATTACK, 0, 0));
+        game.getPlayerByType(PlayerType.B).setHealthPoint(1);
+        new NextPhaseEvent().execute(game);
+
+        IEvent move = new MctsPolicy(10000, 200, pool, 1).nextAction(game);
+
+        assertTrue(move instanceof DirectAttackEvent);
+    }
+
+    @Test
+    public void testMoveIsLegal() throws InvalidOperationException {
+        Game game = new Game(32);
+        new DrawEvent(PlayerType.A).execute(game);
+        int handSize = game.getPlayerByType(PlayerType.A).getHand().size();
+
+        IEvent move = new MctsPolicy(10000, 100, pool, 2).nextAction(game);
+
+        assertEquals(ValidationResult.VALID, move.validate(game));
+        assertEquals(handSize, game.getPlayerByType(PlayerType.A).getHand().size());
+    }
+}
@@ -0,0 +1,75 @@
+package com.avatarduel.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    public void testStoreAndProbe() {
+        TranspositionTable table = new TranspositionTable(1000);
+        assertEquals(1024, table.getCapacity());
+        assertEquals(TranspositionTable.MISS, table.probe(42));
+
+        table.store(42, -1234, 3, TranspositionTable.LOWER_BOUND, -1);
+        long data = table.probe(42);
+        assertEquals(-1234, TranspositionTable.getScore(data));
+        assertEquals(3, TranspositionTable.getDepth(data));
+        assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.getBound(data));
+        assertEquals(-1, TranspositionTable.getMove(data));
+        // same slot, other state
+        assertEquals(TranspositionTable.MISS, table.probe(42 + 1024));
+
+        table.clear();
+        assertEquals(TranspositionTable.MISS, table.probe(42));
+    }
+
+    @Test
+    public void testReplacement() {
+        TranspositionTable table = new TranspositionTable(16);
+        table.store(5, 10, 4, TranspositionTable.EXACT, 7);
+        table.store(5, 20, 2, TranspositionTable.EXACT, 1);
+        assertEquals(10, TranspositionTable.getScore(table.probe(5)));
+        assertEquals(7, TranspositionTable.getMove(table.probe(5)));
+
+        // another state always takes the slot
+        table.store(5 + 16, 30, 0, TranspositionTable.UPPER_BOUND, 2);
+        assertEquals(TranspositionTable.MISS, table.probe(5));
+        assertEquals(30, TranspositionTable.getScore(table.probe(5 + 16)));
+    }
+
+    @Test
+    public void testManyThreads() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(64);
+        List<Thread> threads = new ArrayList<>();
+        List<AssertionError> errors = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            SplittableRandom random = new SplittableRandom(t);
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 200000; i++) {
+                    long key = random.nextLong(1, 1000);
+                    // the score of a key is always the key, a read must never mix two entries
+                    table.store(key, (int) key, random.nextInt(8), TranspositionTable.EXACT, (int) key);
+                    long data = table.probe(random.nextLong(1, 1000));
+                    if (data != TranspositionTable.MISS && TranspositionTable.getScore(data) != TranspositionTable.getMove(data)) {
+                        synchronized (errors) {
+                            errors.add(new AssertionError("mixed entry " + data));
+                        }
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(errors.isEmpty());
+    }
+}
@@ -0,0 +1,68 @@
+package com.avatarduel.dao;
+
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.player_component.Deck;
+import com.avatarduel.model.type.CardType;
+import com.avatarduel.model.type.Element;
+import com.avatarduel.model.type.PlayerType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardCatalogTest {
+
+    @Test
+    public void testSharedCatalog() {
+        assertSame(CardCatalog.getInstance(), CardCatalog.getInstance());
+        assertSame(new CSVCardDAO().getAllCard(), new CSVCardDAO().getAllCard());
+    }
+
+    @Test
+    public void testCatalogCannotBeChanged() {
+        List<Card> cards = CardCatalog.getInstance().getAllCard();
+        assertThrows(UnsupportedOperationException.class, () -> cards.remove(0));
+    }
+
+    @Test
+    public void testGetCardById() {
+        CardCatalog catalog = CardCatalog.getInstance();
+        for (Card card : catalog.getCardsByType(CardType.CHARACTER)) {
+            assertEquals(card, catalog.getCardById(card.getId()));
+        }
+        assertNull(catalog.getCardById(-1));
+    }
+
+    @Test
+    public void testViewsByTypeAndElement() {
+        CardDAO dao = new CSVCardDAO();
+        int total = 0;
+        for (Element element : Element.values()) {
+            List<Card> cards = dao.getAllCardByElement(element);
+            assertTrue(cards.stream().allMatch(c -> c.getElement() == element));
+            assertSame(cards, dao.getAllCardByElement(element));
+            total += cards.size();
+        }
+        assertEquals(dao.getAllCard().size(), total);
+
+        List<Card> lands = dao.getAllCardByType(CardType.LAND);
+        assertTrue(lands.stream().allMatch(c -> c.getType() == CardType.LAND));
+        assertSame(lands, dao.getAllLandCard());
+    }
+
+    @Test
+    public void testDeckDoesNotChangeCatalog() {
+        List<Integer> idsBefore = CardCatalog.getInstance().getAllCard().stream()
+                .map(Card::getId)
+                .collect(Collectors.toList());
+        new Deck(60, PlayerType.A);
+        new Deck(60, PlayerType.B);
+        List<Integer> idsAfter = CardCatalog.getInstance().getAllCard().stream()
+                .map(Card::getId)
+                .collect(Collectors.toList());
+
+        assertEquals(idsBefore, idsAfter);
+    }
+}
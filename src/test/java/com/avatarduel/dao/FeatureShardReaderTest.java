@@ -0,0 +1,109 @@
+package com.avatarduel.dao;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeatureShardReaderTest {
+
+    private static List<int[]> readAll(Path shard) throws IOException {
+        List<int[]> records = new ArrayList<>();
+        try (FeatureShardReader reader = new FeatureShardReader(shard)) {
+            while (reader.next()) {
+                int[] record = new int[2 + reader.getFeatureCount()];
+                record[0] = reader.getResult();
+                record[1] = reader.getTurnsLeft();
+                System.arraycopy(reader.getFeatures(), 0, record, 2, reader.getFeatureCount());
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private static void deleteAll(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void testWriteAndReadShards() throws IOException {
+        Path directory = Files.createTempDirectory("shards");
+        try {
+            List<Path> shards;
+            try (FeatureShardWriter writer = new FeatureShardWriter(directory, "test", 3, 4)) {
+                for (int i = 0; i < 10; i++) {
+                    writer.append(i % 3 - 1, 10 - i, new int[] {i, 2 * i, -i});
+                }
+                shards = writer.getShards();
+                assertEquals(10, writer.getRecords());
+            }
+
+            assertEquals(3, shards.size());
+            assertEquals(12 + 4 * 5 * 4, Files.size(shards.get(0)));
+            List<int[]> records = new ArrayList<>();
+            for (Path shard : shards) {
+                records.addAll(readAll(shard));
+            }
+            assertEquals(10, records.size());
+            for (int i = 0; i < 10; i++) {
+                assertArrayEquals(new int[] {i % 3 - 1, 10 - i, i, 2 * i, -i}, records.get(i));
+            }
+
+            // a second writer only adds shards
+            try (FeatureShardWriter writer = new FeatureShardWriter(directory, "test", 3, 4)) {
+                writer.append(1, 0, new int[] {7, 8, 9, 10}, 1);
+                assertEquals(directory.resolve("test-00003.adfs"), writer.getShards().get(0));
+            }
+            assertArrayEquals(new int[] {1, 0, 8, 9, 10}, readAll(directory.resolve("test-00003.adfs")).get(0));
+            assertEquals(2, readAll(shards.get(2)).size());
+        } finally {
+            deleteAll(directory);
+        }
+    }
+
+    @Test
+    public void testPartlyWrittenRecordIsSkipped() throws IOException {
+        Path directory = Files.createTempDirectory("shards");
+        try {
+            Path shard;
+            try (FeatureShardWriter writer = new FeatureShardWriter(directory, "test", 2, 100)) {
+                writer.append(1, 5, new int[] {3, 4});
+                writer.append(-1, 2, new int[] {5, 6});
+                shard = writer.getShards().get(0);
+            }
+            try (FileChannel channel = FileChannel.open(shard, StandardOpenOption.WRITE)) {
+                channel.truncate(Files.size(shard) - 3);
+            }
+
+            List<int[]> records = readAll(shard);
+            assertEquals(1, records.size());
+            assertArrayEquals(new int[] {1, 5, 3, 4}, records.get(0));
+        } finally {
+            deleteAll(directory);
+        }
+    }
+
+    @Test
+    public void testNotAShard() throws IOException {
+        Path path = Files.createTempFile("shard", ".adfs");
+        try {
+            Files.write(path, new byte[] {'A', 'D', 'M', 'L', 1});
+            assertThrows(IOException.class, () -> new FeatureShardReader(path));
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
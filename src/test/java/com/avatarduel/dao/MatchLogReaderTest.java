@@ -0,0 +1,110 @@
+package com.avatarduel.dao;
+
+import com.avatarduel.model.Game;
+import com.avatarduel.model.GameState;
+import com.avatarduel.replay.MatchLog;
+import com.avatarduel.replay.ReplayEngine;
+import com.avatarduel.simulation.MatchSimulator;
+import com.avatarduel.simulation.RandomPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchLogReaderTest {
+
+    private static Game playLogged(long seed) {
+        Game game = new Game(seed);
+        game.setMatchLog(new MatchLog(seed));
+        new MatchSimulator(game, new RandomPolicy(seed + 1), new RandomPolicy(seed + 2)).play();
+        return game;
+    }
+
+    private static void assertSameLog(MatchLog expected, MatchLog actual) {
+        assertEquals(expected.getSeed(), actual.getSeed());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getTurn(i), actual.getTurn(i));
+            assertEquals(expected.getPhase(i), actual.getPhase(i));
+            assertEquals(expected.getPlayer(i), actual.getPlayer(i));
+            assertEquals(expected.getRecord(i), actual.getRecord(i));
+        }
+    }
+
+    @Test
+    public void testWriteAndRead() throws IOException {
+        Path path = Files.createTempFile("matches", ".adml");
+        try {
+            Game first = playLogged(31);
+            Game second = playLogged(32);
+            try (MatchLogWriter writer = new MatchLogWriter(path, 1)) {
+                writer.append(first.getMatchLog());
+            }
+            // a second writer appends after the first match
+            try (MatchLogWriter writer = new MatchLogWriter(path, 8)) {
+                writer.append(second.getMatchLog());
+            }
+
+            try (MatchLogReader reader = new MatchLogReader(path)) {
+                assertTrue(reader.next());
+                assertEquals(first.getMatchLog().size(), reader.getEntryCount());
+                assertSameLog(first.getMatchLog(), reader.readLog());
+                assertTrue(reader.next());
+                MatchLog log = reader.readLog();
+                assertSameLog(second.getMatchLog(), log);
+                assertEquals(GameState.of(second), GameState.of(new ReplayEngine(log).replay()));
+                assertFalse(reader.next());
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testScanAndSmallWindow() throws IOException {
+        Path path = Files.createTempFile("matches", ".adml");
+        try {
+            MatchLog log = playLogged(33).getMatchLog();
+            try (MatchLogWriter writer = new MatchLogWriter(path, 4)) {
+                for (int i = 0; i < 5; i++) {
+                    writer.append(log);
+                }
+            }
+
+            // a window a bit bigger than one match, so it is mapped again for every match
+            long window = (Files.size(path) - MatchLogFormat.FILE_HEADER_SIZE) / 5 + 1;
+            int[] entries = {0};
+            int matches = 0;
+            try (MatchLogReader reader = new MatchLogReader(path, window)) {
+                while (reader.next()) {
+                    matches++;
+                    assertEquals(log.getSeed(), reader.getSeed());
+                    reader.scan((turn, phase, player, type, eventPlayer, card, target, extra) -> {
+                        assertEquals(log.getTurn(entries[0] % log.size()), turn);
+                        assertEquals(log.getRecord(entries[0] % log.size()).getCard(), card);
+                        entries[0]++;
+                    });
+                }
+            }
+            assertEquals(5, matches);
+            assertEquals(5 * log.size(), entries[0]);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testNotAMatchLog() throws IOException {
+        Path path = Files.createTempFile("matches", ".adml");
+        try {
+            Files.write(path, "type,id,name\n".getBytes());
+            assertThrows(IOException.class, () -> new MatchLogReader(path));
+            assertThrows(IOException.class, () -> new MatchLogWriter(path, 1));
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.avatarduel.event;
+
+import com.avatarduel.exception.InvalidAttackException;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.card.CharacterCard;
+import com.avatarduel.model.card.CharacterCardInField;
+import com.avatarduel.model.type.CharacterState;
+import com.avatarduel.model.type.Element;
+import com.avatarduel.model.type.Phase;
+import com.avatarduel.model.type.PlayerType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttackEventTest {
+    private static final int attackerId = 900;
+    private static final int defenderId = 901;
+
+    private static Game battle(CharacterState attackerPosition) {
+        Game game = new Game(1);
+        game.setCurrentTurn(3);
+        game.setCurrentPhase(Phase.BATTLE);
+        CharacterCard attacker = new CharacterCard(attackerId, "attacker", Element.FIRE, "", "", 5, 5, 1);
+        game.getPlayerByType(PlayerType.A).getField().addCharacterCard(new CharacterCardInField(attacker, attackerPosition, 1, 0));
+        return game;
+    }
+
+    private static void addDefender(Game game) {
+        CharacterCard defender = new CharacterCard(defenderId, "defender", Element.WATER, "", "", 1, 1, 1);
+        game.getPlayerByType(PlayerType.B).getField().addCharacterCard(new CharacterCardInField(defender, CharacterState.ATTACK, 1, 0));
+    }
+
+    @Test
+    public void testDefensePositionCanNotAttack() {
+        Game game = battle(CharacterState.DEFENSE);
+        addDefender(game);
+        IEvent attack = new AttackEvent(attackerId, defenderId, PlayerType.A, PlayerType.B);
+
+        assertEquals(ValidationResult.NOT_ATTACK_POSITION, attack.validate(game));
+        assertThrows(InvalidAttackException.class, () -> attack.execute(game));
+        assertFalse(GameRule.canAttack(game, game.getPlayerByType(PlayerType.A).getCharacterCardByID(attackerId)));
+        assertTrue(MoveGenerator.generate(game).stream().noneMatch(m -> m instanceof AttackEvent));
+    }
+
+    @Test
+    public void testDirectAttack() throws InvalidOperationException {
+        Game game = battle(CharacterState.ATTACK);
+        IEvent direct = new DirectAttackEvent(attackerId, PlayerType.A);
+
+        game.setCurrentPhase(Phase.MAIN);
+        assertEquals(ValidationResult.INVALID_PHASE, direct.validate(game));
+        game.setCurrentPhase(Phase.BATTLE);
+        addDefender(game);
+        assertEquals(ValidationResult.OPPONENT_HAS_CHARACTER, direct.validate(game));
+        assertThrows(InvalidAttackException.class, () -> direct.execute(game));
+        assertEquals(80, game.getPlayerByType(PlayerType.B).getHealthPoint());
+
+        game.getPlayerByType(PlayerType.B).getField().removeCharacterCard(game.getPlayerByType(PlayerType.B).getCharacterCardByID(defenderId));
+        assertEquals(ValidationResult.VALID, direct.validate(game));
+        direct.execute(game);
+        assertEquals(75, game.getPlayerByType(PlayerType.B).getHealthPoint());
+    }
+}
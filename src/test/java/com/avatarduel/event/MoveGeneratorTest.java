@@ -0,0 +1,69 @@
+package com.avatarduel.event;
+
+import com.avatarduel.exception.InvalidDrawException;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.GameState;
+import com.avatarduel.model.player_component.Deck;
+import com.avatarduel.model.type.Phase;
+import com.avatarduel.model.type.PlayerType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveGeneratorTest {
+
+    @Test
+    public void testDrawPhase() {
+        List<IEvent> moves = MoveGenerator.generate(new Game());
+
+        assertEquals(1, moves.size());
+        assertTrue(moves.get(0) instanceof DrawEvent);
+    }
+
+    @Test
+    public void testNoDrawFromEmptyDeck() throws InvalidOperationException {
+        Game game = new Game(1);
+        Deck deck = game.getPlayerByType(PlayerType.A).getDeck();
+        while (!deck.isEmpty()) {
+            deck.draw();
+        }
+        IEvent draw = new DrawEvent(PlayerType.A);
+
+        assertTrue(MoveGenerator.generate(game).isEmpty());
+        assertEquals(ValidationResult.EMPTY_DECK, draw.validate(game));
+        assertThrows(InvalidDrawException.class, () -> draw.execute(game));
+
+        game.setCurrentPhase(Phase.MAIN);
+        assertEquals(ValidationResult.INVALID_PHASE, draw.validate(game));
+    }
+
+    @Test
+    public void testMainPhase() throws InvalidOperationException {
+        Game game = new Game();
+        new DrawEvent(PlayerType.A).execute(game);
+        List<IEvent> moves = MoveGenerator.generate(game);
+
+        assertTrue(moves.stream().anyMatch(m -> m instanceof NextPhaseEvent));
+        assertTrue(moves.stream().anyMatch(m -> m instanceof EndTurnEvent));
+        assertTrue(moves.stream().noneMatch(m -> m instanceof AttackEvent || m instanceof DrawEvent));
+    }
+
+    @Test
+    public void testEveryMoveIsLegal() throws InvalidOperationException {
+        Game game = new Game();
+        Random random = new Random(5);
+        for (int i = 0; i < 400 && !game.checkGameOver() && game.getPlayerByType(game.getCurrentPlayer()).getDeck().size() > 1; i++) {
+            List<IEvent> moves = MoveGenerator.generate(game);
+            GameState state = GameState.of(game);
+            for (IEvent move : moves) {
+                assertEquals(ValidationResult.VALID, move.validate(game));
+                assertDoesNotThrow(() -> state.apply(move));
+            }
+            moves.get(random.nextInt(moves.size())).execute(game);
+        }
+    }
+}
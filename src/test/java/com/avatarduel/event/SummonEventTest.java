@@ -0,0 +1,77 @@
+package com.avatarduel.event;
+
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.exception.InvalidSummonException;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.type.CardType;
+import com.avatarduel.model.type.CharacterState;
+import com.avatarduel.model.type.Element;
+import com.avatarduel.model.type.PlayerType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummonEventTest {
+
+    private static int firstPaidCharacterInHand(Game game) {
+        for (Card card : game.getPlayerByType(PlayerType.A).getHand()) {
+            if (card.getType() == CardType.CHARACTER && card.getPower() > 0) {
+                return card.getId();
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    public void testValidate() throws InvalidOperationException {
+        Game game = new Game();
+        int id = firstPaidCharacterInHand(game);
+        IEvent summon = new SummonEvent(id, PlayerType.A, CharacterState.ATTACK, 0);
+
+        assertEquals(ValidationResult.INVALID_PHASE, summon.validate(game));
+        new DrawEvent(PlayerType.A).execute(game);
+        assertEquals(ValidationResult.CARD_NOT_FOUND, new SummonEvent(-1, PlayerType.A, CharacterState.ATTACK, 0).validate(game));
+        if (id >= 0) {
+            assertEquals(ValidationResult.NOT_ENOUGH_POWER, summon.validate(game));
+        }
+    }
+
+    @Test
+    public void testExecuteThrowsWithoutStackTrace() {
+        Game game = new Game();
+        IEvent summon = new SummonEvent(-1, PlayerType.A, CharacterState.ATTACK, 0);
+
+        InvalidOperationException e = assertThrows(InvalidSummonException.class, () -> summon.execute(game));
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals(7, game.getPlayerByType(PlayerType.A).getHand().size());
+    }
+
+    @Test
+    public void testUsedSlotIsRejected() throws InvalidOperationException {
+        Game game = new Game(2);
+        new DrawEvent(PlayerType.A).execute(game);
+        Player player = game.getPlayerByType(PlayerType.A);
+        for (Element element : Element.values()) {
+            player.getPower().add(element, 20);
+        }
+        List<Card> characters = player.getHand().stream()
+                .filter(card -> card.getType() == CardType.CHARACTER)
+                .collect(Collectors.toList());
+
+        game.execute(new SummonEvent(characters.get(0).getId(), PlayerType.A, CharacterState.ATTACK, 0));
+        long hash = game.getHash();
+        IEvent taken = new SummonEvent(characters.get(1).getId(), PlayerType.A, CharacterState.ATTACK, 0);
+        IEvent outside = new SummonEvent(characters.get(1).getId(), PlayerType.A, CharacterState.ATTACK, player.getField().getFieldSize());
+
+        assertEquals(ValidationResult.INVALID_SLOT, taken.validate(game));
+        assertEquals(ValidationResult.INVALID_SLOT, outside.validate(game));
+        assertThrows(InvalidSummonException.class, () -> game.execute(taken));
+        assertEquals(hash, game.getHash());
+        assertTrue(player.getHand().contains(characters.get(1)));
+    }
+}
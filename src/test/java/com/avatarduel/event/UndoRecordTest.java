@@ -0,0 +1,162 @@
+package com.avatarduel.event;
+
+import com.avatarduel.dao.CardCatalog;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.factory.CardFactory;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.GameState;
+import com.avatarduel.model.card.CharacterCard;
+import com.avatarduel.model.card.CharacterCardInField;
+import com.avatarduel.model.player_component.Player;
+import com.avatarduel.model.type.CharacterState;
+import com.avatarduel.model.type.Element;
+import com.avatarduel.model.type.PlayerType;
+import com.avatarduel.replay.MatchLog;
+import com.avatarduel.replay.ReplayEngine;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UndoRecordTest {
+
+    /**
+     * the connected skill cards of every character, which GameState does not keep
+     */
+    private static String connectedCards(Game game) {
+        StringBuilder builder = new StringBuilder();
+        for (PlayerType type : PlayerType.values()) {
+            for (CharacterCardInField character : game.getPlayerByType(type).getField().getCharCardList()) {
+                builder.append(character.getCard().getId()).append(character.getConnectedCard())
+                        .append(character.getBonusAttack()).append(character.isPowerUp()).append(';');
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean canPlay(Game game) {
+        return !game.checkGameOver() && game.getPlayerByType(game.getCurrentPlayer()).getDeck().size() > 1;
+    }
+
+    @Test
+    public void testUndoEveryMove() throws InvalidOperationException {
+        for (long seed = 1; seed <= 5; seed++) {
+            Game game = new Game(seed);
+            Random random = new Random(seed);
+            for (int i = 0; i < 300 && canPlay(game); i++) {
+                List<IEvent> moves = MoveGenerator.generate(game);
+                GameState before = GameState.of(game);
+                String connectedBefore = connectedCards(game);
+                for (IEvent move : moves) {
+                    game.executeUndoable(move).undo();
+                    assertEquals(before, GameState.of(game), "undo of " + move.toRecord());
+                    assertEquals(connectedBefore, connectedCards(game), "undo of " + move.toRecord());
+                }
+                game.execute(moves.get(random.nextInt(moves.size())));
+            }
+        }
+    }
+
+    @Test
+    public void testUndoHistory() throws InvalidOperationException {
+        Game game = new Game(12);
+        MatchLog log = new MatchLog(game.getSeed());
+        game.setMatchLog(log);
+        game.setUndoHistory(true);
+        GameState start = GameState.of(game);
+        Random random = new Random(12);
+        int executed = 0;
+        for (; executed < 40 && canPlay(game); executed++) {
+            List<IEvent> moves = MoveGenerator.generate(game);
+            game.execute(moves.get(random.nextInt(moves.size())));
+        }
+        // kept events are not logged until they are committed
+        assertEquals(0, log.size());
+
+        while (game.undoLast()) {
+            executed--;
+        }
+        assertEquals(0, executed);
+        assertEquals(0, log.size());
+        assertEquals(start, GameState.of(game));
+        assertFalse(game.canUndo());
+    }
+
+    @Test
+    public void testOnlyCommittedEventsAreLogged() throws InvalidOperationException {
+        Game game = new Game(16);
+        MatchLog log = new MatchLog(game.getSeed());
+        game.setMatchLog(log);
+        game.setUndoHistory(true);
+        Random random = new Random(16);
+        for (int i = 0; i < 60 && canPlay(game); i++) {
+            List<IEvent> moves = MoveGenerator.generate(game);
+            game.execute(moves.get(random.nextInt(moves.size())));
+            if (i % 3 == 2) {
+                game.undoLast();
+            }
+            if (i % 10 == 9) {
+                game.clearUndoHistory();
+            }
+        }
+        game.clearUndoHistory();
+        int logged = log.size();
+        // events tried with executeUndoable are never logged
+        game.executeUndoable(MoveGenerator.generate(game).get(0)).undo();
+
+        assertTrue(logged > 0);
+        assertEquals(logged, log.size());
+        assertEquals(GameState.of(game), GameState.of(new ReplayEngine(log).replay()));
+    }
+
+    @Test
+    public void testFailedEventChangesNothing() {
+        Game game = new Game(13);
+        GameState before = GameState.of(game);
+
+        // summoning is only possible in the main phase
+        assertThrows(InvalidOperationException.class,
+                () -> game.executeUndoable(new SummonEvent(101, PlayerType.A, null, 0)));
+        assertEquals(before, GameState.of(game));
+        assertThrows(IllegalStateException.class, () -> UndoRecord.NONE.undo());
+    }
+
+    @Test
+    public void testEventFailingHalfWayIsUndone() {
+        Game game = new Game(15);
+        Player player = game.getPlayerByType(PlayerType.A);
+        CharacterCard first = (CharacterCard) CardFactory.createClone(CardCatalog.getInstance().getAllCharacterCard().get(0));
+        CharacterCard second = (CharacterCard) CardFactory.createClone(CardCatalog.getInstance().getAllCharacterCard().get(1));
+        first.setId(900);
+        second.setId(901);
+        long hash = game.getHash();
+        GameState before = GameState.of(game);
+        int handSize = player.getHand().size();
+
+        // plays a card and gains power, then summons two characters in the same slot
+        IEvent event = new IEvent() {
+            @Override
+            public void execute(Game game) {
+                UndoRecord undo = game.getUndoRecord();
+                undo.removeFromHand(player, player.getHand().get(0));
+                undo.addPower(player, Element.FIRE, 2);
+                undo.addCharacter(player, new CharacterCardInField(first, CharacterState.ATTACK, 1, 0));
+                undo.addCharacter(player, new CharacterCardInField(second, CharacterState.ATTACK, 1, 0));
+            }
+
+            @Override
+            public EventRecord toRecord() {
+                return null;
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> game.executeUndoable(event));
+        assertEquals(hash, game.getHash());
+        assertEquals(before, GameState.of(game));
+        assertEquals(handSize, player.getHand().size());
+        assertTrue(player.getPlayedCards().isEmpty());
+        assertNull(player.getField().getCharacterCardAt(0));
+    }
+}
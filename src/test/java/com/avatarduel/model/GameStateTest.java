@@ -0,0 +1,105 @@
+package com.avatarduel.model;
+
+import com.avatarduel.dao.CardCatalog;
+import com.avatarduel.event.DrawEvent;
+import com.avatarduel.event.IEvent;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.model.type.Phase;
+import com.avatarduel.model.type.PlayerType;
+import com.avatarduel.simulation.RandomPolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStateTest {
+
+    @Test
+    public void testRoundTrip() {
+        Game game = new Game();
+        GameState state = GameState.of(game);
+
+        assertEquals(1, state.getTurn());
+        assertEquals(PlayerType.A, state.getCurrentPlayer());
+        assertEquals(Phase.DRAW, state.getPhase());
+        assertEquals(80, state.getHealthPoint(PlayerType.B));
+        assertEquals(7, state.getHandSize(PlayerType.A));
+        assertEquals(game.getPlayerByType(PlayerType.A).getDeck().size(), state.getDeckSize(PlayerType.A));
+        assertEquals(state, GameState.of(state.toGame()));
+    }
+
+    @Test
+    public void testCopyAndHash() {
+        GameState state = GameState.of(new Game());
+        GameState copy = state.copy();
+
+        assertEquals(state, copy);
+        assertEquals(state.hash(), copy.hash());
+        assertEquals(state, GameState.fromArray(state.toArray()));
+        assertNotEquals(state, GameState.of(new Game()));
+    }
+
+    @Test
+    public void testWithHiddenCards() {
+        Game game = new Game(4);
+        GameState state = GameState.of(game);
+        int handSize = state.getHandSize(PlayerType.B);
+        int[] hand = new int[handSize];
+
+        Game changed = state.withHiddenCards(PlayerType.B, hand, null).toGame();
+
+        for (int i = 0; i < handSize; i++) {
+            assertEquals(CardCatalog.getInstance().getCardByCatalogIndex(0).getName(), changed.getPlayerByType(PlayerType.B).getHand().get(i).getName());
+            assertEquals(game.getPlayerByType(PlayerType.B).getHand().get(i).getId(), changed.getPlayerByType(PlayerType.B).getHand().get(i).getId());
+        }
+        assertEquals(GameState.of(game), state);
+        assertEquals(state.getDeckSize(PlayerType.B), GameState.of(changed).getDeckSize(PlayerType.B));
+        assertThrows(IllegalArgumentException.class, () -> state.withHiddenCards(PlayerType.B, new int[handSize + 1], null));
+    }
+
+    @Test
+    public void testApply() throws InvalidOperationException {
+        Game game = new Game();
+        GameState state = GameState.of(game);
+        GameState next = state.apply(new DrawEvent(PlayerType.A));
+
+        assertEquals(7, state.getHandSize(PlayerType.A));
+        assertEquals(8, next.getHandSize(PlayerType.A));
+        assertEquals(Phase.MAIN, next.getPhase());
+    }
+
+    @Test
+    public void testApplyIsRepeatable() throws InvalidOperationException {
+        GameState state = GameState.of(new Game(9));
+        GameState other = GameState.of(new Game(10));
+        GameState first = state.apply(new DrawEvent(PlayerType.A));
+        other.apply(new DrawEvent(PlayerType.A));
+
+        assertEquals(first, state.apply(new DrawEvent(PlayerType.A)));
+        assertEquals(GameState.of(new Game(9)), state);
+    }
+
+    @Test
+    public void testApplyFollowsGame() {
+        Game game = new Game();
+        RandomPolicy policy = new RandomPolicy(3);
+        GameState state = GameState.of(game);
+        int applied = 0;
+        for (int i = 0; i < 300 && !game.checkGameOver() && game.getPlayerByType(game.getCurrentPlayer()).getDeck().size() > 1; i++) {
+            IEvent event = policy.nextAction(game);
+            try {
+                event.execute(game);
+            } catch (InvalidOperationException e) {
+                state = GameState.of(game);
+                continue;
+            }
+            try {
+                state = state.apply(event);
+                applied++;
+            } catch (InvalidOperationException e) {
+                fail(e);
+            }
+            assertEquals(GameState.of(game), state);
+        }
+        assertTrue(applied > 0);
+    }
+}
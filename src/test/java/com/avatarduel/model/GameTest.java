@@ -0,0 +1,117 @@
+package com.avatarduel.model;
+
+import com.avatarduel.event.DrawEvent;
+import com.avatarduel.event.EndTurnEvent;
+import com.avatarduel.event.EventType;
+import com.avatarduel.event.IEvent;
+import com.avatarduel.event.MoveGenerator;
+import com.avatarduel.event.UndoRecord;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.model.type.Phase;
+import com.avatarduel.model.type.PlayerType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameTest {
+
+    @Test
+    public void testIndependentGames() throws InvalidOperationException {
+        Game game1 = new Game();
+        Game game2 = new Game();
+
+        new DrawEvent(PlayerType.A).execute(game1);
+        new EndTurnEvent().execute(game1);
+
+        assertEquals(2, game1.getCurrentTurn());
+        assertEquals(PlayerType.B, game1.getCurrentPlayer());
+        assertEquals(8, game1.getPlayerByType(PlayerType.A).getHand().size());
+
+        assertEquals(1, game2.getCurrentTurn());
+        assertEquals(PlayerType.A, game2.getCurrentPlayer());
+        assertEquals(Phase.DRAW, game2.getCurrentPhase().getPhase());
+        assertEquals(7, game2.getPlayerByType(PlayerType.A).getHand().size());
+    }
+
+    @Test
+    public void testSharedInstance() {
+        assertSame(Game.getInstance(), Game.getInstance());
+        assertNotSame(Game.getInstance(), new Game());
+    }
+
+    @Test
+    public void testSeededGamesAreEqual() {
+        assertEquals(GameState.of(new Game(9)), GameState.of(new Game(9)));
+        assertNotEquals(GameState.of(new Game(9)), GameState.of(new Game(10)));
+    }
+
+    @Test
+    public void testResetDealsANewMatch() {
+        Game game = new Game(9);
+        GameState first = GameState.of(game);
+        game.resetGame();
+
+        assertNotEquals(9, game.getSeed());
+        assertNotEquals(first, GameState.of(game));
+        Game other = new Game(9);
+        other.resetGame();
+        assertEquals(GameState.of(game), GameState.of(other));
+    }
+
+    @Test
+    public void testHashFollowsEvents() throws InvalidOperationException {
+        Game game = new Game(14);
+        Random random = new Random(14);
+        for (int i = 0; i < 400 && !game.checkGameOver() && game.getPlayerByType(game.getCurrentPlayer()).getDeck().size() > 1; i++) {
+            long hash = game.getHash();
+            // a game made again from its state has the same hash, so the kept hashes are up to date
+            assertEquals(GameState.of(game).toGame().getHash(), hash);
+            List<IEvent> moves = MoveGenerator.generate(game);
+            IEvent move = moves.get(random.nextInt(moves.size()));
+            UndoRecord record = game.executeUndoable(move);
+            assertNotEquals(hash, game.getHash(), "hash not changed by " + move.toRecord());
+            record.undo();
+            assertEquals(hash, game.getHash());
+            game.execute(move);
+        }
+    }
+
+    @Test
+    public void testHashOfTranspositions() throws InvalidOperationException {
+        int transpositions = 0;
+        for (long seed = 1; seed <= 10; seed++) {
+            Game game = new Game(seed);
+            Random random = new Random(seed);
+            for (int i = 0; i < 200 && !game.checkGameOver() && game.getPlayerByType(game.getCurrentPlayer()).getDeck().size() > 1; i++) {
+                List<IEvent> moves = MoveGenerator.generate(game);
+                for (IEvent first : moves) {
+                    for (IEvent second : moves) {
+                        // rotating characters and playing a land can be done in any order
+                        if (first != second && isRotation(first) && (isRotation(second) || second.toRecord().getType() == EventType.PLAY_LAND)) {
+                            UndoRecord firstRecord = game.executeUndoable(first);
+                            UndoRecord secondRecord = game.executeUndoable(second);
+                            long hash = game.getHash();
+                            secondRecord.undo();
+                            firstRecord.undo();
+                            secondRecord = game.executeUndoable(second);
+                            firstRecord = game.executeUndoable(first);
+                            assertEquals(hash, game.getHash());
+                            firstRecord.undo();
+                            secondRecord.undo();
+                            transpositions++;
+                        }
+                    }
+                }
+                game.execute(moves.get(random.nextInt(moves.size())));
+            }
+        }
+        assertTrue(transpositions > 0);
+    }
+
+    private static boolean isRotation(IEvent move) {
+        return move.toRecord().getType() == EventType.CHANGE_POSITION;
+    }
+}
@@ -0,0 +1,46 @@
+package com.avatarduel.model.card;
+
+import com.avatarduel.factory.CardFactory;
+import com.avatarduel.model.type.CardType;
+import com.avatarduel.model.type.Element;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardTemplateTest {
+
+    @Test
+    public void testCloneSharesTemplate() {
+        CharacterCard original = new CharacterCard(1, "sample name", Element.AIR, "lorem ipsum", "imgfile", 1, 2, 3);
+        CharacterCard clone = CardFactory.createClone(original);
+        clone.setId(101);
+
+        assertSame(original.getTemplate(), clone.getTemplate());
+        assertEquals(1, original.getId());
+        assertEquals(101, clone.getId());
+    }
+
+    @Test
+    public void testSetterDoesNotChangeOtherCopies() {
+        SkillAuraCard original = new SkillAuraCard(1, "sample name", Element.FIRE, "lorem ipsum", "imgfile", 1, 2, 3);
+        SkillAuraCard clone = CardFactory.createClone(original);
+        clone.setAttack(10);
+        clone.setName("other name");
+
+        assertEquals(2, original.getAttack());
+        assertEquals("sample name", original.getName());
+        assertEquals(10, clone.getAttack());
+        assertEquals("other name", clone.getName());
+        assertEquals(CardType.SKILL_AURA, clone.getType());
+    }
+
+    @Test
+    public void testEquals() {
+        CardTemplate template = new CardTemplate("sample name", Element.WATER, "lorem ipsum", "imgfile", CardType.LAND, 1, 0, 0);
+        CardTemplate same = new CardTemplate("sample name", Element.WATER, "lorem ipsum", "imgfile", CardType.LAND, 1, 0, 0);
+
+        assertEquals(template, same);
+        assertEquals(template.hashCode(), same.hashCode());
+        assertNotEquals(template, template.withPower(2));
+    }
+}
@@ -32,4 +32,36 @@ public class CharacterCardInFieldTest {
         assertEquals("lorem ipsum", CCinField.getCard().getDescription());
         assertEquals("imgfile", CCinField.getCard().getImage());
     }
+
+    @Test
+    public void pairAndUnpair() {
+        SkillAuraCard aura = new SkillAuraCard(1, "aura", Element.FIRE, "lorem ipsum", "imgfile", 1, 5, -200);
+        SkillPowerUpCard powerUp = new SkillPowerUpCard(2, "power up", Element.AIR, "lorem ipsum", "imgfile", "1");
+
+        CCinField.pair(aura);
+        CCinField.pair(powerUp);
+        assertEquals(104, CCinField.getTotalAttack());
+        assertEquals(0, CCinField.getTotalDefense());
+        assertTrue(CCinField.isPowerUp());
+
+        assertTrue(CCinField.unpair(powerUp));
+        assertFalse(CCinField.isPowerUp());
+        assertFalse(CCinField.unpair(powerUp));
+
+        CCinField.unpair(aura);
+        assertEquals(99, CCinField.getTotalAttack());
+        assertEquals(100, CCinField.getTotalDefense());
+        assertTrue(CCinField.getConnectedCard().isEmpty());
+    }
+
+    @Test
+    public void setConnectedCard() {
+        SkillAuraCard aura = new SkillAuraCard(1, "aura", Element.FIRE, "lorem ipsum", "imgfile", 1, 5, 6);
+        CCinField.pair(aura);
+        CCinField.setConnectedCard(java.util.Arrays.asList(aura, aura));
+
+        assertEquals(109, CCinField.getTotalAttack());
+        assertEquals(112, CCinField.getTotalDefense());
+        assertThrows(UnsupportedOperationException.class, () -> CCinField.getConnectedCard().clear());
+    }
 }
@@ -0,0 +1,40 @@
+package com.avatarduel.model.player_component;
+
+import com.avatarduel.model.type.CardType;
+import com.avatarduel.model.type.Element;
+import com.avatarduel.model.type.PlayerType;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeckCompositionTest {
+
+    @Test
+    public void testStandard() {
+        Deck deck = DeckComposition.STANDARD.createDeck(PlayerType.B, new SplittableRandom(1));
+
+        assertEquals(60, deck.size());
+        assertEquals(24, deck.stream().filter(c -> c.getType() == CardType.CHARACTER).count());
+        assertEquals(24, deck.stream().filter(c -> c.getType() == CardType.LAND).count());
+        assertTrue(deck.stream().allMatch(c -> c.getId() > 200 && c.getId() <= 260));
+    }
+
+    @Test
+    public void testElements() {
+        DeckComposition composition = new DeckComposition(20, 15, 5, EnumSet.of(Element.EARTH));
+        Deck deck = composition.createDeck(PlayerType.A, new SplittableRandom(2));
+
+        assertEquals(40, deck.size());
+        assertTrue(deck.stream().allMatch(c -> c.getElement() == Element.EARTH));
+    }
+
+    @Test
+    public void testDeckSizeRule() {
+        assertThrows(IllegalArgumentException.class, () -> DeckComposition.standard(38));
+        assertThrows(IllegalArgumentException.class, () -> new DeckComposition(30, 25, 6, EnumSet.allOf(Element.class)));
+        assertEquals(40, DeckComposition.standard(40).getSize());
+    }
+}
@@ -0,0 +1,50 @@
+package com.avatarduel.model.player_component;
+
+import com.avatarduel.model.card.Card;
+import com.avatarduel.model.type.Element;
+import com.avatarduel.model.type.PlayerType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeckListTest {
+
+    @Test
+    public void testLoad() {
+        DeckList list = DeckList.load("water_tribe.txt");
+
+        assertSame(list, DeckList.load("water_tribe.txt"));
+        assertEquals(60, list.getSize());
+        assertEquals(40, DeckList.load("fire_nation.txt").getSize());
+        assertTrue(list.getCards().stream().allMatch(c -> c.getElement() == Element.WATER));
+    }
+
+    @Test
+    public void testCreateDeck() {
+        DeckList list = DeckList.load("fire_nation.txt");
+        Deck deck1 = list.createDeck(PlayerType.A, new SplittableRandom(3));
+        Deck deck2 = list.createDeck(PlayerType.A, new SplittableRandom(4));
+
+        assertEquals(40, deck1.size());
+        assertEquals(deck1.stream().map(Card::getName).sorted().collect(Collectors.toList()),
+                deck2.stream().map(Card::getName).sorted().collect(Collectors.toList()));
+        assertTrue(deck1.stream().noneMatch(c -> list.getCards().contains(c)));
+    }
+
+    @Test
+    public void testInvalidList() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DeckList.parse("short", Collections.singletonList("39 CHARACTER 17")));
+        assertThrows(IllegalArgumentException.class,
+                () -> DeckList.parse("wrong name", Arrays.asList("20 CHARACTER 17 Sokka", "20 LAND 5")));
+        assertThrows(IllegalArgumentException.class,
+                () -> DeckList.parse("no card", Arrays.asList("20 CHARACTER 1700", "20 LAND 5")));
+        assertThrows(IllegalArgumentException.class, () -> DeckList.load("missing.txt"));
+        assertEquals(40, DeckList.parse("ok", Arrays.asList("# comment", "", "20 CHARACTER 17 Katara", "20 land 5")).getSize());
+    }
+}
@@ -1,10 +1,16 @@
 package com.avatarduel.model.player_component;
 
+import com.avatarduel.model.card.Card;
 import com.avatarduel.model.type.CardType;
 import com.avatarduel.model.type.PlayerType;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.ArrayList;
+import java.util.EmptyStackException;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class DeckTest {
 
@@ -55,4 +61,45 @@ class DeckTest {
         assertEquals(countSkill, countSkill2);
         assertEquals(30, deck.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void seedTest() {
+        Deck deck1 = new Deck(40, PlayerType.A, new SplittableRandom(4));
+        Deck deck2 = new Deck(40, PlayerType.A, new SplittableRandom(4));
+        assertEquals(deck1.stream().map(c -> c.getName()).collect(Collectors.toList()),
+                deck2.stream().map(c -> c.getName()).collect(Collectors.toList()));
+
+        deck1.shuffle();
+        deck2.shuffle();
+        assertEquals(deck1.stream().map(c -> c.getId()).collect(Collectors.toList()),
+                deck2.stream().map(c -> c.getId()).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void peekTest() {
+        Card third = deck.peek(2);
+        assertSame(deck.peek(), deck.draw());
+        deck.draw();
+        assertSame(third, deck.draw());
+        assertEquals(57, deck.remaining());
+        assertThrows(EmptyStackException.class, () -> deck.peek(57));
+    }
+
+    @Test
+    public void copyTest() {
+        Deck copy = deck.copy();
+        copy.draw();
+        copy.shuffle();
+
+        assertEquals(60, deck.remaining());
+        assertEquals(59, copy.remaining());
+        assertTrue(copy.stream().allMatch(c -> deck.stream().anyMatch(d -> d == c)));
+    }
+
+    @Test
+    public void drawEmptyTest() {
+        Deck empty = new Deck(PlayerType.A, new ArrayList<>());
+        assertTrue(empty.isEmpty());
+        assertThrows(EmptyStackException.class, empty::draw);
+    }
+}
@@ -9,6 +9,10 @@ import com.avatarduel.model.type.Element;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class FieldTest {
 
@@ -90,5 +94,85 @@ class FieldTest {
 
     }
 
+    @Test
+    public void testSlotReusedAfterRemove() {
+        this.field = new Field(3);
+        CharacterCardInField[] chars = new CharacterCardInField[3];
+        for (int i = 0; i < 3; i++) {
+            CharacterCard card = new CharacterCard(i, "sample name", Element.AIR, "lorem ipsum", "imgfile", 99, 100, 101);
+            chars[i] = new CharacterCardInField(card, CharacterState.ATTACK, 1, i);
+            this.field.addCharacterCard(chars[i]);
+        }
+
+        assertEquals(-1, this.field.getEmptyCharacterIndex());
+        assertEquals(false, this.field.isAbleToAddChar());
+
+        this.field.removeCharacterCard(chars[1]);
+
+        assertEquals(1, this.field.getEmptyCharacterIndex());
+        assertNull(this.field.getCharacterCardAt(1));
+        assertEquals(chars[2], this.field.getCharacterCardAt(2));
+        assertEquals(2, this.field.getCharCardList().size());
+    }
+
+    @Test
+    public void testUsedSlotIsNotReplaced() {
+        this.field = new Field(5);
+        CharacterCard card1 = new CharacterCard(0, "sample name", Element.AIR, "lorem ipsum", "imgfile", 99, 100, 101);
+        CharacterCard card2 = new CharacterCard(1, "sample name", Element.AIR, "lorem ipsum", "imgfile", 99, 100, 101);
+        CharacterCardInField char1 = new CharacterCardInField(card1, CharacterState.ATTACK, 1,2);
+        CharacterCardInField char2 = new CharacterCardInField(card2, CharacterState.ATTACK, 1,2);
+
+        this.field.addCharacterCard(char1);
 
-}
\ No newline at end of file
+        assertThrows(IllegalArgumentException.class, () -> this.field.addCharacterCard(char2));
+        assertEquals(1, this.field.getCharCardList().size());
+        assertEquals(char1, this.field.getCharacterCardAt(2));
+        assertFalse(this.field.isCharacterSlotFree(2));
+        assertFalse(this.field.isCharacterSlotFree(5));
+    }
+
+    @Test
+    public void testRemoveSkillCardByID() {
+        this.field = new Field(5);
+        SkillCard card = new SkillAuraCard(7, "sample name", Element.WATER, "lorem ipsum",
+                "imgfile", 99, 100, 101);
+
+        this.field.addSkillCard(card,3,1);
+
+        assertEquals(card, this.field.getSkillCardAt(3).getCard());
+        assertEquals(true, this.field.removeSkillCardByID(7));
+        assertEquals(false, this.field.removeSkillCardByID(7));
+        assertEquals(0, this.field.getSkillCardList().size());
+    }
+
+    @Test
+    public void testHashFollowsTheCards() {
+        this.field = new Field(5);
+        CharacterCard card = new CharacterCard(0, "sample name", Element.AIR, "lorem ipsum", "imgfile", 99, 100, 101);
+        SkillCard skill = new SkillAuraCard(1, "sample name", Element.WATER, "lorem ipsum", "imgfile", 99, 100, 101);
+        CharacterCardInField character = new CharacterCardInField(card, CharacterState.ATTACK, 1, 0);
+        this.field.addCharacterCard(character);
+        this.field.addSkillCard(skill, 2, 1);
+        long hash = this.field.getHash();
+
+        this.field.switchPosition(character);
+        this.field.setHasAttacked(character, true);
+        this.field.setPairedCharacter(this.field.getSkillCardAt(2), character);
+        assertNotEquals(hash, this.field.getHash());
+
+        // a field made with the same cards in the same state has the same hash
+        Field other = new Field(5);
+        CharacterCardInField copy = new CharacterCardInField(card, CharacterState.DEFENSE, 1, 0);
+        copy.setHasAttacked(true);
+        other.addCharacterCard(copy);
+        other.addSkillCard(skill, 2, 1);
+        other.setPairedCharacter(other.getSkillCardAt(2), copy);
+        assertEquals(other.getHash(), this.field.getHash());
+
+        this.field.refresh();
+        this.field.switchPosition(character);
+        this.field.setPairedCharacter(this.field.getSkillCardAt(2), null);
+        assertEquals(hash, this.field.getHash());
+    }
+}
@@ -6,6 +6,8 @@ import com.avatarduel.model.type.Element;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class HandTest {
 
@@ -30,4 +32,23 @@ class HandTest {
         assertEquals(10, hand.size());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testGetCardByID() {
+        hand = new Hand(10);
+        Card first = new Card(1, "first", Element.AIR, "lorem ipsum", "imgfile");
+        Card second = new Card(2, "second", Element.FIRE, "lorem ipsum", "imgfile");
+        hand.add(first);
+        hand.add(second);
+
+        assertSame(first, hand.getCardByID(1));
+        assertSame(second, hand.getCardByID(2));
+
+        hand.remove(first);
+        assertNull(hand.getCardByID(1));
+        assertSame(second, hand.getCardByID(2));
+
+        hand.clear();
+        assertNull(hand.getCardByID(2));
+    }
+
+}
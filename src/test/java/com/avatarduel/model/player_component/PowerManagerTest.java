@@ -3,7 +3,7 @@ package com.avatarduel.model.player_component;
 import com.avatarduel.model.type.Element;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class PowerManagerTest {
 
@@ -58,6 +58,56 @@ class PowerManagerTest {
 
     }
 
+    @Test
+    public void testReduceOnlyWithEnoughPower() {
+        this.manager = new PowerManager();
+        manager.add(Element.FIRE, 3);
+
+        assertTrue(manager.canAfford(Element.FIRE, 3));
+        assertFalse(manager.canAfford(Element.WATER, 1));
+        assertFalse(manager.reduce(Element.FIRE, 4));
+        assertTrue(manager.reduce(Element.FIRE, 2));
+        assertEquals(1, manager.getCurrent(Element.FIRE));
+        assertEquals(3, manager.getTotal(Element.FIRE));
 
+        manager.refresh();
+        assertEquals(3, manager.getCurrent(Element.FIRE));
+    }
 
-}
\ No newline at end of file
+    @Test
+    public void testSnapshot() {
+        this.manager = new PowerManager();
+        manager.add(Element.AIR, 2);
+        int[] buffer = manager.snapshot(null);
+
+        manager.add(Element.AIR, 5);
+        manager.reduce(Element.AIR, 1);
+        assertSame(buffer, manager.snapshot(buffer));
+        assertEquals(6, buffer[Element.AIR.ordinal()]);
+        assertEquals(7, buffer[PowerManager.ELEMENT_COUNT + Element.AIR.ordinal()]);
+
+        PowerManager copy = new PowerManager();
+        copy.restore(buffer);
+        assertEquals(6, copy.getCurrent_air());
+        assertEquals(7, copy.getTotal_air());
+    }
+
+    @Test
+    public void testSnapshotAtOffset() {
+        this.manager = new PowerManager();
+        manager.add(Element.WATER, 4);
+        manager.reduce(Element.WATER, 3);
+        int[] buffer = new int[PowerManager.SNAPSHOT_SIZE + 3];
+        manager.snapshot(buffer, 3);
+
+        assertEquals(0, buffer[0]);
+        assertEquals(1, buffer[3 + Element.WATER.ordinal()]);
+        assertEquals(4, buffer[3 + PowerManager.ELEMENT_COUNT + Element.WATER.ordinal()]);
+
+        PowerManager copy = new PowerManager();
+        copy.restore(buffer, 3);
+        assertEquals(1, copy.getCurrent(Element.WATER));
+        assertEquals(4, copy.getTotal(Element.WATER));
+        assertEquals(manager.getHash(), copy.getHash());
+    }
+}
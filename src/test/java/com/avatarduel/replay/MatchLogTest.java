@@ -0,0 +1,71 @@
+package com.avatarduel.replay;
+
+import com.avatarduel.event.EventRecord;
+import com.avatarduel.event.EventType;
+import com.avatarduel.event.IEvent;
+import com.avatarduel.event.MoveGenerator;
+import com.avatarduel.exception.InvalidOperationException;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.type.Phase;
+import com.avatarduel.model.type.PlayerType;
+import com.avatarduel.simulation.MatchSimulator;
+import com.avatarduel.simulation.RandomPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchLogTest {
+
+    @Test
+    public void testAppendAndRead() {
+        MatchLog log = new MatchLog(5);
+        EventRecord summon = new EventRecord(EventType.SUMMON, PlayerType.B, 203, 1, 4);
+        EventRecord endTurn = new EventRecord(EventType.END_TURN, null, 0, 0, 0);
+        for (int turn = 1; turn <= 100; turn++) {
+            log.append(turn, Phase.MAIN, PlayerType.B, summon);
+            log.append(turn, Phase.BATTLE, PlayerType.B, endTurn);
+        }
+
+        assertEquals(5, log.getSeed());
+        assertEquals(200, log.size());
+        assertEquals(summon, log.getRecord(0));
+        assertEquals(endTurn, log.getRecord(199));
+        assertEquals(Phase.BATTLE, log.getPhase(1));
+        assertEquals(PlayerType.B, log.getPlayer(1));
+        assertEquals(50, log.getTurn(99));
+        assertEquals(20, log.firstIndexOfTurn(11));
+        assertEquals(200, log.firstIndexOfTurn(101));
+        assertThrows(IndexOutOfBoundsException.class, () -> log.getRecord(200));
+    }
+
+    @Test
+    public void testRecordMakesSameEvent() throws InvalidOperationException {
+        Game game = new Game(3);
+        Random random = new Random(3);
+        for (int i = 0; i < 200 && !game.checkGameOver() && game.getPlayerByType(game.getCurrentPlayer()).getDeck().size() > 1; i++) {
+            List<IEvent> moves = MoveGenerator.generate(game);
+            for (IEvent move : moves) {
+                EventRecord record = move.toRecord();
+                assertEquals(record, record.toEvent().toRecord());
+                assertEquals(move.getClass(), record.toEvent().getClass());
+            }
+            moves.get(random.nextInt(moves.size())).execute(game);
+        }
+    }
+
+    @Test
+    public void testGameLogsOnlyExecutedEvents() {
+        Game game = new Game(8);
+        MatchLog log = new MatchLog(game.getSeed());
+        game.setMatchLog(log);
+        new MatchSimulator(game, new RandomPolicy(1), new RandomPolicy(2)).play();
+
+        assertTrue(log.size() > 0);
+        assertEquals(EventType.DRAW, log.getRecord(0).getType());
+        assertEquals(1, log.getTurn(0));
+        assertEquals(PlayerType.A, log.getPlayer(0));
+    }
+}
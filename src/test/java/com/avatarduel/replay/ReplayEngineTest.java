@@ -0,0 +1,51 @@
+package com.avatarduel.replay;
+
+import com.avatarduel.event.EventRecord;
+import com.avatarduel.event.EventType;
+import com.avatarduel.model.Game;
+import com.avatarduel.model.GameState;
+import com.avatarduel.model.player_component.DeckList;
+import com.avatarduel.model.type.Phase;
+import com.avatarduel.model.type.PlayerType;
+import com.avatarduel.simulation.MatchSimulator;
+import com.avatarduel.simulation.RandomPolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayEngineTest {
+
+    @Test
+    public void testReplayWholeMatch() {
+        Game game = new Game(21);
+        game.setMatchLog(new MatchLog(game.getSeed()));
+        new MatchSimulator(game, new RandomPolicy(4), new RandomPolicy(5)).play();
+
+        Game replayed = new ReplayEngine(game.getMatchLog()).replay();
+        assertEquals(GameState.of(game), GameState.of(replayed));
+    }
+
+    @Test
+    public void testSeekTurn() {
+        DeckList water = DeckList.load("water_tribe.txt");
+        DeckList fire = DeckList.load("fire_nation.txt");
+        Game game = new Game(22, water, fire);
+        game.setMatchLog(new MatchLog(game.getSeed()));
+        new MatchSimulator(game, new RandomPolicy(6), new RandomPolicy(7)).play();
+
+        ReplayEngine engine = new ReplayEngine(game.getMatchLog(), water, fire);
+        Game turn5 = engine.seekTurn(5);
+        assertEquals(5, turn5.getCurrentTurn());
+        assertEquals(Phase.DRAW, turn5.getCurrentPhase().getPhase());
+        assertEquals(PlayerType.A, turn5.getCurrentPlayer());
+        assertEquals(GameState.of(game), GameState.of(engine.replay()));
+    }
+
+    @Test
+    public void testWrongLog() {
+        MatchLog log = new MatchLog(1);
+        log.append(1, Phase.DRAW, PlayerType.A, new EventRecord(EventType.SUMMON, PlayerType.A, 101, 0, 0));
+
+        assertThrows(IllegalStateException.class, () -> new ReplayEngine(log).replay());
+    }
+}
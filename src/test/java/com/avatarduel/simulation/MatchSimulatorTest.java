@@ -0,0 +1,34 @@
+package com.avatarduel.simulation;
+
+import com.avatarduel.event.NextPhaseEvent;
+import com.avatarduel.model.type.PlayerType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchSimulatorTest {
+
+    @Test
+    public void testRandomMatchEnds() {
+        MatchSimulator simulator = new MatchSimulator(new RandomPolicy(1), new RandomPolicy(2));
+        MatchResult result = simulator.play();
+
+        assertTrue(result.getTurns() > 1);
+        assertTrue(result.getActions() > 0);
+        if (!result.isDraw()) {
+            PlayerType loser = (result.getWinner() == PlayerType.A) ? PlayerType.B : PlayerType.A;
+            assertTrue(simulator.getGame().getPlayerByType(loser).checkLose()
+                    || simulator.getGame().getPlayerByType(loser).getDeck().size() <= 0);
+        }
+    }
+
+    @Test
+    public void testScriptedMatchDecksOut() {
+        MatchSimulator simulator = new MatchSimulator(new ScriptedPolicy(new NextPhaseEvent()), new ScriptedPolicy());
+        MatchResult result = simulator.play();
+
+        // nobody attacks, so the first player runs out of cards first
+        assertEquals(PlayerType.B, result.getWinner());
+        assertEquals(0, result.getRejectedActions());
+    }
+}
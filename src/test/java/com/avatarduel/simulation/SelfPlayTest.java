@@ -0,0 +1,59 @@
+package com.avatarduel.simulation;
+
+import com.avatarduel.ai.FeatureEncoder;
+import com.avatarduel.dao.FeatureShardReader;
+import com.avatarduel.model.player_component.DeckComposition;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SelfPlayTest {
+
+    @Test
+    public void testWritesEveryPosition() throws IOException {
+        Path directory = Files.createTempDirectory("selfplay");
+        try {
+            SelfPlay selfPlay = new SelfPlay("random", DeckComposition.STANDARD, DeckComposition.STANDARD);
+            long positions = selfPlay.run(4, 5, 2, directory, 1000);
+
+            List<Path> shards;
+            try (Stream<Path> files = Files.list(directory)) {
+                shards = files.sorted().collect(Collectors.toList());
+            }
+            assertTrue(shards.size() >= 2);
+            long read = 0;
+            for (Path shard : shards) {
+                try (FeatureShardReader reader = new FeatureShardReader(shard)) {
+                    assertEquals(FeatureEncoder.SIZE, reader.getFeatureCount());
+                    while (reader.next()) {
+                        assertTrue(Math.abs(reader.getResult()) <= 1);
+                        assertTrue(reader.getTurnsLeft() >= 0);
+                        read++;
+                    }
+                }
+            }
+            assertTrue(positions > 4);
+            assertEquals(positions, read);
+            assertEquals(positions, selfPlay.run(4, 5, 2, directory, 1000));
+        } finally {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void testUnknownPolicy() {
+        assertThrows(IllegalArgumentException.class, () -> new SelfPlay("chess", DeckComposition.STANDARD, DeckComposition.STANDARD));
+    }
+}
@@ -0,0 +1,63 @@
+package com.avatarduel.simulation;
+
+import com.avatarduel.dao.CardCatalog;
+import com.avatarduel.model.type.Element;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+
+    @Test
+    public void testStatisticsDoNotDependOnThreads() {
+        Tournament tournament = new Tournament("random", EnumSet.allOf(Element.class), "random", EnumSet.allOf(Element.class));
+        StringWriter out = new StringWriter();
+        CardStatistics single = tournament.run(8, 7, 1, new TournamentWriter(new StringWriter(), TournamentWriter.Format.CSV));
+        CardStatistics parallel = tournament.run(8, 7, 3, new TournamentWriter(out, TournamentWriter.Format.CSV));
+
+        assertEquals(8, parallel.getMatches());
+        assertEquals(9, out.toString().split("\n").length);
+        for (int i = 0; i < CardCatalog.getInstance().getAllCard().size(); i++) {
+            assertEquals(single.getGames(i), parallel.getGames(i));
+            assertEquals(single.getWins(i), parallel.getWins(i));
+            assertEquals(single.getDrawnGames(i), parallel.getDrawnGames(i));
+            assertTrue(parallel.getDrawnWins(i) <= parallel.getDrawnGames(i));
+        }
+    }
+
+    @Test
+    public void testElementDecks() throws IOException {
+        Tournament tournament = new Tournament("random", EnumSet.of(Element.FIRE), "random", EnumSet.of(Element.WATER, Element.AIR));
+        CardStatistics stats = tournament.run(2, 3, 1, null);
+
+        // 60 cards in both decks of every match
+        assertEquals(2 * 60, stats.getElementCount(Element.FIRE)[0]);
+        assertEquals(2 * 60, stats.getElementCount(Element.WATER)[0] + stats.getElementCount(Element.AIR)[0]);
+        assertEquals(0, stats.getElementCount(Element.EARTH)[0]);
+
+        StringWriter cards = new StringWriter();
+        stats.writeCardCsv(cards);
+        assertTrue(cards.toString().startsWith("type,id,name,element"));
+        assertFalse(cards.toString().contains(",EARTH,"));
+    }
+
+    @Test
+    public void testJsonLines() {
+        StringWriter out = new StringWriter();
+        TournamentWriter writer = new TournamentWriter(out, TournamentWriter.Format.JSON);
+        writer.write(3, 11, "random", "mcts", new MatchResult(null, 200, 10, 1));
+
+        assertEquals("{\"match\":3,\"seed\":11,\"policyA\":\"random\",\"policyB\":\"mcts\",\"winner\":null,\"turns\":200,\"actions\":10,\"rejectedActions\":1}\n",
+                out.toString());
+    }
+
+    @Test
+    public void testUnknownPolicy() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Tournament("nobody", EnumSet.allOf(Element.class), "random", EnumSet.allOf(Element.class)));
+    }
+}